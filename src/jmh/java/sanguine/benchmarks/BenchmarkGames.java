@@ -0,0 +1,52 @@
+package sanguine.benchmarks;
+
+import java.io.File;
+import sanguine.model.BasicSanguine;
+import sanguine.model.BitboardSanguine;
+import sanguine.model.SanguineModel;
+
+/**
+ * This class builds the games every benchmark is run on, so all benchmarks share the same setups.
+ *
+ * <p>A setup is written as "deck:rowsxcols", for example "35CardDeck1:5x7". Decks are read from
+ * the docs folder, so benchmarks must be run from the root of the project. Each deck is only
+ * paired with boards it has enough cards to fill.
+ */
+final class BenchmarkGames {
+  static final int HAND_SIZE = 5;
+
+  private BenchmarkGames() {
+  }
+
+  /**
+   * Returns the deck file of the given setup.
+   *
+   * @param setup the setup, as "deck:rowsxcols"
+   * @return the deck file
+   */
+  static File deckFile(String setup) {
+    return new File("docs" + File.separator + setup.substring(0, setup.indexOf(':')));
+  }
+
+  /**
+   * Returns a new game of the given model ("BasicSanguine" or "BitboardSanguine"), started with
+   * the given setup. Decks are not shuffled, so every run plays the same game.
+   *
+   * @param modelName the name of the model class
+   * @param setup     the setup, as "deck:rowsxcols"
+   * @return the started game
+   */
+  static SanguineModel startedGame(String modelName, String setup) {
+    SanguineModel model = switch (modelName) {
+      case "BasicSanguine" -> new BasicSanguine();
+      case "BitboardSanguine" -> new BitboardSanguine();
+      default -> throw new IllegalArgumentException("Unknown model: " + modelName);
+    };
+    String board = setup.substring(setup.indexOf(':') + 1);
+    int rows = Integer.parseInt(board.substring(0, board.indexOf('x')));
+    int cols = Integer.parseInt(board.substring(board.indexOf('x') + 1));
+    File deck = deckFile(setup);
+    model.startGame(rows, cols, HAND_SIZE, false, deck, deck);
+    return model;
+  }
+}
@@ -0,0 +1,103 @@
+package sanguine.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import sanguine.model.Card;
+import sanguine.model.Cell;
+import sanguine.model.enums.Pawn;
+import sanguine.model.enums.Player;
+
+/**
+ * Benchmarks for reading a single Cell, with each kind of contents a Cell can hold.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CellBenchmarks {
+  private Cell empty;
+  private Cell pawns;
+  private Cell card;
+
+  /**
+   * Builds one Cell of each kind.
+   */
+  @Setup(Level.Trial)
+  public void setUpCells() {
+    empty = new Cell();
+    pawns = new Cell(Pawn.RED);
+    pawns.addPawn(Player.RED);
+    pawns.addPawn(Player.RED);
+    card = new Cell();
+    card.addCard(Card.builder().name("Benchmark").cost(1).value(1)
+            .influenceGrid(new String[]{"XXXXX", "XXIXX", "XICIX", "XXIXX", "XXXXX"}).build(),
+            Player.BLUE);
+  }
+
+  /**
+   * Reads an empty Cell.
+   *
+   * @return the contents
+   */
+  @Benchmark
+  public Object getContentsEmpty() {
+    return empty.getContents();
+  }
+
+  /**
+   * Reads a Cell holding three Pawns.
+   *
+   * @return the contents
+   */
+  @Benchmark
+  public Object getContentsPawns() {
+    return pawns.getContents();
+  }
+
+  /**
+   * Reads a Cell holding a Card.
+   *
+   * @return the contents
+   */
+  @Benchmark
+  public Object getContentsCard() {
+    return card.getContents();
+  }
+
+  /**
+   * Reads a Cell holding three Pawns through its primitive accessors.
+   *
+   * @param blackhole keeps the work from being optimized away
+   */
+  @Benchmark
+  public void kindPawns(Blackhole blackhole) {
+    blackhole.consume(pawns.kind());
+    blackhole.consume(pawns.pawnCount());
+    blackhole.consume(pawns.owner());
+  }
+
+  /**
+   * Reads a Cell holding a Card through its primitive accessors.
+   *
+   * @param blackhole keeps the work from being optimized away
+   */
+  @Benchmark
+  public void kindCard(Blackhole blackhole) {
+    blackhole.consume(card.kind());
+    blackhole.consume(card.cardOrNull());
+    blackhole.consume(card.owner());
+  }
+}
@@ -0,0 +1,95 @@
+package sanguine.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sanguine.controller.deck.reader.BasicDeckReader;
+import sanguine.controller.deck.reader.BinaryDeckConverter;
+import sanguine.controller.deck.reader.DeckCache;
+import sanguine.controller.deck.reader.MappedDeckReader;
+import sanguine.controller.deck.reader.StreamingDeckReader;
+import sanguine.model.Card;
+
+/**
+ * Benchmarks for reading a deck file into Cards, for each deck in the docs folder, with each
+ * deck reader.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckReaderBenchmarks {
+  @Param({"15CardDeck1", "20CardDeck1", "35CardDeck1"})
+  public String deck;
+
+  private File file;
+  private File compiledFile;
+
+  /**
+   * Finds the deck file, and compiles it into a temporary binary deck.
+   *
+   * @throws IOException if the temporary file cannot be made
+   */
+  @Setup(Level.Trial)
+  public void setUpFile() throws IOException {
+    file = new File("docs" + File.separator + deck);
+    compiledFile = File.createTempFile(deck, ".sdeck");
+    compiledFile.deleteOnExit();
+    BinaryDeckConverter.convert(file, compiledFile);
+  }
+
+  /**
+   * Reads the whole deck with BasicDeckReader.
+   *
+   * @return the Cards of the deck
+   */
+  @Benchmark
+  public List<Card> readDeck() {
+    return new BasicDeckReader(file).readDeck();
+  }
+
+  /**
+   * Reads the whole deck with StreamingDeckReader.
+   *
+   * @return the Cards of the deck
+   */
+  @Benchmark
+  public List<Card> readDeckStreaming() {
+    return new StreamingDeckReader(file).readDeck();
+  }
+
+  /**
+   * Maps the compiled deck and builds all of its Cards.
+   *
+   * @return the Cards of the deck
+   */
+  @Benchmark
+  public List<Card> readDeckMapped() {
+    return new MappedDeckReader(compiledFile).readDeck();
+  }
+
+  /**
+   * Gets the deck from the shared DeckCache, the way the models do (only the first call reads it).
+   *
+   * @return the Cards of the deck
+   */
+  @Benchmark
+  public List<Card> readDeckCached() {
+    return DeckCache.shared().deck(file);
+  }
+}
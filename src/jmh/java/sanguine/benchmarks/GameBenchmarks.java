@@ -0,0 +1,50 @@
+package sanguine.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sanguine.model.SanguineModel;
+import sanguine.strategy.PlayFirstPossibleCardOrPass;
+import sanguine.strategy.SanguineStrategy;
+
+/**
+ * Benchmark for a whole game, from startGame() (including reading both decks) until both players
+ * pass, with both players using the PlayFirstPossibleCardOrPass strategy.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmarks {
+  @Param({"BasicSanguine", "BitboardSanguine"})
+  public String model;
+
+  @Param({"15CardDeck1:3x5", "20CardDeck1:4x5", "35CardDeck1:5x7"})
+  public String setup;
+
+  private final SanguineStrategy greedy = new PlayFirstPossibleCardOrPass();
+
+  /**
+   * Plays a whole greedy game.
+   *
+   * @return the final score
+   */
+  @Benchmark
+  public int[] fullGreedyGame() {
+    SanguineModel game = BenchmarkGames.startedGame(model, setup);
+    while (!game.isGameOver()) {
+      greedy.playTurn(game);
+    }
+    return game.getScore();
+  }
+}
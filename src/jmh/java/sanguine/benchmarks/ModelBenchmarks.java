@@ -0,0 +1,157 @@
+package sanguine.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import sanguine.model.BoardView;
+import sanguine.model.Cell;
+import sanguine.model.Move;
+import sanguine.model.SanguineModel;
+import sanguine.strategy.PlayFirstPossibleCardOrPass;
+
+/**
+ * Benchmarks for the observers of a game, and for the moves searches make (applyMove() followed
+ * by undoMove(), which leaves the game as it was, so no copy is needed between calls).
+ * Every benchmark runs on the same mid game position.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBenchmarks {
+  // How many turns are played before measuring, so the board has cards and pawns on it
+  private static final int OPENING_TURNS = 4;
+
+  @Param({"BasicSanguine", "BitboardSanguine"})
+  public String model;
+
+  @Param({"15CardDeck1:3x5", "20CardDeck1:4x5", "35CardDeck1:5x7"})
+  public String setup;
+
+  private SanguineModel game;
+  private Move move;
+  // A copy of the position's board, made once (getBoard() copies every Cell on each call)
+  private Cell[][] cells;
+
+  /**
+   * Plays the opening turns and picks the card to play.
+   */
+  @Setup(Level.Trial)
+  public void setUpPosition() {
+    game = BenchmarkGames.startedGame(model, setup);
+    PlayFirstPossibleCardOrPass greedy = new PlayFirstPossibleCardOrPass();
+    for (int turn = 0; turn < OPENING_TURNS; turn++) {
+      greedy.playTurn(game);
+    }
+    List<Move> moves = game.legalMoves();
+    move = moves.isEmpty() ? Move.pass() : moves.getFirst();
+    cells = game.getBoard();
+  }
+
+  /**
+   * Reads the score of both players.
+   *
+   * @return the score
+   */
+  @Benchmark
+  public int[] getScore() {
+    return game.getScore();
+  }
+
+  /**
+   * Reads both players' row scores.
+   *
+   * @param blackhole keeps the work from being optimized away
+   */
+  @Benchmark
+  public void getRowScores(Blackhole blackhole) {
+    blackhole.consume(game.getRedRowScores());
+    blackhole.consume(game.getBlueRowScores());
+  }
+
+  /**
+   * Copies the board and reads the contents of every cell, the way views used to walk the board.
+   *
+   * @param blackhole keeps the work from being optimized away
+   */
+  @Benchmark
+  public void getBoardContents(Blackhole blackhole) {
+    Cell[][] board = game.getBoard();
+    for (Cell[] row : board) {
+      for (Cell cell : row) {
+        blackhole.consume(cell.getContents());
+      }
+    }
+  }
+
+  /**
+   * Reads every Cell of a board copied before measuring through the Cell's primitive accessors,
+   * which don't allocate. No board is copied during the call; compare with getBoardView(), which
+   * makes the same reads on the live game.
+   *
+   * @param blackhole keeps the work from being optimized away
+   */
+  @Benchmark
+  public void getBoardKinds(Blackhole blackhole) {
+    for (Cell[] row : cells) {
+      for (Cell cell : row) {
+        blackhole.consume(cell.kind());
+        blackhole.consume(cell.pawnCount());
+        blackhole.consume(cell.owner());
+      }
+    }
+  }
+
+  /**
+   * Reads every cell through the board view, which copies nothing.
+   *
+   * @param blackhole keeps the work from being optimized away
+   */
+  @Benchmark
+  public void getBoardView(Blackhole blackhole) {
+    BoardView board = game.getBoardView();
+    for (int row = 0; row < board.numRows(); row++) {
+      for (int col = 0; col < board.numCols(); col++) {
+        blackhole.consume(board.kind(row, col));
+        blackhole.consume(board.pawnCount(row, col));
+        blackhole.consume(board.owner(row, col));
+      }
+    }
+  }
+
+  /**
+   * Lists every legal placement of the player to move.
+   *
+   * @return the legal placements
+   */
+  @Benchmark
+  public List<Move> legalMoves() {
+    return game.legalMoves();
+  }
+
+  /**
+   * Makes a move, then takes it back.
+   *
+   * @return the game, so the work is not optimized away
+   */
+  @Benchmark
+  public SanguineModel applyAndUndoMove() {
+    game.applyMove(move);
+    game.undoMove();
+    return game;
+  }
+}
@@ -0,0 +1,128 @@
+package sanguine.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sanguine.model.Move;
+import sanguine.model.SanguineModel;
+import sanguine.strategy.PlayFirstPossibleCardOrPass;
+
+/**
+ * Benchmarks for the moves that change a game: playCard() and passTurn().
+ *
+ * <p>Both moves change the game they are made on, so each one is made on its own fresh copy of
+ * the same mid game position. The copies are made before each iteration, outside of the timing,
+ * and an iteration is a single shot of exactly GAMES calls, one move on each copy; the shot
+ * counts as GAMES operations, so the score is the time of one move. Nothing but the move is
+ * timed, and no undo bookkeeping is done, so -prof gc reports what placing (or passing) itself
+ * allocates, once takeGame()'s share (the copies themselves) is taken off.
+ *
+ * <p>The played card is the legal move that influences the most cells, so playCard() also
+ * measures the card's influence being spread onto the board (distributeCardInfluence() in
+ * BasicSanguine, which is private).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 20, batchSize = PlayCardBenchmarks.GAMES)
+@Measurement(iterations = 40, batchSize = PlayCardBenchmarks.GAMES)
+@Fork(1)
+public class PlayCardBenchmarks {
+  // How many turns are played before measuring, so the board has cards and pawns on it
+  private static final int OPENING_TURNS = 4;
+  // How many fresh games each iteration makes its moves on (one move per game)
+  static final int GAMES = 2048;
+
+  @Param({"BasicSanguine", "BitboardSanguine"})
+  public String model;
+
+  @Param({"15CardDeck1:3x5", "20CardDeck1:4x5", "35CardDeck1:5x7"})
+  public String setup;
+
+  private SanguineModel position;
+  private Move move;
+  private final SanguineModel[] games = new SanguineModel[GAMES];
+  // Index in games of the next unused copy
+  private int next;
+
+  /**
+   * Plays the opening turns and picks the card to play.
+   */
+  @Setup(Level.Trial)
+  public void setUpPosition() {
+    position = BenchmarkGames.startedGame(model, setup);
+    PlayFirstPossibleCardOrPass greedy = new PlayFirstPossibleCardOrPass();
+    for (int turn = 0; turn < OPENING_TURNS; turn++) {
+      greedy.playTurn(position);
+    }
+
+    move = null;
+    for (Move legal : position.legalMoves()) {
+      if (move == null || legal.card().influenceCount() > move.card().influenceCount()) {
+        move = legal;
+      }
+    }
+    if (move == null) {
+      throw new IllegalStateException("Setup " + setup + " has no legal move to measure");
+    }
+  }
+
+  /**
+   * Makes a fresh copy of the position for every move of the iteration.
+   */
+  @Setup(Level.Iteration)
+  public void copyPositions() {
+    for (int index = 0; index < GAMES; index++) {
+      games[index] = position.copy();
+    }
+    next = 0;
+  }
+
+  /**
+   * Places a card (and spreads its influence) on the next fresh game.
+   *
+   * @return the game, so the work is not optimized away
+   */
+  @Benchmark
+  @OperationsPerInvocation(GAMES)
+  public SanguineModel playCard() {
+    SanguineModel game = games[next++];
+    game.playCard(move.card(), move.row(), move.col());
+    return game;
+  }
+
+  /**
+   * Passes the turn (and draws the other player's card) on the next fresh game.
+   *
+   * @return the game, so the work is not optimized away
+   */
+  @Benchmark
+  @OperationsPerInvocation(GAMES)
+  public SanguineModel passTurn() {
+    SanguineModel game = games[next++];
+    game.passTurn();
+    return game;
+  }
+
+  /**
+   * Takes the next fresh game without making a move: the baseline to take off the other two.
+   *
+   * @return the game, so the work is not optimized away
+   */
+  @Benchmark
+  @OperationsPerInvocation(GAMES)
+  public SanguineModel takeGame() {
+    return games[next++];
+  }
+}
@@ -12,6 +12,8 @@ import sanguine.model.Card;
 import sanguine.model.ReadOnlySanguineModel;
 import sanguine.model.SanguineModel;
 import sanguine.model.enums.Player;
+import sanguine.strategy.AlphaBetaSearchWithTimeLimit;
+import sanguine.strategy.ParallelMonteCarloTreeSearch;
 import sanguine.strategy.PlayFirstPossibleCardOrPass;
 import sanguine.strategy.PlayHighestValuePossibleCardOrPass;
 import sanguine.view.graphical.view.SanguineView;
@@ -24,12 +26,18 @@ import sanguine.view.textual.view.SanguineTextualView;
  * Allows for the playing of a game of Sanguine.
  *
  * <p>At least 6 arguments are needed for this main method to run (more detail in constructor).
- * In order for arguments [4] & [5] to be valid, they must be "strategy1", "strategy2", or "human".
+ * In order for arguments [4] & [5] to be valid, they must be "strategy1", "strategy2", "strategy3",
+ * "strategy4", or "human".
  * "strategy1" represents a Bot using the PlayFirstPossibleCardOrPass Strategy
  * "strategy2" represents a Bot using the PlayHighestValuePossibleCardOrPass Strategy
+ * "strategy3" represents a Bot using the AlphaBetaSearchWithTimeLimit Strategy
+ * "strategy4" represents a Bot using the ParallelMonteCarloTreeSearch Strategy
  * "human" represents a Human Player, who will select moves from the GUI manually
  */
 public class Sanguine {
+  // How long (in milliseconds) a searching Bot may think each turn
+  private static final long SEARCH_TIME_LIMIT_MILLIS = 1000;
+
   /**
    * Main method for Sanguine.
    * Runs the game appropriately
@@ -67,6 +75,12 @@ public class Sanguine {
               redPlayer = new SanguinePlayerImpl(new PlayFirstPossibleCardOrPass());
       case "strategy2" ->
               redPlayer = new SanguinePlayerImpl(new PlayHighestValuePossibleCardOrPass());
+      case "strategy3" ->
+              redPlayer = new SanguinePlayerImpl(
+                      new AlphaBetaSearchWithTimeLimit(SEARCH_TIME_LIMIT_MILLIS));
+      case "strategy4" ->
+              redPlayer = new SanguinePlayerImpl(
+                      new ParallelMonteCarloTreeSearch(SEARCH_TIME_LIMIT_MILLIS));
       default -> {
         System.out.println("Invalid Player!");
         return;
@@ -79,6 +93,12 @@ public class Sanguine {
               bluePlayer = new SanguinePlayerImpl(new PlayFirstPossibleCardOrPass());
       case "strategy2" ->
               bluePlayer = new SanguinePlayerImpl(new PlayHighestValuePossibleCardOrPass());
+      case "strategy3" ->
+              bluePlayer = new SanguinePlayerImpl(
+                      new AlphaBetaSearchWithTimeLimit(SEARCH_TIME_LIMIT_MILLIS));
+      case "strategy4" ->
+              bluePlayer = new SanguinePlayerImpl(
+                      new ParallelMonteCarloTreeSearch(SEARCH_TIME_LIMIT_MILLIS));
       default -> {
         System.out.println("Invalid Player!");
         return;
@@ -137,15 +157,13 @@ public class Sanguine {
     // Each Card
     for (Card card : hand) {
       // Each Row
-      for (int row = 0; row < model.getBoard().length && !played; row++) {
+      for (int row = 0; row < model.getBoardView().numRows() && !played; row++) {
         // Each Column
-        for (int col = 0; col < model.getBoard()[0].length && !played; col++) {
-          // Keeping try to make a successful play
-          try {
+        for (int col = 0; col < model.getBoardView().numCols() && !played; col++) {
+          // Keeps checking cells until a successful play can be made
+          if (model.canPlay(card, row, col)) {
             model.playCard(card, row, col);
             played = true;
-          } catch (IllegalStateException e) {
-            // If a play is invalid, try the next play
           }
         }
       }
@@ -2,8 +2,10 @@ package sanguine.controller;
 
 import java.io.File;
 import java.util.List;
+import java.util.concurrent.Future;
 import sanguine.controller.player.SanguinePlayer;
 import sanguine.model.Card;
+import sanguine.model.Move;
 import sanguine.model.SanguineModel;
 import sanguine.model.enums.Player;
 import sanguine.view.graphical.view.SanguineView;
@@ -20,6 +22,10 @@ import sanguine.view.graphical.view.SanguineView;
  * it must Override playGame() and add the model's startGame() to its implementation.
  *   - Only one subclass should Override playGame(), as starting the game from the model multiple
  *     times will cause crashes, weird behaviors, and is unnecessary.
+ *
+ * <p>A Bot's turn is run by a BotTurnRunner. Unless another runner is given, the Bot thinks on a
+ * virtual thread (on a copy of the game), and its move is made on the Swing Event Dispatch
+ * Thread, so a Bot that thinks for seconds never freezes the GUI.
  */
 public class AbstractPlayerController implements SanguineControllerInterface, FeaturesListener,
         TurnListener {
@@ -28,6 +34,14 @@ public class AbstractPlayerController implements SanguineControllerInterface, Fe
   protected final SanguineView view;
   protected final SanguinePlayer player;
   protected final Player thisPlayerColor;
+  private final BotTurnRunner botTurns;
+  // The Bot's turn that is still being thought about (if any), and which turn it was started on.
+  // Volatile since turns start on whichever thread makes a move, while the Bot's move is made on
+  // the runner's applier (the EDT by default)
+  private volatile Future<?> pendingBotTurn;
+  private volatile int turnsStarted;
+  // The last turn whose Bot turn was cancelled (its move is ignored if it still arrives)
+  private volatile int cancelledTurn = -1;
 
   protected int currentRow;
   protected int currentColumn;
@@ -45,8 +59,26 @@ public class AbstractPlayerController implements SanguineControllerInterface, Fe
    */
   protected AbstractPlayerController(SanguineModel model, SanguineView view,
                               SanguinePlayer player, Player thisPlayerColor) {
+    this(model, view, player, thisPlayerColor,
+            BotTurnRunner.onVirtualThreads(BotTurnRunner.DEFAULT_TIMEOUT_MILLIS));
+  }
 
-    if (model == null || view == null || thisPlayerColor == null) {
+  /**
+   * Represents an instance of the abstract player controller, whose Bot's turns are run by the
+   * given runner.
+   * This constructor is PROTECTED, meanings only subclasses can access it.
+   *
+   * @param model a Sanguine model
+   * @param view a Sanguine view
+   * @param player a Sanguine player (either a SanguinePlayer (AI Bot) or null (Human))
+   * @param thisPlayerColor the Color of the Player using this controller (should be RED or BLUE)
+   * @param botTurns runs the Bot's turns
+   */
+  protected AbstractPlayerController(SanguineModel model, SanguineView view,
+                                     SanguinePlayer player, Player thisPlayerColor,
+                                     BotTurnRunner botTurns) {
+
+    if (model == null || view == null || thisPlayerColor == null || botTurns == null) {
       // player is allowed to be null intentionally
       throw new IllegalArgumentException("Arguments cannot be null");
     }
@@ -55,6 +87,7 @@ public class AbstractPlayerController implements SanguineControllerInterface, Fe
     this.view = view;
     this.player = player;
     this.thisPlayerColor = thisPlayerColor;
+    this.botTurns = botTurns;
 
     currentRow = -1;
     currentColumn = -1;
@@ -126,6 +159,7 @@ public class AbstractPlayerController implements SanguineControllerInterface, Fe
 
   @Override
   public void nextTurnStarted() {
+    turnsStarted++;
     if (model.getCurrentPlayer() == thisPlayerColor && !model.isGameOver()) {
       System.out.println(thisPlayerColor.getColor() + " turn started.");
 
@@ -135,12 +169,54 @@ public class AbstractPlayerController implements SanguineControllerInterface, Fe
     }
   }
 
-  // Runs the Bot's turn
+  /**
+   * Cancels the Bot's turn that is still being thought about, if there is one.
+   * The Bot will not make a move for that turn.
+   */
+  public void cancelBotTurn() {
+    cancelledTurn = turnsStarted;
+    stopPendingBotTurn();
+  }
+
+  // Stops the Bot's turn that is still being thought about, if there is one
+  private void stopPendingBotTurn() {
+    if (pendingBotTurn != null) {
+      pendingBotTurn.cancel(true);
+      pendingBotTurn = null;
+    }
+  }
+
+  // Starts the Bot's turn; the Bot thinks on a copy of the game, so the game is only changed
+  // when its move is made
   private void runPlayerBotTurn() {
     if (player != null) {
-      System.out.println(thisPlayerColor.getColor() + " Bot has played");
-      player.playTurn(model);
+      stopPendingBotTurn();
+      int turn = turnsStarted;
+      pendingBotTurn = botTurns.run(player, model.copy(), move -> makeBotMove(move, turn));
+    }
+  }
+
+  // Makes the Bot's chosen move, unless the turn was cancelled, or the game has moved on since
+  // the Bot started thinking
+  private void makeBotMove(Move move, int turn) {
+    if (turn != turnsStarted || turn == cancelledTurn
+            || model.getCurrentPlayer() != thisPlayerColor || model.isGameOver()) {
+      return;
+    }
+    pendingBotTurn = null;
+    System.out.println(thisPlayerColor.getColor() + " Bot has played");
+    try {
+      if (move.isPass()) {
+        model.passTurn();
+      } else {
+        model.playCard(move.card(), move.row(), move.col());
+      }
+    } catch (IllegalArgumentException | IllegalStateException e) {
+      System.out.println(thisPlayerColor.getColor() + " Bot chose an illegal move, so it passes");
+      model.passTurn();
     }
+    clearHighlights();
+    view.refresh();
   }
 
   // Clears highlighting from previous turn
@@ -22,4 +22,17 @@ public class BluePlayerController extends AbstractPlayerController {
   public BluePlayerController(SanguineModel model, SanguineView view, SanguinePlayer player) {
     super(model, view, player, Player.BLUE);
   }
+
+  /**
+   * An Instance of a Controller for Player Blue, whose Bot's turns are run by the given runner.
+   *
+   * @param model a Sanguine model
+   * @param view a Sanguine view
+   * @param player a Sanguine player (either a SanguinePlayer (AI Bot) or null (Human))
+   * @param botTurns runs the Bot's turns (for example BotTurnRunner.synchronous())
+   */
+  public BluePlayerController(SanguineModel model, SanguineView view, SanguinePlayer player,
+                              BotTurnRunner botTurns) {
+    super(model, view, player, Player.BLUE, botTurns);
+  }
 }
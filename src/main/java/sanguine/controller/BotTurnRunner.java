@@ -0,0 +1,134 @@
+package sanguine.controller;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import javax.swing.SwingUtilities;
+import sanguine.controller.player.SanguinePlayer;
+import sanguine.model.Move;
+import sanguine.model.SanguineModel;
+
+/**
+ * This class is responsible for running a Bot's turn for a controller.
+ *
+ * <p>By default (onVirtualThreads()), the Bot thinks on its own virtual thread, on a copy of the
+ * game, so a slow strategy never freezes the GUI. The chosen move is then handed to an applier
+ * (the Swing Event Dispatch Thread, where every other move is made), so moves are only ever made
+ * one at a time, on one thread, and the views are refreshed there.
+ *
+ * <p>A Bot that takes longer than the timeout, or fails, passes its turn instead. A turn that is
+ * cancelled (through the Future returned by run()) never makes a move; the Bot's thread is
+ * interrupted, though strategies also stop at their own time limit.
+ *
+ * <p>synchronous() runs the Bot on the calling thread and makes the move straight away, which is
+ * how every Bot turn used to be run (and is what headless tests need).
+ */
+public final class BotTurnRunner {
+  /**
+   * How long (in milliseconds) a Bot may think before it passes, unless told otherwise.
+   */
+  public static final long DEFAULT_TIMEOUT_MILLIS = 30_000;
+
+  private static final ExecutorService VIRTUAL_THREADS =
+          Executors.newVirtualThreadPerTaskExecutor();
+
+  private final ExecutorService threads;
+  private final Executor applier;
+  private final long timeoutMillis;
+
+  /**
+   * Represents an instance of a runner which thinks on the given threads, and makes moves through
+   * the given applier.
+   *
+   * @param threads       where Bots think (null to think on the calling thread)
+   * @param applier       where chosen moves are made (should run them one at a time, in order)
+   * @param timeoutMillis how long (in milliseconds) a Bot may think before it passes
+   * @throws IllegalArgumentException if the applier is null, or the timeout is not positive
+   */
+  public BotTurnRunner(ExecutorService threads, Executor applier, long timeoutMillis) {
+    if (applier == null) {
+      throw new IllegalArgumentException("Applier cannot be null");
+    }
+    if (timeoutMillis <= 0) {
+      throw new IllegalArgumentException("Timeout must be positive");
+    }
+    this.threads = threads;
+    this.applier = applier;
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  /**
+   * Factory Method.
+   * Builds a runner where Bots think on virtual threads, and moves are made on the Swing Event
+   * Dispatch Thread.
+   *
+   * @param timeoutMillis how long (in milliseconds) a Bot may think before it passes
+   * @return the runner
+   * @throws IllegalArgumentException if the timeout is not positive
+   */
+  public static BotTurnRunner onVirtualThreads(long timeoutMillis) {
+    return new BotTurnRunner(VIRTUAL_THREADS, SwingUtilities::invokeLater, timeoutMillis);
+  }
+
+  /**
+   * Factory Method.
+   * Builds a runner where Bots think, and make their move, on the thread that started their turn.
+   *
+   * @return the runner
+   */
+  public static BotTurnRunner synchronous() {
+    return new BotTurnRunner(null, Runnable::run, Long.MAX_VALUE);
+  }
+
+  /**
+   * Has the Bot choose its move on the given copy of the game, then hands the move to onMove
+   * (through the applier).
+   *
+   * @param player the Bot
+   * @param game   a copy of the game the Bot may think on, that nothing else changes
+   * @param onMove makes the chosen move on the real game
+   * @return the running turn, which can be cancelled
+   * @throws IllegalArgumentException if any argument is null
+   */
+  public Future<?> run(SanguinePlayer player, SanguineModel game, Consumer<Move> onMove) {
+    if (player == null || game == null || onMove == null) {
+      throw new IllegalArgumentException("Arguments cannot be null");
+    }
+    if (threads == null) {
+      Move move = player.chooseMove(game);
+      applier.execute(() -> onMove.accept(move));
+      return CompletableFuture.completedFuture(null);
+    }
+
+    return threads.submit(() -> {
+      Future<Move> thinking = threads.submit(() -> player.chooseMove(game));
+      Move move;
+      try {
+        move = thinking.get(timeoutMillis, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        // The turn was cancelled, so no move is made
+        thinking.cancel(true);
+        return;
+      } catch (TimeoutException e) {
+        thinking.cancel(true);
+        System.out.println("Bot ran out of time, so it passes");
+        move = Move.pass();
+      } catch (ExecutionException e) {
+        System.out.println("Bot failed (" + e.getCause() + "), so it passes");
+        move = Move.pass();
+      }
+      if (Thread.currentThread().isInterrupted()) {
+        // Cancelled just as the Bot finished (get() returns a finished move before it checks)
+        return;
+      }
+      Move chosen = move;
+      applier.execute(() -> onMove.accept(chosen));
+    });
+  }
+}
@@ -23,6 +23,19 @@ public class RedPlayerController extends AbstractPlayerController {
     super(model, view, player, Player.RED);
   }
 
+  /**
+   * An Instance of a Controller for Player Red, whose Bot's turns are run by the given runner.
+   *
+   * @param model a Sanguine model
+   * @param view a Sanguine view
+   * @param player a Sanguine player (either a SanguinePlayer (AI Bot) or null (Human))
+   * @param botTurns runs the Bot's turns (for example BotTurnRunner.synchronous())
+   */
+  public RedPlayerController(SanguineModel model, SanguineView view, SanguinePlayer player,
+                             BotTurnRunner botTurns) {
+    super(model, view, player, Player.RED, botTurns);
+  }
+
   // Overrides original playGame in order to start the model whenever red starts playing
   @Override
   public void playGame(int numRows, int numCols, int handSize, boolean shuffle,
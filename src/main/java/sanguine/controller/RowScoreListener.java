@@ -0,0 +1,19 @@
+package sanguine.controller;
+
+/**
+ * This interface represents a Listener (of the model) for a game of Sanguine.
+ * Will notify subscribers when the score of a row changes.
+ */
+public interface RowScoreListener {
+
+  /**
+   * Notifies a subscriber (likely a view) that a card was placed on the given row, changing its
+   * row score. Only the row that changed is notified, so subscribers don't need to check the
+   * whole board.
+   *
+   * @param row           the row whose score changed
+   * @param redRowScore   Red's new score for the row
+   * @param blueRowScore  Blue's new score for the row
+   */
+  void rowScoreChanged(int row, int redRowScore, int blueRowScore);
+}
@@ -0,0 +1,127 @@
+package sanguine.controller.deck.reader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import sanguine.model.Card;
+
+/**
+ * This class is responsible for compiling text deck files (the format BasicDeckReader and
+ * StreamingDeckReader read) into the binary deck format read by MappedDeckReader.
+ * The format itself is described in MappedDeckReader.
+ *
+ * <p>Every name is only stored once, however many Cards share it.
+ */
+public final class BinaryDeckConverter {
+  private static final int MAX_NAME_BYTES = 0xFFFF;
+  private static final int MAX_VALUE = 0xFF;
+
+  private BinaryDeckConverter() {
+  }
+
+  /**
+   * Reads the given text deck and writes it, compiled, to the given file (replacing it).
+   *
+   * @param textDeck   a deck file in the text format
+   * @param binaryDeck where the compiled deck is written
+   * @throws IllegalArgumentException if either file is null, the text deck cannot be read, a card
+   *                                  cannot be stored in the binary format, or the compiled deck
+   *                                  cannot be written
+   */
+  public static void convert(File textDeck, File binaryDeck) {
+    if (textDeck == null || binaryDeck == null) {
+      throw new IllegalArgumentException("Files cannot be null");
+    }
+    ByteBuffer compiled = compile(new StreamingDeckReader(textDeck).readDeck());
+
+    try (FileChannel channel = FileChannel.open(binaryDeck.toPath(), StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (compiled.hasRemaining()) {
+        channel.write(compiled);
+      }
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Cannot write " + binaryDeck + ": " + e.getMessage());
+    }
+  }
+
+  /**
+   * Compiles the given Cards into the binary deck format.
+   *
+   * @param deck the Cards, in deck order
+   * @return the compiled deck, ready to be read from the start
+   * @throws IllegalArgumentException if a card cannot be stored in the binary format
+   */
+  public static ByteBuffer compile(List<Card> deck) {
+    // Gives every distinct name an index in the name table
+    Map<String, Integer> nameIndexes = new HashMap<>();
+    List<byte[]> names = new ArrayList<>();
+    int nameBytes = 0;
+    for (Card card : deck) {
+      if (!nameIndexes.containsKey(card.name())) {
+        byte[] name = card.name().getBytes(StandardCharsets.UTF_8);
+        if (name.length > MAX_NAME_BYTES) {
+          throw new IllegalArgumentException("Card name is too long: " + card.name());
+        }
+        nameIndexes.put(card.name(), names.size());
+        names.add(name);
+        nameBytes += 2 + name.length;
+      }
+    }
+    if (names.size() > 0xFFFF) {
+      throw new IllegalArgumentException("Deck has too many different card names");
+    }
+
+    ByteBuffer compiled = ByteBuffer.allocate(MappedDeckReader.HEADER_SIZE
+            + deck.size() * MappedDeckReader.RECORD_SIZE + names.size() * 4 + nameBytes)
+            .order(ByteOrder.BIG_ENDIAN);
+    compiled.putInt(MappedDeckReader.MAGIC).putShort(MappedDeckReader.VERSION).putShort((short) 0)
+            .putInt(deck.size()).putInt(names.size());
+
+    for (Card card : deck) {
+      if (card.value() > MAX_VALUE) {
+        throw new IllegalArgumentException("Card value is too large: " + card.name());
+      }
+      compiled.putShort((short) (int) nameIndexes.get(card.name()))
+              .put((byte) card.cost())
+              .put((byte) card.value())
+              .putInt(card.influenceMask());
+    }
+
+    int offset = 0;
+    for (byte[] name : names) {
+      compiled.putInt(offset);
+      offset += 2 + name.length;
+    }
+    for (byte[] name : names) {
+      compiled.putShort((short) name.length).put(name);
+    }
+    return compiled.flip();
+  }
+
+  /**
+   * Main method for compiling a deck from the command line.
+   *
+   * @param args given arguments, 2 are expected:
+   *               - [0] the text deck file
+   *               - [1] where the compiled deck is written
+   */
+  public static void main(String[] args) {
+    if (args.length < 2) {
+      System.out.println("Missing argument(s)!");
+      return;
+    }
+    try {
+      convert(new File(args[0]), new File(args[1]));
+    } catch (IllegalArgumentException e) {
+      System.out.println("Could not compile deck: " + e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,177 @@
+package sanguine.controller.deck.reader;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import sanguine.model.Card;
+import sanguine.model.CardRegistry;
+
+/**
+ * This class keeps decks that have already been read, so games started with the same deck file
+ * don't read and check the file again.
+ *
+ * <p>Decks are found by the file's canonical path, and are only reused while the file keeps the
+ * same last modified time and size; a changed file is read again. Only the most recently used
+ * decks are kept (up to the capacity), and the least recently used deck is dropped first.
+ *
+ * <p>Every deck handed out is immutable and already checked by DeckValidator,
+ * and its Cards are the canonical instances from CardRegistry.shared(), so equal Cards in any deck
+ * are the same Object. Each deck is kept both as written and mirrored (the way the Blue
+ * Player's Cards are flipped), so neither has to be built again by the game.
+ * The cache can be used by many threads at once; shared() returns the one used by the models.
+ */
+public final class DeckCache {
+  private static final int SHARED_CAPACITY = 64;
+  private static final DeckCache SHARED = new DeckCache(SHARED_CAPACITY);
+
+  private final int capacity;
+  private final Map<String, Entry> entries;
+  private int hits;
+  private int misses;
+
+  /**
+   * Represents an empty cache that keeps at most the given amount of decks.
+   *
+   * @param capacity the most decks kept at once
+   * @throws IllegalArgumentException if the capacity is not positive
+   */
+  public DeckCache(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+    this.capacity = capacity;
+    // Iterates from least to most recently used, so the eldest entry is the one to drop
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > DeckCache.this.capacity;
+      }
+    };
+  }
+
+  /**
+   * Returns the cache shared by every game in this process.
+   *
+   * @return the shared cache
+   */
+  public static DeckCache shared() {
+    return SHARED;
+  }
+
+  /**
+   * Returns the Cards of the given deck file, as written in the file.
+   *
+   * @param file a text or compiled deck file
+   * @return an immutable List of the deck's Cards
+   * @throws IllegalArgumentException if the file does not exist, cannot be read, or is not a valid
+   *                                  deck (including having a Card more than twice)
+   */
+  public List<Card> deck(File file) {
+    return entryFor(file).deck;
+  }
+
+  /**
+   * Returns the Cards of the given deck file with their influence grids mirrored, the way the
+   * Blue Player plays them.
+   *
+   * @param file a text or compiled deck file
+   * @return an immutable List of the deck's mirrored Cards
+   * @throws IllegalArgumentException if the file does not exist, cannot be read, or is not a valid
+   *                                  deck (including having a Card more than twice)
+   */
+  public List<Card> mirroredDeck(File file) {
+    return entryFor(file).mirroredDeck;
+  }
+
+  /**
+   * Returns how many decks are kept right now.
+   *
+   * @return the amount of decks
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Returns how many times a deck was found in the cache, and how many times it had to be read.
+   *
+   * @return the hits & misses, in that order
+   */
+  public synchronized int[] stats() {
+    return new int[]{hits, misses};
+  }
+
+  /**
+   * Drops every deck kept by the cache.
+   */
+  public synchronized void clear() {
+    entries.clear();
+  }
+
+  // Finds the up to date entry for the file, reading the file if there is none
+  private Entry entryFor(File file) {
+    if (file == null || !file.exists()) {
+      throw new IllegalArgumentException("File does not exist");
+    }
+    String path;
+    try {
+      path = file.getCanonicalPath();
+    } catch (IOException e) {
+      throw new IllegalArgumentException("File is unaccessible");
+    }
+    long lastModified = file.lastModified();
+    long size = file.length();
+
+    synchronized (this) {
+      Entry entry = entries.get(path);
+      if (entry != null && entry.lastModified == lastModified && entry.size == size) {
+        hits++;
+        return entry;
+      }
+      misses++;
+    }
+
+    // Reads outside the lock, so other decks can still be found while this one is read
+    Entry entry = new Entry(read(file), lastModified, size);
+    synchronized (this) {
+      entries.put(path, entry);
+    }
+    return entry;
+  }
+
+  // Reads & checks a deck file
+  private static List<Card> read(File file) {
+    List<Card> deck = MappedDeckReader.isCompiledDeck(file)
+            ? new MappedDeckReader(file).readDeck()
+            : new StreamingDeckReader(file).readDeck();
+
+    DeckValidator.validate("Deck " + file.getName(), deck);
+    return deck;
+  }
+
+  /**
+   * This class holds one deck (as written & mirrored), and the file stamp it was read with.
+   */
+  private static final class Entry {
+    private final List<Card> deck;
+    private final List<Card> mirroredDeck;
+    private final long lastModified;
+    private final long size;
+
+    private Entry(List<Card> deck, long lastModified, long size) {
+      List<Card> interned = CardRegistry.shared().internAll(deck);
+      List<Card> mirrored = new ArrayList<>(interned.size());
+      for (Card card : interned) {
+        mirrored.add(card.mirrored());
+      }
+      this.deck = Collections.unmodifiableList(interned);
+      this.mirroredDeck = Collections.unmodifiableList(mirrored);
+      this.lastModified = lastModified;
+      this.size = size;
+    }
+  }
+}
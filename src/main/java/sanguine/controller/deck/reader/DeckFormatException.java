@@ -0,0 +1,44 @@
+package sanguine.controller.deck.reader;
+
+/**
+ * This exception is thrown when a deck file is not written in the sanguine.Sanguine deck format.
+ * It remembers where in the file the problem was found, so the file can be fixed.
+ * Lines and columns both start at 1.
+ */
+public class DeckFormatException extends IllegalArgumentException {
+  private static final long serialVersionUID = 1L;
+
+  private final int line;
+  private final int column;
+
+  /**
+   * Represents a problem found at the given position of a deck file.
+   *
+   * @param message what is wrong
+   * @param line    the line the problem was found on
+   * @param column  the column the problem was found at
+   */
+  public DeckFormatException(String message, int line, int column) {
+    super("Line " + line + ", column " + column + ": " + message);
+    this.line = line;
+    this.column = column;
+  }
+
+  /**
+   * Returns the line the problem was found on.
+   *
+   * @return the line (starting at 1)
+   */
+  public int getLine() {
+    return line;
+  }
+
+  /**
+   * Returns the column the problem was found at.
+   *
+   * @return the column (starting at 1)
+   */
+  public int getColumn() {
+    return column;
+  }
+}
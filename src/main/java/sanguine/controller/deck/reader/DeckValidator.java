@@ -0,0 +1,114 @@
+package sanguine.controller.deck.reader;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import sanguine.model.Card;
+
+/**
+ * This class is responsible for checking a deck follows the deck rules of the game: a deck may
+ * hold at most MAX_COPIES of the same Card.
+ *
+ * <p>The deck is checked in a single pass, counting every Card in a hash map, and every Card that
+ * breaks the rule is reported at once (not only the first one found). It does not depend on a
+ * game, so decks can be checked when they are made or uploaded, not only when a game starts.
+ */
+public final class DeckValidator {
+  /**
+   * The most copies of the same Card a deck may hold.
+   */
+  public static final int MAX_COPIES = 2;
+
+  private DeckValidator() {
+  }
+
+  /**
+   * Finds every problem with the given deck.
+   *
+   * @param deck the Cards of the deck
+   * @return one message per problem, in the order the offending Cards first appear in the deck;
+   *         empty if the deck is valid
+   * @throws IllegalArgumentException if the deck is null
+   */
+  public static List<String> violations(List<Card> deck) {
+    if (deck == null) {
+      throw new IllegalArgumentException("Deck cannot be null");
+    }
+    Map<Card, Integer> counts = new LinkedHashMap<>();
+    int missingCards = 0;
+    for (Card card : deck) {
+      if (card == null) {
+        missingCards++;
+      } else {
+        counts.merge(card, 1, Integer::sum);
+      }
+    }
+
+    List<String> violations = new ArrayList<>();
+    if (missingCards > 0) {
+      violations.add("contains " + missingCards + " null card(s)");
+    }
+    for (Map.Entry<Card, Integer> count : counts.entrySet()) {
+      if (count.getValue() > MAX_COPIES) {
+        violations.add("contains more than " + MAX_COPIES + " of the same card ("
+                + count.getKey().name() + ", " + count.getValue() + " copies)");
+      }
+    }
+    return violations;
+  }
+
+  /**
+   * Reads the given deck file (text or compiled), and finds every problem with the deck.
+   *
+   * @param file a text or compiled deck file
+   * @return one message per problem; empty if the deck is valid
+   * @throws IllegalArgumentException if the file does not exist, or cannot be read as a deck
+   */
+  public static List<String> violations(File file) {
+    if (file == null || !file.exists()) {
+      throw new IllegalArgumentException("File does not exist");
+    }
+    List<Card> deck = MappedDeckReader.isCompiledDeck(file)
+            ? new MappedDeckReader(file).readDeck()
+            : new StreamingDeckReader(file).readDeck();
+    return violations(deck);
+  }
+
+  /**
+   * Checks the given deck, throwing if anything is wrong with it.
+   *
+   * @param deckName the name used for the deck in the exception's message
+   * @param deck     the Cards of the deck
+   * @throws IllegalArgumentException if the deck is null or breaks any deck rule, listing every
+   *                                  problem found
+   */
+  public static void validate(String deckName, List<Card> deck) {
+    List<String> violations = violations(deck);
+    if (!violations.isEmpty()) {
+      throw new IllegalArgumentException(deckName + " " + String.join("; ", violations));
+    }
+  }
+
+  /**
+   * Main method for checking deck files from the command line.
+   *
+   * @param args the deck files to check
+   */
+  public static void main(String[] args) {
+    if (args.length < 1) {
+      System.out.println("Missing argument(s)!");
+      return;
+    }
+    for (String path : args) {
+      try {
+        List<String> violations = violations(new File(path));
+        System.out.println(path + ": " + (violations.isEmpty() ? "valid"
+                : String.join("; ", violations)));
+      } catch (IllegalArgumentException e) {
+        System.out.println(path + ": cannot be read (" + e.getMessage() + ")");
+      }
+    }
+  }
+}
@@ -0,0 +1,207 @@
+package sanguine.controller.deck.reader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import sanguine.model.Card;
+
+/**
+ * This class is responsible for reading compiled (binary) deck files, made by
+ * BinaryDeckConverter from the text deck format.
+ *
+ * <p>The file is mapped into memory once, when the reader is made, and no Card is built until it
+ * is asked for; each Card is then built once and kept. A reader never changes after it is made,
+ * so one reader can be shared by any amount of games on any amount of threads.
+ *
+ * <p>A binary deck file is written in big-endian order:
+ *   - header (16 bytes): the magic number "SDCK", the format version (2 bytes), 2 unused bytes,
+ *     the amount of cards (4 bytes) and the amount of distinct names (4 bytes)
+ *   - one 8 byte record per card: the index of its name (2 bytes), its cost (1 byte),
+ *     its value (1 byte, 1 to 255), and its influence mask (4 bytes, bit row * 5 + col is set
+ *     when that position of the 5x5 influence grid is an I)
+ *   - the name table: one 4 byte offset per name (from the start of the name data), then every
+ *     name as its length in bytes (2 bytes) followed by its UTF-8 bytes
+ */
+public class MappedDeckReader implements DeckReaderInterface {
+  static final int MAGIC = 0x5344434B; // "SDCK"
+  static final short VERSION = 1;
+  static final int HEADER_SIZE = 16;
+  static final int RECORD_SIZE = 8;
+
+  private final ByteBuffer data;
+  private final int cardCount;
+  private final int nameCount;
+  private final int nameOffsetsStart;
+  private final int nameDataStart;
+  private final AtomicReferenceArray<Card> cards;
+
+  /**
+   * This creates an instance of MappedDeckReader, mapping the given binary deck file.
+   *
+   * @param file a compiled deck file
+   * @throws IllegalArgumentException if the file does not exist, cannot be accessed, or is not a
+   *                                  compiled deck file
+   */
+  public MappedDeckReader(File file) {
+    if (file == null || !file.exists()) {
+      throw new IllegalArgumentException("File does not exist");
+    }
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      // The mapping stays valid after the channel is closed
+      this.data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+              .order(ByteOrder.BIG_ENDIAN);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("File is unaccessible");
+    }
+
+    if (data.capacity() < HEADER_SIZE || data.getInt(0) != MAGIC) {
+      throw new IllegalArgumentException("File is not a compiled deck");
+    }
+    if (data.getShort(4) != VERSION) {
+      throw new IllegalArgumentException("Unsupported compiled deck version " + data.getShort(4));
+    }
+    this.cardCount = data.getInt(8);
+    this.nameCount = data.getInt(12);
+    if (cardCount < 0 || nameCount < 0 || nameCount > 0xFFFF) {
+      throw new IllegalArgumentException("Compiled deck has an invalid header");
+    }
+    // Checked in long, since a bad header could make these offsets overflow an int, and before
+    // the card cache is made, since a bad header could ask for a huge one
+    long namesStart = HEADER_SIZE + (long) cardCount * RECORD_SIZE;
+    long dataStart = namesStart + (long) nameCount * 4;
+    if (cardCount > (data.capacity() - HEADER_SIZE) / RECORD_SIZE || dataStart > data.capacity()) {
+      throw new IllegalArgumentException("Compiled deck is cut short");
+    }
+    this.nameOffsetsStart = (int) namesStart;
+    this.nameDataStart = (int) dataStart;
+    this.cards = new AtomicReferenceArray<>(cardCount);
+  }
+
+  /**
+   * Checks if the given file starts like a compiled deck file (so it should be read by this
+   * reader, rather than as a text deck).
+   *
+   * @param file the file to check
+   * @return true if the file starts with the compiled deck magic number
+   */
+  public static boolean isCompiledDeck(File file) {
+    if (file == null || !file.isFile() || file.length() < HEADER_SIZE) {
+      return false;
+    }
+    try (RandomAccessFile input = new RandomAccessFile(file, "r")) {
+      return input.readInt() == MAGIC;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Returns the amount of Cards in the deck, without building any of them.
+   *
+   * @return the amount of Cards
+   */
+  public int size() {
+    return cardCount;
+  }
+
+  /**
+   * Returns the Card at the given position of the deck, building it the first time it is asked for.
+   *
+   * @param index the position of the Card in the deck
+   * @return the Card
+   * @throws IndexOutOfBoundsException if there is no Card at that position
+   */
+  public Card card(int index) {
+    Card card = cards.get(index);
+    if (card == null) {
+      // If two threads build the same Card at once, both get the one stored first
+      cards.compareAndSet(index, null, buildCard(index));
+      card = cards.get(index);
+    }
+    return card;
+  }
+
+  /**
+   * Returns a read-only List view of the deck, whose Cards are only built when they are read.
+   *
+   * @return the Cards of the deck
+   */
+  public List<Card> cards() {
+    return new AbstractList<>() {
+      @Override
+      public Card get(int index) {
+        return card(index);
+      }
+
+      @Override
+      public int size() {
+        return cardCount;
+      }
+    };
+  }
+
+  /**
+   * Builds every Card of the deck, and returns them in a new List that can be changed freely.
+   *
+   * @return A List of Cards, in the order they were in the text deck
+   * @throws IllegalArgumentException if a record in the file is not a valid Card
+   */
+  @Override
+  public List<Card> readDeck() throws IllegalArgumentException {
+    return new ArrayList<>(cards());
+  }
+
+  // Builds the Card whose record is at the given position
+  private Card buildCard(int index) {
+    int record = HEADER_SIZE + index * RECORD_SIZE;
+    try {
+      int nameIndex = data.getShort(record) & 0xFFFF;
+      int cost = data.get(record + 2) & 0xFF;
+      int value = data.get(record + 3) & 0xFF;
+      int influenceMask = data.getInt(record + 4);
+      return Card.builder().name(name(nameIndex)).cost(cost).value(value)
+              .influenceGrid(influenceGrid(influenceMask)).build();
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("Compiled deck has an invalid card at " + index);
+    }
+  }
+
+  // Decodes the name at the given position of the name table
+  private String name(int nameIndex) {
+    if (nameIndex >= nameCount) {
+      throw new IndexOutOfBoundsException("No name " + nameIndex);
+    }
+    int start = nameDataStart + data.getInt(nameOffsetsStart + nameIndex * 4);
+    int length = data.getShort(start) & 0xFFFF;
+    byte[] bytes = new byte[length];
+    data.get(start + 2, bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  // Turns an influence mask back into the 5 lines of an influence grid
+  private static String[] influenceGrid(int influenceMask) {
+    String[] influenceGrid = new String[Card.GRID_SIZE];
+    for (int row = 0; row < Card.GRID_SIZE; row++) {
+      char[] gridRow = new char[Card.GRID_SIZE];
+      for (int col = 0; col < Card.GRID_SIZE; col++) {
+        if (row == Card.GRID_CENTER && col == Card.GRID_CENTER) {
+          gridRow[col] = 'C';
+        } else {
+          boolean influenced = (influenceMask & (1 << (row * Card.GRID_SIZE + col))) != 0;
+          gridRow[col] = influenced ? 'I' : 'X';
+        }
+      }
+      influenceGrid[row] = new String(gridRow);
+    }
+    return influenceGrid;
+  }
+}
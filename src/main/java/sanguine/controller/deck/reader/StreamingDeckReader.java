@@ -0,0 +1,251 @@
+package sanguine.controller.deck.reader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import sanguine.model.Card;
+
+/**
+ * This class is responsible for reading deck files and translating them into a List of Cards.
+ * Unlike BasicDeckReader, the file is read only once, a block at a time, through a FileChannel,
+ * and every Card is built straight from the bytes of the file (no line Strings are made, and
+ * nothing is split).
+ *
+ * <p>A deck file is made of cards, each written as a header line and 5 influence grid lines:
+ *   - the header is the card's name (one word), its cost, and its value, separated by spaces
+ *   - every grid line is exactly 5 characters, each X (no influence), I (influence), or C
+ *   - the middle character of the middle line is C (where the card is placed), and is the only C
+ * Lines may end with "\n" or "\r\n". Blank lines between cards and at the end of the file are
+ * skipped. Names are read as UTF-8.
+ *
+ * <p>Any file that does not follow the format is rejected with a DeckFormatException, which says
+ * on which line and column the problem was found.
+ * A reader keeps its read buffer between calls, so it should only be used by one thread at a time.
+ */
+public class StreamingDeckReader implements DeckReaderInterface {
+  private static final int BUFFER_SIZE = 8192;
+  private static final int END_OF_FILE = -1;
+
+  private final File file;
+  private final ByteBuffer buffer;
+  private FileChannel channel;
+  private int line;
+  private int column;
+
+  /**
+   * This creates an instance of StreamingDeckReader, which reads the given deck file.
+   *
+   * @param file a file containing a deck for the game of sanguine.Sanguine
+   * @throws IllegalArgumentException if the file is null or does not exist
+   */
+  public StreamingDeckReader(File file) {
+    if (file == null || !file.exists()) {
+      throw new IllegalArgumentException("File does not exist");
+    }
+    this.file = file;
+    this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+  }
+
+  /**
+   * Reads the deck file and transforms it into a List of Cards.
+   *
+   * @return A List of Cards, in the order they are written in the file
+   * @throws IllegalArgumentException if the file cannot be accessed
+   * @throws DeckFormatException      if the file is not written in the deck format
+   */
+  @Override
+  public List<Card> readDeck() throws IllegalArgumentException {
+    List<Card> deck = new ArrayList<>();
+    try (FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      this.channel = fileChannel;
+      this.buffer.clear().flip(); // starts empty, so the first read fills it
+      this.line = 1;
+      this.column = 1;
+
+      skipBlankSpace();
+      while (peek() != END_OF_FILE) {
+        deck.add(readCard());
+        skipBlankSpace();
+      }
+    } catch (IOException e) {
+      throw new IllegalArgumentException("File is unaccessible");
+    } finally {
+      this.channel = null;
+    }
+    return deck;
+  }
+
+  // Reads one card: the header line, then the 5 lines of the influence grid
+  private Card readCard() throws IOException {
+    int cardLine = line;
+    int cardColumn = column;
+
+    String name = readName();
+    skipSpaces("Expected a space after the card's name");
+    int cost = readNumber("cost");
+    skipSpaces("Expected a space after the card's cost");
+    int value = readNumber("value");
+    endLine(false);
+
+    String[] influenceGrid = new String[Card.GRID_SIZE];
+    for (int row = 0; row < Card.GRID_SIZE; row++) {
+      influenceGrid[row] = readGridRow(row);
+      endLine(row == Card.GRID_SIZE - 1);
+    }
+
+    try {
+      return Card.builder().name(name).cost(cost).value(value)
+              .influenceGrid(influenceGrid).build();
+    } catch (IllegalArgumentException e) {
+      throw new DeckFormatException("Invalid card " + name + " (" + e.getMessage() + ")",
+              cardLine, cardColumn);
+    }
+  }
+
+  // Reads the card's name, which ends at the first space
+  private String readName() throws IOException {
+    byte[] name = new byte[16];
+    int length = 0;
+    while (!isSpace(peek()) && !isLineEnd(peek())) {
+      if (length == name.length) {
+        name = Arrays.copyOf(name, length * 2);
+      }
+      name[length++] = (byte) read();
+    }
+    if (length == 0) {
+      throw error("Expected the card's name");
+    }
+    return new String(name, 0, length, StandardCharsets.UTF_8);
+  }
+
+  // Reads a whole number, which may be negative (the Card decides which numbers are allowed)
+  private int readNumber(String field) throws IOException {
+    boolean negative = peek() == '-';
+    if (negative) {
+      read();
+    }
+    if (!isDigit(peek())) {
+      throw error("Expected a whole number for the card's " + field);
+    }
+    long number = 0;
+    while (isDigit(peek())) {
+      number = number * 10 + (read() - '0');
+      if (number > Integer.MAX_VALUE) {
+        throw error("The card's " + field + " is too large");
+      }
+    }
+    if (!isSpace(peek()) && !isLineEnd(peek())) {
+      throw error("Expected a whole number for the card's " + field);
+    }
+    return (int) (negative ? -number : number);
+  }
+
+  // Reads one line of the influence grid, checking every character
+  private String readGridRow(int row) throws IOException {
+    char[] gridRow = new char[Card.GRID_SIZE];
+    for (int col = 0; col < Card.GRID_SIZE; col++) {
+      int character = peek();
+      if (character == END_OF_FILE) {
+        throw error("The file ends in the middle of a card");
+      }
+      if (isLineEnd(character)) {
+        throw error("Influence grid lines must be " + Card.GRID_SIZE + " characters long");
+      }
+      boolean center = row == Card.GRID_CENTER && col == Card.GRID_CENTER;
+      if (center && character != 'C') {
+        throw error("Expected C (the card's cell) in the middle of the influence grid");
+      }
+      if (!center && character != 'X' && character != 'I') {
+        throw error("Expected X or I in the influence grid, not '" + (char) character + "'");
+      }
+      gridRow[col] = (char) read();
+    }
+    return new String(gridRow);
+  }
+
+  // Skips the spaces between two fields; at least one is needed
+  private void skipSpaces(String message) throws IOException {
+    if (!isSpace(peek())) {
+      throw error(message);
+    }
+    while (isSpace(peek())) {
+      read();
+    }
+  }
+
+  // Skips trailing spaces & the end of the line; the file may only end here if allowed
+  private void endLine(boolean mayEndFile) throws IOException {
+    while (isSpace(peek()) || peek() == '\r') {
+      read();
+    }
+    if (peek() == '\n') {
+      read();
+    } else if (peek() != END_OF_FILE) {
+      throw error("Unexpected '" + (char) peek() + "' at the end of the line");
+    } else if (!mayEndFile) {
+      throw error("The file ends in the middle of a card");
+    }
+  }
+
+  // Skips blank lines (and any spaces) before a card or the end of the file
+  private void skipBlankSpace() throws IOException {
+    while (isSpace(peek()) || peek() == '\r' || peek() == '\n') {
+      read();
+    }
+  }
+
+  // Returns the next byte without reading it, or END_OF_FILE
+  private int peek() throws IOException {
+    while (!buffer.hasRemaining()) {
+      buffer.clear();
+      int bytesRead = channel.read(buffer);
+      buffer.flip();
+      if (bytesRead == -1) {
+        return END_OF_FILE;
+      }
+    }
+    return buffer.get(buffer.position()) & 0xFF;
+  }
+
+  // Reads the next byte, keeping track of the line & column
+  private int read() throws IOException {
+    int next = peek();
+    if (next == END_OF_FILE) {
+      return END_OF_FILE;
+    }
+    buffer.position(buffer.position() + 1);
+    if (next == '\n') {
+      line++;
+      column = 1;
+    } else {
+      column++;
+    }
+    return next;
+  }
+
+  // Builds the exception for a problem at the next byte of the file
+  private DeckFormatException error(String message) {
+    return new DeckFormatException(message, line, column);
+  }
+
+  // Checks if the byte separates two fields of a line
+  private static boolean isSpace(int character) {
+    return character == ' ' || character == '\t';
+  }
+
+  // Checks if the byte ends a line (or the file)
+  private static boolean isLineEnd(int character) {
+    return character == '\r' || character == '\n' || character == END_OF_FILE;
+  }
+
+  // Checks if the byte is one of the digits 0 to 9
+  private static boolean isDigit(int character) {
+    return character >= '0' && character <= '9';
+  }
+}
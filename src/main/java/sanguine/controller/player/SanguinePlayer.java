@@ -1,5 +1,6 @@
 package sanguine.controller.player;
 
+import sanguine.model.Move;
 import sanguine.model.SanguineModel;
 
 /**
@@ -16,4 +17,13 @@ public interface SanguinePlayer {
    * @param model a model of the game sanguine.Sanguine
    */
   void playTurn(SanguineModel model);
+
+  /**
+   * Decides the move for this Player's next turn, without making it or changing the model.
+   * How the move is chosen depends on the chosen strategy
+   *
+   * @param model a model of the game sanguine.Sanguine (may be a copy of the game being played)
+   * @return the chosen move; either a legal play, or a pass
+   */
+  Move chooseMove(SanguineModel model);
 }
@@ -1,5 +1,6 @@
 package sanguine.controller.player;
 
+import sanguine.model.Move;
 import sanguine.model.SanguineModel;
 import sanguine.strategy.SanguineStrategy;
 
@@ -25,4 +26,9 @@ public class SanguinePlayerImpl implements SanguinePlayer {
   public void playTurn(SanguineModel model) {
     strategy.playTurn(model);
   }
+
+  @Override
+  public Move chooseMove(SanguineModel model) {
+    return strategy.chooseMove(model);
+  }
 }
@@ -0,0 +1,167 @@
+package sanguine.controller.record;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import sanguine.controller.deck.reader.DeckCache;
+import sanguine.model.Card;
+import sanguine.model.Move;
+import sanguine.model.ReadOnlySanguineModel;
+import sanguine.model.enums.Player;
+
+/**
+ * This class is responsible for writing a game of sanguine.Sanguine as a compact binary record,
+ * which GameReplay can play back to rebuild any position of the game.
+ *
+ * <p>The record is append-only: start() writes the header, then every move is added to the end
+ * as it is made, so a game that is cut short still leaves a readable record of every move made
+ * up to that point. See GameReplay for the format.
+ *
+ * <p>The recorder doesn't buffer anything itself; wrap the stream in a BufferedOutputStream, and
+ * flush or close it once the game (or a batch of games) is done.
+ */
+public final class GameRecorder {
+  private final DataOutputStream out;
+  private ReadOnlySanguineModel game;
+  private int numCols;
+  private int turns;
+
+  /**
+   * Represents an instance of a recorder writing to the given stream.
+   *
+   * @param out where the record is written
+   * @throws IllegalArgumentException if the stream is null
+   */
+  public GameRecorder(OutputStream out) {
+    if (out == null) {
+      throw new IllegalArgumentException("Stream cannot be null");
+    }
+    this.out = new DataOutputStream(out);
+  }
+
+  /**
+   * Writes the header of the record: the size of the board and hands, which deck files were
+   * used, and the order both decks were dealt in (so a shuffled game can be replayed).
+   * Must be called right after the game is started, before any move is made.
+   *
+   * @param game     the game that was just started
+   * @param redDeck  the deck file the game was started with for the Red Player
+   * @param blueDeck the deck file the game was started with for the Blue Player
+   * @throws IllegalArgumentException if any argument is null, or the game's cards don't come
+   *                                  from those deck files
+   * @throws IllegalStateException    if the game hasn't started, the record was already started,
+   *                                  or the record cannot be written
+   */
+  public void start(ReadOnlySanguineModel game, File redDeck, File blueDeck) {
+    if (game == null || redDeck == null || blueDeck == null) {
+      throw new IllegalArgumentException("Arguments cannot be null");
+    }
+    if (this.game != null) {
+      throw new IllegalStateException("The record was already started");
+    }
+    // Cards are dealt from the front of the deck, so hand then deck is the order they were dealt
+    List<Card> redOrder = new ArrayList<>(game.getRedHand());
+    redOrder.addAll(game.getRedDeck());
+    List<Card> blueOrder = new ArrayList<>(game.getBlueHand());
+    blueOrder.addAll(game.getBlueDeck());
+    List<Card> redFileDeck = DeckCache.shared().deck(redDeck);
+    List<Card> blueFileDeck = DeckCache.shared().mirroredDeck(blueDeck);
+    int[] redIndices = dealtIndices(redOrder, redFileDeck, "Red");
+    int[] blueIndices = dealtIndices(blueOrder, blueFileDeck, "Blue");
+
+    int numRows = game.getBoardView().numRows();
+    try {
+      out.writeInt(GameReplay.MAGIC);
+      out.writeShort(GameReplay.VERSION);
+      out.writeShort(numRows);
+      out.writeShort(game.getBoardSize() / numRows);
+      // Blue hasn't drawn yet, so their hand is still the starting hand size
+      out.writeShort(game.getBlueHand().size());
+      out.writeUTF(redDeck.getPath());
+      out.writeUTF(blueDeck.getPath());
+      out.writeShort(redIndices.length);
+      out.writeInt(redFileDeck.hashCode());
+      out.writeInt(blueFileDeck.hashCode());
+      for (int index : redIndices) {
+        out.writeShort(index);
+      }
+      for (int index : blueIndices) {
+        out.writeShort(index);
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Cannot write the game record: " + e.getMessage());
+    }
+    this.game = game;
+    this.numCols = game.getBoardSize() / numRows;
+  }
+
+  // Where each dealt card is in the deck file (equal cards each get their own position)
+  private static int[] dealtIndices(List<Card> dealt, List<Card> fileDeck, String player) {
+    if (dealt.size() != fileDeck.size()) {
+      throw new IllegalArgumentException(player + "'s cards don't come from their deck file");
+    }
+    boolean[] used = new boolean[fileDeck.size()];
+    int[] indices = new int[dealt.size()];
+    for (int card = 0; card < dealt.size(); card++) {
+      int index = -1;
+      for (int candidate = 0; candidate < fileDeck.size() && index == -1; candidate++) {
+        if (!used[candidate] && fileDeck.get(candidate).equals(dealt.get(card))) {
+          index = candidate;
+        }
+      }
+      if (index == -1) {
+        throw new IllegalArgumentException(player + "'s cards don't come from their deck file");
+      }
+      used[index] = true;
+      indices[card] = index;
+    }
+    return indices;
+  }
+
+  /**
+   * Adds a move to the end of the record. Must be called just before the move is made on the
+   * game, since a card is written as its place in the current Player's hand.
+   *
+   * @param move the move about to be made
+   * @throws IllegalArgumentException if the move is null, or its card isn't in the current
+   *                                  Player's hand
+   * @throws IllegalStateException    if the record wasn't started, or cannot be written
+   */
+  public void record(Move move) {
+    if (move == null) {
+      throw new IllegalArgumentException("Move cannot be null");
+    }
+    if (game == null) {
+      throw new IllegalStateException("The record wasn't started");
+    }
+    try {
+      if (move.isPass()) {
+        out.writeByte(GameReplay.PASS);
+      } else {
+        List<Card> hand = game.getCurrentPlayer() == Player.RED
+                ? game.getRedHand() : game.getBlueHand();
+        int handIndex = hand.indexOf(move.card());
+        if (handIndex == -1 || handIndex >= GameReplay.PASS) {
+          throw new IllegalArgumentException("Card is not in the current Player's hand");
+        }
+        out.writeByte(handIndex);
+        out.writeShort(move.row() * numCols + move.col());
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Cannot write the game record: " + e.getMessage());
+    }
+    turns++;
+  }
+
+  /**
+   * Returns how many moves have been recorded.
+   *
+   * @return the amount of moves
+   */
+  public int turns() {
+    return turns;
+  }
+}
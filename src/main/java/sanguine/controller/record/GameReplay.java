@@ -0,0 +1,228 @@
+package sanguine.controller.record;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import sanguine.controller.deck.reader.DeckCache;
+import sanguine.model.BitboardSanguine;
+import sanguine.model.Card;
+import sanguine.model.Move;
+import sanguine.model.SanguineModel;
+import sanguine.model.enums.Player;
+
+/**
+ * This class is responsible for playing back a game recorded by GameRecorder, rebuilding the
+ * position after any amount of moves.
+ *
+ * <p>Every position is rebuilt by starting the game with the recorded decks (in the order they
+ * were dealt) and making the recorded moves, so the replay is always exactly the recorded game.
+ * To seek to a move without replaying the whole game, a copy of the game is kept every
+ * checkpointInterval moves (as they are first reached), and playback starts from the nearest one.
+ *
+ * <p>A record is written in big-endian order:
+ *   - header: the magic number "SGRC" (4 bytes), the format version (2 bytes), the amount of rows,
+ *     columns, and the starting hand size (2 bytes each), the Red & Blue deck file paths
+ *     (modified UTF-8, as written by DataOutputStream.writeUTF()), the amount of cards in a deck
+ *     (2 bytes), the hashCode() of the Red deck & mirrored Blue deck read from those files
+ *     (4 bytes each, to notice if a file changed), then where each card of the Red deck, then of
+ *     the Blue deck, is in its file, in the order they were dealt (2 bytes each)
+ *   - moves, until the end of the record: a pass is the single byte 0xFF, and a placement is the
+ *     card's index in the current Player's hand (1 byte) followed by its cell, as
+ *     row * columns + column (2 bytes)
+ * The deck files are found again by their path, so they must be readable from where the game is
+ * replayed.
+ */
+public final class GameReplay {
+  static final int MAGIC = 0x53475243; // "SGRC"
+  static final short VERSION = 1;
+  static final int PASS = 0xFF;
+  private static final int DEFAULT_CHECKPOINT_INTERVAL = 16;
+
+  private final int numRows;
+  private final int numCols;
+  private final int handSize;
+  private final List<Card> redDeck;
+  private final List<Card> blueDeck;
+  // One entry per move: the index in the hand (PASS for a pass) & the cell
+  private final byte[] handIndices;
+  private final short[] cells;
+  private final int checkpointInterval;
+  // checkpoints.get(k) is the game after k * checkpointInterval moves
+  private final List<SanguineModel> checkpoints;
+
+  /**
+   * Represents a replay of the given record, keeping a checkpoint every 16 moves.
+   *
+   * @param record the record, which is read to its end (and not closed)
+   * @throws IllegalArgumentException if the record is null, not a game record, cut off in the
+   *                                  middle of a move, or its deck files cannot be read or changed
+   */
+  public GameReplay(InputStream record) {
+    this(record, DEFAULT_CHECKPOINT_INTERVAL);
+  }
+
+  /**
+   * Represents a replay of the given record, keeping a checkpoint every checkpointInterval moves.
+   *
+   * @param record             the record, which is read to its end (and not closed)
+   * @param checkpointInterval how many moves apart checkpoints are kept
+   * @throws IllegalArgumentException if the record is null, not a game record, cut off in the
+   *                                  middle of a move, or its deck files cannot be read or
+   *                                  changed, or the interval is not positive
+   */
+  public GameReplay(InputStream record, int checkpointInterval) {
+    if (record == null) {
+      throw new IllegalArgumentException("Record cannot be null");
+    }
+    if (checkpointInterval <= 0) {
+      throw new IllegalArgumentException("Checkpoint interval must be positive");
+    }
+    DataInputStream in = new DataInputStream(record);
+    try {
+      if (in.readInt() != MAGIC) {
+        throw new IllegalArgumentException("Not a game record");
+      }
+      int version = in.readShort();
+      if (version != VERSION) {
+        throw new IllegalArgumentException("Unsupported game record version " + version);
+      }
+      this.numRows = in.readUnsignedShort();
+      this.numCols = in.readUnsignedShort();
+      this.handSize = in.readUnsignedShort();
+      File redFile = new File(in.readUTF());
+      File blueFile = new File(in.readUTF());
+      int deckSize = in.readUnsignedShort();
+      int redHash = in.readInt();
+      int blueHash = in.readInt();
+      this.redDeck = dealtDeck(in, deckSize, DeckCache.shared().deck(redFile), redHash, redFile);
+      this.blueDeck = dealtDeck(in, deckSize, DeckCache.shared().mirroredDeck(blueFile),
+              blueHash, blueFile);
+
+      byte[] moves = in.readAllBytes();
+      byte[] indices = new byte[moves.length];
+      short[] cellIndices = new short[moves.length];
+      int turns = 0;
+      for (int position = 0; position < moves.length; turns++) {
+        indices[turns] = moves[position];
+        if ((moves[position] & 0xFF) == PASS) {
+          position++;
+        } else if (position + 3 <= moves.length) {
+          cellIndices[turns] = (short) ((moves[position + 1] & 0xFF) << 8
+                  | moves[position + 2] & 0xFF);
+          position += 3;
+        } else {
+          throw new IllegalArgumentException("Game record is cut off in the middle of a move");
+        }
+      }
+      this.handIndices = Arrays.copyOf(indices, turns);
+      this.cells = Arrays.copyOf(cellIndices, turns);
+    } catch (EOFException e) {
+      throw new IllegalArgumentException("Game record is cut off in its header");
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Cannot read the game record: " + e.getMessage());
+    }
+    this.checkpointInterval = checkpointInterval;
+    this.checkpoints = new ArrayList<>();
+  }
+
+  // Reads the dealt order of a deck, checking the deck file is the one that was recorded
+  private static List<Card> dealtDeck(DataInputStream in, int deckSize, List<Card> fileDeck,
+                                      int recordedHash, File file) throws IOException {
+    if (fileDeck.hashCode() != recordedHash || fileDeck.size() != deckSize) {
+      throw new IllegalArgumentException("Deck " + file + " changed since the game was recorded");
+    }
+    List<Card> dealt = new ArrayList<>(deckSize);
+    for (int card = 0; card < deckSize; card++) {
+      int index = in.readUnsignedShort();
+      if (index >= deckSize) {
+        throw new IllegalArgumentException("Game record has a card that isn't in " + file);
+      }
+      dealt.add(fileDeck.get(index));
+    }
+    return dealt;
+  }
+
+  /**
+   * Returns how many moves were recorded.
+   *
+   * @return the amount of moves
+   */
+  public int turns() {
+    return handIndices.length;
+  }
+
+  /**
+   * Rebuilds the game as it was after the given amount of moves.
+   * Starts from the closest checkpoint at or before that move.
+   *
+   * @param turn how many moves have been made (0 for the start of the game)
+   * @return a new game in that position, which the caller may change (its listeners and history
+   *         of applied moves are empty)
+   * @throws IllegalArgumentException if the turn is negative, or more than turns()
+   */
+  public synchronized SanguineModel position(int turn) {
+    if (turn < 0 || turn > turns()) {
+      throw new IllegalArgumentException("Turn must be between 0 and " + turns());
+    }
+    if (checkpoints.isEmpty()) {
+      SanguineModel start = new BitboardSanguine();
+      start.startGame(numRows, numCols, handSize, redDeck, blueDeck);
+      checkpoints.add(start);
+    }
+
+    int checkpoint = Math.min(turn / checkpointInterval, checkpoints.size() - 1);
+    SanguineModel game = checkpoints.get(checkpoint).copy();
+    for (int played = checkpoint * checkpointInterval; played < turn; played++) {
+      makeMove(game, played);
+      if ((played + 1) % checkpointInterval == 0
+              && checkpoints.size() == (played + 1) / checkpointInterval) {
+        checkpoints.add(game.copy());
+      }
+    }
+    return game;
+  }
+
+  /**
+   * Returns the given move of the game.
+   *
+   * @param turn which move (0 for the first move of the game)
+   * @return the move
+   * @throws IllegalArgumentException if the turn is negative, or not less than turns()
+   */
+  public Move move(int turn) {
+    if (turn < 0 || turn >= turns()) {
+      throw new IllegalArgumentException("Turn must be between 0 and " + (turns() - 1));
+    }
+    return decode(position(turn), turn);
+  }
+
+  // The recorded move, as it is made on the given game (which must have made the moves before it)
+  private Move decode(SanguineModel game, int turn) {
+    int handIndex = handIndices[turn] & 0xFF;
+    if (handIndex == PASS) {
+      return Move.pass();
+    }
+    List<Card> hand = game.getCurrentPlayer() == Player.RED
+            ? game.getRedHand() : game.getBlueHand();
+    if (handIndex >= hand.size()) {
+      throw new IllegalArgumentException("Game record plays a card that isn't in the hand");
+    }
+    int cell = cells[turn] & 0xFFFF;
+    return Move.play(hand.get(handIndex), cell / numCols, cell % numCols);
+  }
+
+  // Makes the recorded move on the game (listeners aren't told about replayed moves)
+  private void makeMove(SanguineModel game, int turn) {
+    Move move = decode(game, turn);
+    if (move.isPass()) {
+      game.passTurn();
+    } else {
+      game.playCard(move.card(), move.row(), move.col());
+    }
+  }
+}
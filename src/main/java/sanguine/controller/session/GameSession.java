@@ -0,0 +1,204 @@
+package sanguine.controller.session;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import sanguine.controller.player.SanguinePlayer;
+import sanguine.model.Move;
+import sanguine.model.ReadOnlySanguineModel;
+import sanguine.model.SanguineModel;
+import sanguine.model.enums.Player;
+
+/**
+ * This class represents one game hosted by a SessionManager.
+ *
+ * <p>Each session owns its own model, and every move and query on it is a message in the
+ * session's Mailbox, so they run one at a time without locks, while other sessions run at the
+ * same time. Methods can be called from any thread; they return a CompletableFuture that is
+ * completed once the message has run.
+ *
+ * <p>Bots think on the manager's shared bot pool, on a copy of the game, and their move is posted
+ * back to the mailbox. A Bot that fails passes its turn instead.
+ *
+ * <p>If the manager is shut down, messages that can no longer run fail instead: their futures
+ * (and the game's result) complete exceptionally, so nothing waits on them forever.
+ */
+public final class GameSession {
+  private final long id;
+  private final SanguineModel model;
+  private final SanguinePlayer redBot;
+  private final SanguinePlayer blueBot;
+  private final Mailbox mailbox;
+  private final Executor botPool;
+  private final CompletableFuture<int[]> result = new CompletableFuture<>();
+
+  // Only touched by messages in the mailbox
+  private int turnsPlayed;
+  private boolean closed;
+
+  /**
+   * Represents a session for an already started game.
+   *
+   * @param id       the session's ID
+   * @param model    the started game, which only this session may use from now on
+   * @param redBot   the Bot playing for Red, or null if moves for Red are sent through play()
+   * @param blueBot  the Bot playing for Blue, or null if moves for Blue are sent through play()
+   * @param sessions where the session's messages run
+   * @param botPool  where Bots think
+   */
+  GameSession(long id, SanguineModel model, SanguinePlayer redBot, SanguinePlayer blueBot,
+              Executor sessions, Executor botPool) {
+    this.id = id;
+    this.model = model;
+    this.redBot = redBot;
+    this.blueBot = blueBot;
+    this.mailbox = new Mailbox(sessions);
+    this.botPool = botPool;
+  }
+
+  /**
+   * Returns the ID of this session.
+   *
+   * @return the ID
+   */
+  public long id() {
+    return id;
+  }
+
+  /**
+   * Makes a move for a Player that is not a Bot.
+   *
+   * @param player the Player making the move
+   * @param move   the move
+   * @return completes once the move is made; completes exceptionally with an
+   *         IllegalStateException if the session is closed, the game is over, it is not that
+   *         Player's turn, that Player is a Bot, or the card cannot be placed there, and with an
+   *         IllegalArgumentException if the arguments are null
+   */
+  public CompletableFuture<Void> play(Player player, Move move) {
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    mailbox.post(() -> {
+      try {
+        checkOpen();
+        if (player == null || move == null) {
+          throw new IllegalArgumentException("Player and move cannot be null");
+        }
+        if (botFor(player) != null) {
+          throw new IllegalStateException(player + " is played by a Bot");
+        }
+        if (model.isGameOver() || model.getCurrentPlayer() != player) {
+          throw new IllegalStateException("It is not " + player + "'s turn");
+        }
+        makeMove(move);
+        done.complete(null);
+      } catch (RuntimeException e) {
+        done.completeExceptionally(e);
+      }
+    }, done::completeExceptionally);
+    return done;
+  }
+
+  /**
+   * Reads the game. The function runs between moves, so it always sees a whole position; it must
+   * only read the model, and should copy anything it wants to keep.
+   *
+   * @param read reads what is wanted from the game
+   * @param <T>  the type of what is read
+   * @return completes with what was read; completes exceptionally if the session is closed, or
+   *         the function throws
+   */
+  public <T> CompletableFuture<T> query(Function<ReadOnlySanguineModel, T> read) {
+    CompletableFuture<T> done = new CompletableFuture<>();
+    mailbox.post(() -> {
+      try {
+        checkOpen();
+        done.complete(read.apply(model));
+      } catch (RuntimeException e) {
+        done.completeExceptionally(e);
+      }
+    }, done::completeExceptionally);
+    return done;
+  }
+
+  /**
+   * Returns the final score of the game, once it is over.
+   *
+   * @return completes with Red's & Blue's scores (in that order) when the game ends; completes
+   *         exceptionally if the session is closed first, or the game can't go on (the manager
+   *         was shut down, or a move failed in a way the session couldn't recover from)
+   */
+  public CompletableFuture<int[]> result() {
+    return result;
+  }
+
+  // Starts the game's first turn; called once by the manager
+  void start() {
+    mailbox.post(this::afterMove, result::completeExceptionally);
+  }
+
+  // Closes the session; moves & queries after this fail, and Bots stop
+  void close() {
+    mailbox.post(() -> {
+      closed = true;
+      result.completeExceptionally(new IllegalStateException("Session " + id + " is closed"));
+    }, result::completeExceptionally);
+  }
+
+  // Makes the move on the game
+  private void makeMove(Move move) {
+    if (move.isPass()) {
+      model.passTurn();
+    } else {
+      model.playCard(move.card(), move.row(), move.col());
+    }
+    turnsPlayed++;
+    afterMove();
+  }
+
+  // Finishes the game if it is over, or lets the next Player's Bot think
+  private void afterMove() {
+    if (model.isGameOver()) {
+      result.complete(model.getScore());
+      return;
+    }
+    SanguinePlayer bot = botFor(model.getCurrentPlayer());
+    if (bot != null) {
+      int turn = turnsPlayed;
+      SanguineModel game = model.copy();
+      botPool.execute(() -> {
+        Move move;
+        try {
+          move = bot.chooseMove(game);
+        } catch (RuntimeException e) {
+          move = Move.pass();
+        }
+        Move chosen = move;
+        mailbox.post(() -> makeBotMove(chosen, turn), result::completeExceptionally);
+      });
+    }
+  }
+
+  // Makes a Bot's move, unless the session was closed while it thought
+  private void makeBotMove(Move move, int turn) {
+    if (closed || turn != turnsPlayed) {
+      return;
+    }
+    try {
+      makeMove(move);
+    } catch (IllegalArgumentException | IllegalStateException e) {
+      makeMove(Move.pass());
+    }
+  }
+
+  // The Bot playing for the given Player, or null
+  private SanguinePlayer botFor(Player player) {
+    return player == Player.RED ? redBot : blueBot;
+  }
+
+  // Throws if the session was closed
+  private void checkOpen() {
+    if (closed) {
+      throw new IllegalStateException("Session " + id + " is closed");
+    }
+  }
+}
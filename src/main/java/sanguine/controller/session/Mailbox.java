@@ -0,0 +1,94 @@
+package sanguine.controller.session;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * This class is an actor-style mailbox: messages posted from any thread are run one at a time,
+ * in the order they were posted, on a shared Executor.
+ *
+ * <p>A mailbox only holds a thread of the Executor while it has messages, so any amount of
+ * mailboxes can share a small pool. Everything a mailbox's messages touch is only ever touched by
+ * one message at a time, so it needs no locks.
+ *
+ * <p>Each message comes with what to do if it fails: if it throws, or if the Executor was shut
+ * down so it can never run. No message is ever left in the mailbox without running or failing.
+ */
+final class Mailbox {
+  // How many messages are run before the thread is handed to another mailbox
+  private static final int BATCH_SIZE = 32;
+
+  private final Executor executor;
+  private final Queue<Message> messages = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+
+  /**
+   * Represents an empty mailbox whose messages run on the given Executor.
+   *
+   * @param executor where messages are run
+   */
+  Mailbox(Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Adds a message to the end of the mailbox.
+   *
+   * @param message   the message to run
+   * @param onFailure is given the exception if the message throws, or an IllegalStateException if
+   *                  the Executor was shut down before the message could run
+   */
+  void post(Runnable message, Consumer<RuntimeException> onFailure) {
+    messages.add(new Message(message, onFailure));
+    schedule();
+  }
+
+  // Makes sure a thread will run the messages, unless one already will
+  private void schedule() {
+    if (scheduled.compareAndSet(false, true)) {
+      try {
+        executor.execute(this::drain);
+      } catch (RejectedExecutionException e) {
+        // The Executor was shut down, so the messages will never run
+        IllegalStateException cause = new IllegalStateException("Messages can no longer run", e);
+        Message message;
+        while ((message = messages.poll()) != null) {
+          message.onFailure().accept(cause);
+        }
+        scheduled.set(false);
+        // A message posted while the others were failing would be left behind otherwise
+        if (!messages.isEmpty()) {
+          schedule();
+        }
+      }
+    }
+  }
+
+  // Runs up to a batch of messages, then gives the thread back
+  private void drain() {
+    try {
+      Message message;
+      for (int run = 0; run < BATCH_SIZE && (message = messages.poll()) != null; run++) {
+        try {
+          message.action().run();
+        } catch (RuntimeException e) {
+          // One failing message must not stop the ones after it
+          message.onFailure().accept(e);
+        }
+      }
+    } finally {
+      scheduled.set(false);
+      if (!messages.isEmpty()) {
+        schedule();
+      }
+    }
+  }
+
+  // A message, and what to do if it fails
+  private record Message(Runnable action, Consumer<RuntimeException> onFailure) {
+  }
+}
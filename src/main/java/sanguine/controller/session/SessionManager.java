@@ -0,0 +1,148 @@
+package sanguine.controller.session;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import sanguine.controller.player.SanguinePlayer;
+import sanguine.model.BitboardSanguine;
+import sanguine.model.SanguineModel;
+
+/**
+ * This class hosts many independent games of Sanguine in one JVM, each in its own GameSession.
+ *
+ * <p>Moves and queries are sent to a session through its in-process API (see GameSession), and
+ * are run on a small pool of session threads shared by every session: each session is an actor
+ * with its own mailbox, so its messages run one at a time while other sessions run in parallel.
+ *
+ * <p>Bot turns run on a separate, bounded pool shared by every session, so thousands of Bot games
+ * can't start thousands of threads. When every bot thread is busy and the pool's queue is full,
+ * the Bot thinks on the session's own thread instead, which slows that session down rather than
+ * dropping its turn.
+ *
+ * <p>A session is dropped from the manager once its game ends (or it is closed), so the manager
+ * only holds games still being played; the GameSession itself can still be queried.
+ *
+ * <p>Every game uses the BitboardSanguine model, with shuffled decks.
+ */
+public final class SessionManager {
+  private static final int DEFAULT_BOT_QUEUE_CAPACITY = 1024;
+
+  private final ExecutorService sessionThreads;
+  private final ThreadPoolExecutor botThreads;
+  private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+  private final AtomicLong nextId = new AtomicLong(1);
+
+  /**
+   * Represents a manager with one session thread and one bot thread per processor.
+   */
+  public SessionManager() {
+    this(Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().availableProcessors(),
+            DEFAULT_BOT_QUEUE_CAPACITY);
+  }
+
+  /**
+   * Represents a manager with the given amount of threads.
+   *
+   * @param sessionThreads   how many threads run session messages
+   * @param botThreads       how many Bots may think at the same time
+   * @param botQueueCapacity how many Bot turns may wait for a bot thread
+   * @throws IllegalArgumentException if any amount is not positive
+   */
+  public SessionManager(int sessionThreads, int botThreads, int botQueueCapacity) {
+    if (sessionThreads <= 0 || botThreads <= 0 || botQueueCapacity <= 0) {
+      throw new IllegalArgumentException("Thread counts and queue capacity must be positive");
+    }
+    this.sessionThreads = Executors.newFixedThreadPool(sessionThreads);
+    this.botThreads = new ThreadPoolExecutor(botThreads, botThreads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(botQueueCapacity), new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+
+  /**
+   * Starts a new game in a new session.
+   *
+   * @param numRows  number of rows on the board
+   * @param numCols  number of columns on the board
+   * @param handSize number of starting cards on each player's hand
+   * @param redDeck  red's deck file
+   * @param blueDeck blue's deck file
+   * @param redBot   the Bot playing for Red, or null if Red's moves are sent through play()
+   * @param blueBot  the Bot playing for Blue, or null if Blue's moves are sent through play()
+   * @return the new session
+   * @throws IllegalArgumentException if the game cannot be started with these arguments
+   * @throws IllegalStateException    if the manager was shut down
+   */
+  public GameSession createSession(int numRows, int numCols, int handSize, File redDeck,
+                                   File blueDeck, SanguinePlayer redBot, SanguinePlayer blueBot) {
+    if (sessionThreads.isShutdown()) {
+      throw new IllegalStateException("Session manager was shut down");
+    }
+    SanguineModel model = new BitboardSanguine();
+    model.startGame(numRows, numCols, handSize, true, redDeck, blueDeck);
+
+    GameSession session = new GameSession(nextId.getAndIncrement(), model, redBot, blueBot,
+            sessionThreads, botThreads);
+    sessions.put(session.id(), session);
+    session.result().whenComplete((score, failure) -> sessions.remove(session.id()));
+    session.start();
+    return session;
+  }
+
+  /**
+   * Returns the session with the given ID.
+   *
+   * @param id the session's ID
+   * @return the session
+   * @throws IllegalArgumentException if there is no open session with that ID (including one whose
+   *                                  game has ended)
+   */
+  public GameSession session(long id) {
+    GameSession session = sessions.get(id);
+    if (session == null) {
+      throw new IllegalArgumentException("No session with the ID " + id);
+    }
+    return session;
+  }
+
+  /**
+   * Closes the session with the given ID; its game is dropped, and its Bots stop.
+   *
+   * @param id the session's ID
+   * @throws IllegalArgumentException if there is no open session with that ID
+   */
+  public void closeSession(long id) {
+    GameSession session = sessions.remove(id);
+    if (session == null) {
+      throw new IllegalArgumentException("No session with the ID " + id);
+    }
+    session.close();
+  }
+
+  /**
+   * Returns how many sessions are open (whose games have not ended yet).
+   *
+   * @return the amount of sessions
+   */
+  public int sessionCount() {
+    return sessions.size();
+  }
+
+  /**
+   * Closes every session and stops the manager's threads.
+   */
+  public void shutdown() {
+    for (Long id : sessions.keySet()) {
+      GameSession session = sessions.remove(id);
+      if (session != null) {
+        session.close();
+      }
+    }
+    sessionThreads.shutdown();
+    botThreads.shutdown();
+  }
+}
@@ -0,0 +1,230 @@
+package sanguine.controller.simulation;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import sanguine.model.BitboardSanguine;
+import sanguine.model.SanguineModel;
+import sanguine.model.enums.Player;
+import sanguine.strategy.AlphaBetaSearchWithTimeLimit;
+import sanguine.strategy.ParallelMonteCarloTreeSearch;
+import sanguine.strategy.PlayFirstPossibleCardOrPass;
+import sanguine.strategy.PlayHighestValuePossibleCardOrPass;
+import sanguine.strategy.SanguineStrategy;
+
+/**
+ * This class plays many games of sanguine.Sanguine between two bot strategies, without any view.
+ * Games are spread over a pool of threads, each game on its own model, and the final scores of
+ * every game are gathered into a SimulationReport (win rates, score distributions, games/sec).
+ *
+ * <p>Strategies may keep state between turns, so every game gets new strategy instances from the
+ * given suppliers. Games are played on BitboardSanguine, with shuffled decks.
+ *
+ * <p>Every game shuffles with its own random generator, split from one SplittableRandom in the
+ * order the games are started, so threads never share (or wait on) a generator. Given a seed, a
+ * batch deals exactly the same cards to each game however many threads play it, so batches of
+ * deterministic strategies can be reproduced.
+ */
+public class BatchSimulation {
+  // How long (in milliseconds) a searching Bot may think each turn when run from main()
+  private static final long SEARCH_TIME_LIMIT_MILLIS = 100;
+
+  private final int numRows;
+  private final int numCols;
+  private final int handSize;
+  private final File redDeckFile;
+  private final File blueDeckFile;
+  private final Supplier<SanguineStrategy> redStrategy;
+  private final Supplier<SanguineStrategy> blueStrategy;
+
+  /**
+   * Represents a batch of games with the given setup and strategies.
+   *
+   * @param numRows      number of rows on the board
+   * @param numCols      number of columns on the board
+   * @param handSize     starting hand size of each player
+   * @param redDeckFile  Red Player's deck file
+   * @param blueDeckFile Blue Player's deck file
+   * @param redStrategy  makes a new strategy for the Red Player of each game
+   * @param blueStrategy makes a new strategy for the Blue Player of each game
+   * @throws IllegalArgumentException if any file or strategy is null
+   */
+  public BatchSimulation(int numRows, int numCols, int handSize, File redDeckFile,
+                         File blueDeckFile, Supplier<SanguineStrategy> redStrategy,
+                         Supplier<SanguineStrategy> blueStrategy) {
+    if (redDeckFile == null || blueDeckFile == null || redStrategy == null
+            || blueStrategy == null) {
+      throw new IllegalArgumentException("Deck files and strategies cannot be null");
+    }
+    this.numRows = numRows;
+    this.numCols = numCols;
+    this.handSize = handSize;
+    this.redDeckFile = redDeckFile;
+    this.blueDeckFile = blueDeckFile;
+    this.redStrategy = redStrategy;
+    this.blueStrategy = blueStrategy;
+  }
+
+  /**
+   * Plays the given amount of games on the given amount of threads, and reports the results.
+   * Games that fail (for example, from an invalid deck) fail the whole batch.
+   *
+   * @param games   how many games to play
+   * @param threads how many games may be played at the same time
+   * @return the report of every game played
+   * @throws IllegalArgumentException if the amount of games is negative or of threads not positive,
+   *                                  or if the game setup is invalid
+   * @throws IllegalStateException    if a strategy does not end its turn, or the batch is interrupted
+   */
+  public SimulationReport run(int games, int threads) {
+    return run(games, threads, new SplittableRandom());
+  }
+
+  /**
+   * Plays the given amount of games on the given amount of threads, shuffling the decks from the
+   * given seed, and reports the results. The same seed deals the same cards to every game.
+   * Games that fail (for example, from an invalid deck) fail the whole batch.
+   *
+   * @param games   how many games to play
+   * @param threads how many games may be played at the same time
+   * @param seed    the seed every game's shuffle comes from
+   * @return the report of every game played
+   * @throws IllegalArgumentException if the amount of games is negative or of threads not positive,
+   *                                  or if the game setup is invalid
+   * @throws IllegalStateException    if a strategy does not end its turn, or the batch is interrupted
+   */
+  public SimulationReport run(int games, int threads, long seed) {
+    return run(games, threads, new SplittableRandom(seed));
+  }
+
+  // Plays the batch, giving every game its own generator split from the given one
+  private SimulationReport run(int games, int threads, SplittableRandom random) {
+    if (games < 0 || threads <= 0) {
+      throw new IllegalArgumentException(
+              "Games must not be negative and threads must be positive");
+    }
+
+    int[] redScores = new int[games];
+    int[] blueScores = new int[games];
+    long start = System.nanoTime();
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<int[]>> results = new ArrayList<>();
+      for (int game = 0; game < games; game++) {
+        SplittableRandom gameRandom = random.split();
+        results.add(pool.submit(() -> playOneGame(gameRandom)));
+      }
+      for (int game = 0; game < games; game++) {
+        int[] score = results.get(game).get();
+        redScores[game] = score[0];
+        blueScores[game] = score[1];
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Simulation was interrupted");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException("Game failed: " + e.getCause());
+    } finally {
+      pool.shutdownNow();
+    }
+    return new SimulationReport(redScores, blueScores, System.nanoTime() - start);
+  }
+
+  // Plays one whole game, shuffled by the given generator, and returns its final score
+  private int[] playOneGame(SplittableRandom random) {
+    SanguineModel model = new BitboardSanguine();
+    model.startGame(numRows, numCols, handSize, random, redDeckFile, blueDeckFile);
+    SanguineStrategy red = redStrategy.get();
+    SanguineStrategy blue = blueStrategy.get();
+
+    while (!model.isGameOver()) {
+      Player player = model.getCurrentPlayer();
+      (player == Player.RED ? red : blue).playTurn(model);
+      // Every strategy must either play a card or pass, or the game would never end
+      if (!model.isGameOver() && model.getCurrentPlayer() == player) {
+        throw new IllegalStateException(player + "'s strategy did not end its turn");
+      }
+    }
+    return model.getScore();
+  }
+
+  /**
+   * Returns a supplier of the strategy with the given name, using the same names as the
+   * main game ("strategy1" to "strategy4").
+   *
+   * @param name the name of the strategy
+   * @return makes new instances of the strategy
+   * @throws IllegalArgumentException if there is no strategy with that name
+   */
+  public static Supplier<SanguineStrategy> strategyNamed(String name) {
+    switch (name.toLowerCase()) {
+      case "strategy1" -> {
+        return PlayFirstPossibleCardOrPass::new;
+      }
+      case "strategy2" -> {
+        return PlayHighestValuePossibleCardOrPass::new;
+      }
+      case "strategy3" -> {
+        return () -> new AlphaBetaSearchWithTimeLimit(SEARCH_TIME_LIMIT_MILLIS);
+      }
+      case "strategy4" -> {
+        return () -> new ParallelMonteCarloTreeSearch(SEARCH_TIME_LIMIT_MILLIS, 1);
+      }
+      default -> throw new IllegalArgumentException("Unknown strategy: " + name);
+    }
+  }
+
+  /**
+   * Main method for running a batch of games from the command line (no display is needed).
+   * Prints the report of the batch.
+   *
+   * @param args given arguments, minimum of 7 are expected:
+   *               - [0] number of rows
+   *               - [1] number of columns
+   *               - [2] Red Player's deck file
+   *               - [3] Blue Player's deck file
+   *               - [4] Red Player's strategy ("strategy1" to "strategy4")
+   *               - [5] Blue Player's strategy ("strategy1" to "strategy4")
+   *               - [6] number of games
+   *               - [7] (optional) number of threads, defaults to the number of cores
+   *               - [8] (optional) hand size, defaults to 5
+   *               - [9] (optional) seed for shuffling, so the batch can be reproduced
+   */
+  public static void main(String[] args) {
+    if (args.length < 7) {
+      System.out.println("Missing argument(s)!");
+      return;
+    }
+
+    File redDeckFile = new File(args[2]);
+    File blueDeckFile = new File(args[3]);
+    if (!redDeckFile.exists() || !blueDeckFile.exists()) {
+      System.out.println("Selected file(s) do not exist");
+      return;
+    }
+
+    try {
+      int threads = (args.length > 7) ? Integer.parseInt(args[7])
+              : Runtime.getRuntime().availableProcessors();
+      int handSize = (args.length > 8) ? Integer.parseInt(args[8]) : 5;
+      BatchSimulation simulation = new BatchSimulation(Integer.parseInt(args[0]),
+              Integer.parseInt(args[1]), handSize, redDeckFile, blueDeckFile,
+              strategyNamed(args[4]), strategyNamed(args[5]));
+      int games = Integer.parseInt(args[6]);
+      System.out.println((args.length > 9)
+              ? simulation.run(games, threads, Long.parseLong(args[9]))
+              : simulation.run(games, threads));
+    } catch (IllegalArgumentException e) {
+      System.out.println("Invalid argument(s): " + e.getMessage());
+    }
+  }
+}
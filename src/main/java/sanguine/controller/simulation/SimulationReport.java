@@ -0,0 +1,151 @@
+package sanguine.controller.simulation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import sanguine.model.enums.Player;
+
+/**
+ * This class represents the results of a batch of bot vs bot games of sanguine.Sanguine.
+ * It holds the final score of every game, and how long the whole batch took to play.
+ * All fields are made to be immutable, so once a report is made, it is immutable.
+ */
+public final class SimulationReport {
+  private final int[] redScores;
+  private final int[] blueScores;
+  private final long elapsedNanos;
+  private final int redWins;
+  private final int blueWins;
+
+  /**
+   * Represents the report of a finished batch of games.
+   * The scores at the same index are the final score of the same game.
+   *
+   * @param redScores    Red's final score in every game
+   * @param blueScores   Blue's final score in every game
+   * @param elapsedNanos how long (in nanoseconds) the batch took to play
+   * @throws IllegalArgumentException if the scores are null or don't have the same length
+   */
+  public SimulationReport(int[] redScores, int[] blueScores, long elapsedNanos) {
+    if (redScores == null || blueScores == null || redScores.length != blueScores.length) {
+      throw new IllegalArgumentException("Both players need a score for every game");
+    }
+    this.redScores = redScores.clone();
+    this.blueScores = blueScores.clone();
+    this.elapsedNanos = elapsedNanos;
+
+    int red = 0;
+    int blue = 0;
+    for (int game = 0; game < redScores.length; game++) {
+      if (redScores[game] > blueScores[game]) {
+        red++;
+      } else if (redScores[game] < blueScores[game]) {
+        blue++;
+      }
+    }
+    this.redWins = red;
+    this.blueWins = blue;
+  }
+
+  /**
+   * Returns how many games were played.
+   *
+   * @return the amount of games
+   */
+  public int games() {
+    return redScores.length;
+  }
+
+  /**
+   * Returns how many games the given Player won.
+   *
+   * @param player the Player
+   * @return the amount of games won
+   */
+  public int wins(Player player) {
+    return (player == Player.RED) ? redWins : blueWins;
+  }
+
+  /**
+   * Returns how many games ended in a tie.
+   *
+   * @return the amount of ties
+   */
+  public int ties() {
+    return games() - redWins - blueWins;
+  }
+
+  /**
+   * Returns the fraction (0 to 1) of games the given Player won, or 0 if no games were played.
+   *
+   * @param player the Player
+   * @return the win rate
+   */
+  public double winRate(Player player) {
+    return (games() == 0) ? 0 : (double) wins(player) / games();
+  }
+
+  /**
+   * Returns how many games ended with each final score of the given Player.
+   *
+   * @param player the Player
+   * @return a map from a final score to the amount of games that ended with it, sorted by score
+   */
+  public SortedMap<Integer, Integer> scoreDistribution(Player player) {
+    SortedMap<Integer, Integer> distribution = new TreeMap<>();
+    for (int score : scoresOf(player)) {
+      distribution.merge(score, 1, Integer::sum);
+    }
+    return Collections.unmodifiableSortedMap(distribution);
+  }
+
+  /**
+   * Returns the average final score of the given Player, or 0 if no games were played.
+   *
+   * @param player the Player
+   * @return the average score
+   */
+  public double averageScore(Player player) {
+    return Arrays.stream(scoresOf(player)).average().orElse(0);
+  }
+
+  /**
+   * Returns how many games were played per second.
+   *
+   * @return the games per second
+   */
+  public double gamesPerSecond() {
+    return (elapsedNanos <= 0) ? 0 : games() / (elapsedNanos / 1_000_000_000.0);
+  }
+
+  // The final scores of the given player, in the order the games were given
+  private int[] scoresOf(Player player) {
+    return (player == Player.RED) ? redScores : blueScores;
+  }
+
+  // Describes one player's scores as: min / median / max, average
+  private String describeScores(Player player) {
+    int[] sorted = scoresOf(player).clone();
+    Arrays.sort(sorted);
+    if (sorted.length == 0) {
+      return "-";
+    }
+    return String.format("min %d / median %d / max %d, average %.2f",
+            sorted[0], sorted[sorted.length / 2], sorted[sorted.length - 1],
+            averageScore(player));
+  }
+
+  @Override
+  public String toString() {
+    return String.format("Games: %d in %.2fs (%.1f games/sec)%n", games(),
+            elapsedNanos / 1_000_000_000.0, gamesPerSecond())
+            + String.format("Red wins: %d (%.1f%%)%n", redWins, winRate(Player.RED) * 100)
+            + String.format("Blue wins: %d (%.1f%%)%n", blueWins, winRate(Player.BLUE) * 100)
+            + String.format("Ties: %d%n", ties())
+            + "Red scores: " + describeScores(Player.RED) + System.lineSeparator()
+            + "Red score distribution: " + scoreDistribution(Player.RED) + System.lineSeparator()
+            + "Blue scores: " + describeScores(Player.BLUE) + System.lineSeparator()
+            + "Blue score distribution: " + scoreDistribution(Player.BLUE);
+  }
+}
@@ -0,0 +1,149 @@
+package sanguine.controller.stub.controller;
+
+import java.util.function.LongSupplier;
+import sanguine.controller.player.SanguinePlayer;
+import sanguine.model.SanguineModel;
+import sanguine.model.enums.Player;
+
+/**
+ * This class is responsible for playing Bot turns for the stub controller, one after another,
+ * until it is a human's turn or the game is over.
+ *
+ * <p>Turns are played in a loop (not by a method calling itself once per turn), so a whole game
+ * between two Bots never grows the stack.
+ *
+ * <p>How often the views are refreshed while Bots play can be limited:
+ *   - by default the views are refreshed after every Bot turn (as before)
+ *   - setMaxRefreshesPerSecond() refreshes at most that many times a second, skipping the turns
+ *     in between (frame-rate limiting)
+ *   - setFastForward(true) never refreshes while Bots play
+ * However often they are refreshed, the views are always refreshed once the Bots stop, so they
+ * show the game as it is.
+ */
+public final class BotTurnScheduler {
+  private final SanguineModel model;
+  private final Runnable refreshViews;
+  private final LongSupplier nanoClock;
+
+  private SanguinePlayer redBot;
+  private SanguinePlayer blueBot;
+  private long minNanosBetweenRefreshes;
+  private boolean fastForward;
+
+  /**
+   * Represents an instance of a scheduler for the given game, with no Bots yet.
+   *
+   * @param model        the game the Bots play
+   * @param refreshViews refreshes every view of the game
+   * @throws IllegalArgumentException if any argument is null
+   */
+  public BotTurnScheduler(SanguineModel model, Runnable refreshViews) {
+    this(model, refreshViews, System::nanoTime);
+  }
+
+  /**
+   * Represents an instance of a scheduler for the given game, with no Bots yet, which uses the
+   * given clock to limit refreshes.
+   *
+   * @param model        the game the Bots play
+   * @param refreshViews refreshes every view of the game
+   * @param nanoClock    the current time, in nanoseconds (like System.nanoTime())
+   * @throws IllegalArgumentException if any argument is null
+   */
+  public BotTurnScheduler(SanguineModel model, Runnable refreshViews, LongSupplier nanoClock) {
+    if (model == null || refreshViews == null || nanoClock == null) {
+      throw new IllegalArgumentException("Arguments cannot be null");
+    }
+    this.model = model;
+    this.refreshViews = refreshViews;
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * Sets the Bot playing for the given Player.
+   *
+   * @param player the Player
+   * @param bot    the Bot, or null if a human plays for them
+   * @throws IllegalArgumentException if the player is null
+   */
+  public void setBot(Player player, SanguinePlayer bot) {
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    if (player == Player.RED) {
+      redBot = bot;
+    } else {
+      blueBot = bot;
+    }
+  }
+
+  /**
+   * Limits how many times a second the views are refreshed while Bots play.
+   *
+   * @param refreshesPerSecond the most refreshes a second, or 0 to refresh after every turn
+   * @throws IllegalArgumentException if the amount is negative
+   */
+  public void setMaxRefreshesPerSecond(int refreshesPerSecond) {
+    if (refreshesPerSecond < 0) {
+      throw new IllegalArgumentException("Refreshes per second cannot be negative");
+    }
+    this.minNanosBetweenRefreshes = refreshesPerSecond == 0 ? 0 : 1_000_000_000L
+            / refreshesPerSecond;
+  }
+
+  /**
+   * Sets whether the views are left alone while Bots play (and only refreshed once they stop).
+   *
+   * @param fastForward true to skip refreshing until the Bots stop
+   */
+  public void setFastForward(boolean fastForward) {
+    this.fastForward = fastForward;
+  }
+
+  /**
+   * Plays Bot turns until it is a human's turn, or the game is over.
+   *
+   * @return the amount of turns the Bots played
+   * @throws IllegalStateException if a Bot does not end its turn
+   */
+  public int runBotTurns() {
+    int turns = 0;
+    boolean refreshed = true;
+    long lastRefresh = nanoClock.getAsLong();
+
+    SanguinePlayer bot = currentBot();
+    while (bot != null) {
+      Player player = model.getCurrentPlayer();
+      bot.playTurn(model);
+      turns++;
+      // A Bot must either play a card or pass, or this loop would never end
+      if (!model.isGameOver() && model.getCurrentPlayer() == player) {
+        throw new IllegalStateException(player + "'s Bot did not end its turn");
+      }
+
+      refreshed = false;
+      if (!fastForward) {
+        long now = nanoClock.getAsLong();
+        if (now - lastRefresh >= minNanosBetweenRefreshes) {
+          refreshViews.run();
+          refreshed = true;
+          lastRefresh = now;
+        }
+      }
+      bot = currentBot();
+    }
+
+    if (!refreshed) {
+      refreshViews.run();
+    }
+    return turns;
+  }
+
+  // The Bot whose turn it is, or null if it is a human's turn or the game is over
+  private SanguinePlayer currentBot() {
+    if (!model.isGameStarted() || model.isGameOver()) {
+      return null;
+    }
+    return model.getCurrentPlayer() == Player.RED ? redBot : blueBot;
+  }
+}
@@ -23,8 +23,7 @@ public class StubSanguineController implements StubSanguineControllerInterface,
   private int currentColumn;
   private int currentCard;
 
-  private SanguinePlayer redBot;
-  private SanguinePlayer blueBot;
+  private final BotTurnScheduler botTurns;
 
   /**
    * Represents an instance of this placeholder controller.
@@ -46,18 +45,27 @@ public class StubSanguineController implements StubSanguineControllerInterface,
     currentColumn = -1;
     currentCard = -1;
 
-    redBot = null;
-    blueBot = null;
+    botTurns = new BotTurnScheduler(model, this::refreshViews);
   }
 
   @Override
   public void setRedBot(SanguinePlayer redBot) {
-    this.redBot = redBot;
+    botTurns.setBot(Player.RED, redBot);
   }
 
   @Override
   public void setBlueBot(SanguinePlayer blueBot) {
-    this.blueBot = blueBot;
+    botTurns.setBot(Player.BLUE, blueBot);
+  }
+
+  @Override
+  public void setMaxRefreshesPerSecond(int refreshesPerSecond) {
+    botTurns.setMaxRefreshesPerSecond(refreshesPerSecond);
+  }
+
+  @Override
+  public void setFastForward(boolean fastForward) {
+    botTurns.setFastForward(fastForward);
   }
 
   @Override
@@ -67,9 +75,7 @@ public class StubSanguineController implements StubSanguineControllerInterface,
     blueView.makeVisible();
     redView.makeVisible();
 
-    if (redBot != null) {
-      runBotTurn();
-    }
+    runBotTurn(); // Does nothing unless Red is a bot
   }
 
   @Override
@@ -135,25 +141,15 @@ public class StubSanguineController implements StubSanguineControllerInterface,
     blueView.clearHighlights();
   }
 
-  // Runs the Bot's turn
+  // Runs the Bots' turns, until it is a human's turn or the game is over
   private void runBotTurn() {
-    boolean ranAi = false;
-
-    if (model.getCurrentPlayer() == Player.RED && redBot != null) {
-      redBot.playTurn(model);
-      ranAi = true;
-    } else if (model.getCurrentPlayer() == Player.BLUE && blueBot != null) {
-      blueBot.playTurn(model);
-      ranAi = true;
-    }
-
-    if (ranAi) {
-      redView.refresh();
-      blueView.refresh();
+    botTurns.runBotTurns();
+  }
 
-      // Recursive Call; Ensures that if both players are AI, they continue to play
-      runBotTurn();
-    }
+  // Refreshes both Player's views
+  private void refreshViews() {
+    redView.refresh();
+    blueView.refresh();
   }
 
   @Override
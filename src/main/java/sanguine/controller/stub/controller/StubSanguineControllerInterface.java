@@ -35,4 +35,20 @@ public interface StubSanguineControllerInterface {
    * @param blueBot a SanguinePlayer (a simple AI that play's their turn)
    */
   void setBlueBot(SanguinePlayer blueBot);
+
+  /**
+   * Limits how many times a second the views are refreshed while bots play against each other.
+   *
+   * @param refreshesPerSecond the most refreshes a second, or 0 to refresh after every turn
+   * @throws IllegalArgumentException if the amount is negative
+   */
+  void setMaxRefreshesPerSecond(int refreshesPerSecond);
+
+  /**
+   * Sets whether bots play without the views being refreshed until it is a human's turn or the
+   * game is over.
+   *
+   * @param fastForward true to skip refreshing while bots play
+   */
+  void setFastForward(boolean fastForward);
 }
@@ -0,0 +1,788 @@
+package sanguine.model;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import sanguine.controller.RowScoreListener;
+import sanguine.controller.TurnListener;
+import sanguine.controller.deck.reader.DeckCache;
+import sanguine.controller.deck.reader.DeckValidator;
+import sanguine.model.enums.CellKind;
+import sanguine.model.enums.Player;
+import sanguine.model.enums.Status;
+
+/**
+ * This class holds the rules of sanguine.Sanguine that do not depend on how the board is stored.
+ * Decks, hands, turns, passing and row scores all live here, while the subclasses decide how
+ * Cells are represented and how a Card's influence is spread onto them.
+ *
+ * <p>This class's constructor is protected, therefore, in order to use this abstract class, a
+ * class which extends it must be made (for example BasicSanguine or BitboardSanguine).
+ * All observer methods return a copy, and not the actual reference to the field
+ */
+public abstract class AbstractSanguineModel implements SanguineModel {
+  private CardDeck redDeck;
+  private CardDeck blueDeck;
+  private final CardHand redHand;
+  private final CardHand blueHand;
+  private int[] redRowScores;
+  private int[] blueRowScores;
+  // Running totals of getScore(), updated one row at a time as row scores change
+  private int redScore;
+  private int blueScore;
+  private Status status;
+  private Player currentPlayer;
+  private boolean redPassedLastTurn;
+  private boolean bluePassedLastTurn;
+  // Zobrist hash of the Pawns & Cards on the board, kept up to date as cards are placed
+  private long boardHash;
+
+  protected int numRows;
+  protected int numCols;
+
+  private final List<TurnListener> turnListeners;
+  private final List<RowScoreListener> rowScoreListeners;
+  private final Deque<UndoFrame> undoFrames;
+  private final BoardView boardView;
+
+  /**
+   * Represents a game of sanguine.Sanguine that has not started yet.
+   * This constructor is PROTECTED, meaning only subclasses can access it.
+   */
+  protected AbstractSanguineModel() {
+    this.status = Status.NOT_STARTED;
+    this.currentPlayer = Player.RED;
+    this.redHand = new CardHand(Player.RED);
+    this.blueHand = new CardHand(Player.BLUE);
+    this.redPassedLastTurn = false;
+    this.bluePassedLastTurn = false;
+    this.boardHash = 0;
+    this.numRows = 0;
+    this.numCols = 0;
+    this.turnListeners = new ArrayList<>();
+    this.rowScoreListeners = new ArrayList<>();
+    this.undoFrames = new ArrayDeque<>();
+    this.boardView = new LiveBoardView();
+  }
+
+  /**
+   * Represents a copy of the given game of sanguine.Sanguine.
+   * Decks, hands, row scores, passes and the current Player are copied, so the two games can be
+   * played separately. Turn & row score listeners and the history of applied moves are not copied.
+   * This constructor is PROTECTED, meaning only subclasses can access it (from their copy()).
+   *
+   * @param other the game being copied
+   */
+  protected AbstractSanguineModel(AbstractSanguineModel other) {
+    this.redDeck = (other.redDeck == null) ? null : new CardDeck(other.redDeck);
+    this.blueDeck = (other.blueDeck == null) ? null : new CardDeck(other.blueDeck);
+    this.redHand = new CardHand(other.redHand);
+    this.blueHand = new CardHand(other.blueHand);
+    this.redRowScores = (other.redRowScores == null) ? null : other.redRowScores.clone();
+    this.blueRowScores = (other.blueRowScores == null) ? null : other.blueRowScores.clone();
+    this.redScore = other.redScore;
+    this.blueScore = other.blueScore;
+    this.status = other.status;
+    this.currentPlayer = other.currentPlayer;
+    this.redPassedLastTurn = other.redPassedLastTurn;
+    this.bluePassedLastTurn = other.bluePassedLastTurn;
+    this.boardHash = other.boardHash;
+    this.numRows = other.numRows;
+    this.numCols = other.numCols;
+    this.turnListeners = new ArrayList<>();
+    this.rowScoreListeners = new ArrayList<>();
+    this.undoFrames = new ArrayDeque<>();
+    this.boardView = new LiveBoardView();
+  }
+
+  /**
+   * Creates the board with the given amount of rows and columns.
+   * The first column must hold one red Pawn per Cell, and the last column one blue Pawn per Cell.
+   *
+   * @param numRows number of rows on the board
+   * @param numCols number of columns on the board
+   */
+  protected abstract void initializeBoard(int numRows, int numCols);
+
+  /**
+   * Returns true if the Cell at the given (in bounds) position holds a Card.
+   *
+   * @param row row of the cell
+   * @param col column of the cell
+   * @return if the cell has a Card
+   */
+  protected abstract boolean cellHasCard(int row, int col);
+
+  /**
+   * Returns the amount of Pawns in the Cell at the given (in bounds) position, 0 if there are none.
+   *
+   * @param row row of the cell
+   * @param col column of the cell
+   * @return the amount of Pawns in the cell
+   */
+  protected abstract int cellPawnCount(int row, int col);
+
+  /**
+   * Returns the Player who owns the Pawns in the Cell at the given (in bounds) position.
+   * Only called when the Cell holds at least one Pawn.
+   *
+   * @param row row of the cell
+   * @param col column of the cell
+   * @return the owner of the Pawns in the cell
+   */
+  protected abstract Player cellPawnOwner(int row, int col);
+
+  /**
+   * Returns the Card in the Cell at the given (in bounds) position, null if it has none.
+   *
+   * @param row row of the cell
+   * @param col column of the cell
+   * @return the Card in the cell, or null
+   */
+  protected abstract Card cellCard(int row, int col);
+
+  /**
+   * Returns the Player who placed the Card in the Cell at the given (in bounds) position.
+   * Only called when the Cell holds a Card.
+   *
+   * @param row row of the cell
+   * @param col column of the cell
+   * @return the owner of the Card in the cell
+   */
+  protected abstract Player cellCardOwner(int row, int col);
+
+  /**
+   * Places an already validated Card on the board for the given Player, removes the Pawns that
+   * were in its Cell, and spreads the Card's influence onto the board.
+   *
+   * @param card  the Card being placed
+   * @param row   row of the cell
+   * @param col   column of the cell
+   * @param owner the Player placing the Card
+   */
+  protected abstract void placeCard(Card card, int row, int col, Player owner);
+
+  @Override
+  public void addTurnListener(TurnListener turnListener) {
+    this.turnListeners.add(turnListener);
+  }
+
+  @Override
+  public void addRowScoreListener(RowScoreListener rowScoreListener) {
+    this.rowScoreListeners.add(rowScoreListener);
+  }
+
+  // Notifies the row score listeners that the given row's score changed
+  private void rowScoreChanged(int row) {
+    for (RowScoreListener listener : rowScoreListeners) {
+      listener.rowScoreChanged(row, redRowScores[row], blueRowScores[row]);
+    }
+  }
+
+  // Listens for the next player's turn starting (if there is a subscriber listening)
+  private void nextTurnStarted() {
+    if (turnListeners != null) {
+      for (TurnListener listener : turnListeners) {
+        listener.nextTurnStarted();
+      }
+    }
+  }
+
+  @Override
+  public void startGame(int numRows, int numCols, int handSize, boolean shuffle,
+                        File redDeckFile, File blueDeckFile)
+          throws IllegalArgumentException, IllegalStateException {
+    // Each thread's own generator, so games shuffling on many threads don't share one
+    startFromFiles(numRows, numCols, handSize, shuffle ? ThreadLocalRandom.current() : null,
+            redDeckFile, blueDeckFile);
+  }
+
+  @Override
+  public void startGame(int numRows, int numCols, int handSize, RandomGenerator random,
+                        File redDeckFile, File blueDeckFile)
+          throws IllegalArgumentException, IllegalStateException {
+    if (random == null) {
+      throw new IllegalArgumentException("Random generator cannot be null");
+    }
+    startFromFiles(numRows, numCols, handSize, random, redDeckFile, blueDeckFile);
+  }
+
+  // Starts the game with the decks of the given files, shuffled by random unless it is null
+  private void startFromFiles(int numRows, int numCols, int handSize, RandomGenerator random,
+                              File redDeckFile, File blueDeckFile) {
+    checkBoardSize(numRows, numCols);
+    // the shared DeckCache has already read, checked, and mirrored the decks
+    start(numRows, numCols, handSize, random, DeckCache.shared().deck(redDeckFile),
+            DeckCache.shared().mirroredDeck(blueDeckFile));
+  }
+
+  @Override
+  public void startGame(int numRows, int numCols, int handSize, List<Card> redDeck,
+                        List<Card> blueDeck)
+          throws IllegalArgumentException, IllegalStateException {
+    checkBoardSize(numRows, numCols);
+    if (redDeck == null || blueDeck == null) {
+      throw new IllegalArgumentException("Decks cannot be null");
+    }
+    DeckValidator.validate("Red deck", redDeck);
+    DeckValidator.validate("Blue deck", blueDeck);
+    start(numRows, numCols, handSize, null, redDeck, blueDeck);
+  }
+
+  // Checks the game hasn't started, and the board can be made with the given size
+  private void checkBoardSize(int numRows, int numCols) {
+    if (status == Status.STARTED) {
+      throw new IllegalStateException("Game has already started");
+    }
+    if (numRows <= 0) {
+      throw new IllegalArgumentException("Number of rows must be positive");
+    }
+    if (numCols <= 1 || numCols % 2 == 0) {
+      throw new IllegalArgumentException("Number of columns must be both greater than 1 and odd");
+    }
+  }
+
+  // Starts the game with already checked decks, shuffled by random unless it is null;
+  // each player draws from their own copy
+  private void start(int numRows, int numCols, int handSize, RandomGenerator random,
+                     List<Card> redDeck, List<Card> blueDeck) {
+    this.numRows = numRows;
+    this.numCols = numCols;
+    initializeBoard(numRows, numCols);
+    this.boardHash = hashPawns(0, numRows - 1, 0, numCols - 1);
+    checkValidDeck(redDeck, blueDeck);
+
+    if (handSize <= 0 || redDeck.size() / 3 < handSize) {
+      throw new IllegalArgumentException(
+              "Hands size must both be positive and no more than 1/3rd of the size of the deck");
+    }
+
+    this.status = Status.STARTED;
+
+    List<Card> redOrder = new ArrayList<>(redDeck);
+    List<Card> blueOrder = new ArrayList<>(blueDeck);
+    if (random != null) {
+      Collections.shuffle(redOrder, random);
+      Collections.shuffle(blueOrder, random);
+    }
+    this.redDeck = new CardDeck(Player.RED, redOrder);
+    this.blueDeck = new CardDeck(Player.BLUE, blueOrder);
+    setHands(handSize);
+
+    this.redRowScores = new int[numRows];
+    Arrays.fill(redRowScores, 0);
+    this.blueRowScores = new int[numRows];
+    Arrays.fill(blueRowScores, 0);
+    this.redScore = 0;
+    this.blueScore = 0;
+
+    drawCard(); // First Player draws a card upon their first turn
+
+    nextTurnStarted(); // A turn has started (Red Player's Turn)
+  }
+
+  // Checks if the red & blue decks are valid
+  private void checkValidDeck(List<Card> redDeck, List<Card> blueDeck) {
+    if (redDeck.size() != blueDeck.size()) {
+      throw new IllegalArgumentException("Both player's deck must have the same amount of cards");
+    }
+    if (redDeck.size() < (numRows * numCols)
+            && blueDeck.size() < (numRows * numCols)) {
+      throw new IllegalArgumentException(
+              "Decks must have enough cards to at least fill every cell of the board");
+    }
+  }
+
+  // Sets both the red and blue player's hands
+  private void setHands(int handSize) {
+    // deals the first cards of each deck into the hands
+    for (int index = 0; index < handSize; index++) {
+      redHand.add(redDeck.draw());
+      blueHand.add(blueDeck.draw());
+    }
+  }
+
+  @Override
+  public void playCard(Card card, int row, int col) throws IllegalStateException {
+    checkPlacement(card, row, col);
+
+    endTurnWithPlay(card, row, col, null);
+    rowScoreChanged(row);
+    nextTurnStarted(); // listens that the next player's turn has started
+  }
+
+  // Checks a card can be placed on a cell, throwing the same exceptions playCard() documents
+  private void checkPlacement(Card card, int row, int col) {
+    checkGameStarted();
+    if (card == null) {
+      throw new IllegalArgumentException("Card is null");
+    }
+    checkInBounds(row, col);
+
+    String placementError = placementError(card, row, col);
+    if (placementError != null) {
+      throw new IllegalStateException(placementError);
+    }
+  }
+
+  // Places an already checked card & ends the current player's turn; fills in frame if given
+  private void endTurnWithPlay(Card card, int row, int col, UndoFrame frame) {
+    // adds the card to the chosen cell in the board, removes all the pawns from the cell,
+    // and distributes the card's influence; only Pawns in the 5x5 area around the card can change
+    int top = Math.max(0, row - Card.GRID_CENTER);
+    int bottom = Math.min(numRows - 1, row + Card.GRID_CENTER);
+    int left = Math.max(0, col - Card.GRID_CENTER);
+    int right = Math.min(numCols - 1, col + Card.GRID_CENTER);
+    boardHash ^= hashPawns(top, bottom, left, right);
+    placeCard(card, row, col, currentPlayer);
+    boardHash ^= hashPawns(top, bottom, left, right)
+            ^ ZobristKeys.card(row * numCols + col, card, currentPlayer);
+    // Sets current player's last turn as not passed & updates row score & discards card from hand
+    CardHand hand = (currentPlayer == Player.RED) ? redHand : blueHand;
+    int handIndex = hand.indexOf(card);
+    Card discarded = (handIndex == -1) ? null : hand.remove(handIndex);
+    if (currentPlayer == Player.RED) {
+      redPassedLastTurn = false;
+    } else {
+      bluePassedLastTurn = false;
+    }
+    addToRowScore(currentPlayer, row, card.value());
+    if (frame != null) {
+      frame.handIndex = handIndex;
+      frame.discarded = discarded;
+    }
+    // ends player's turn; other player draws Card upon their turn starting
+    currentPlayer = (currentPlayer == Player.RED) ? Player.BLUE : Player.RED;
+    boolean drew = drawForCurrentPlayer();
+    if (frame != null) {
+      frame.drew = drew;
+    }
+  }
+
+  @Override
+  public void passTurn() throws IllegalStateException {
+    checkGameStarted();
+
+    endTurnWithPass();
+    nextTurnStarted(); // listens that the next player's turn has started
+  }
+
+  // Passes the current player's turn; returns if the next player drew a card
+  private boolean endTurnWithPass() {
+    if (currentPlayer == Player.RED) {
+      redPassedLastTurn = true;
+    } else if (currentPlayer == Player.BLUE) {
+      bluePassedLastTurn = true;
+    }
+
+    currentPlayer = (currentPlayer == Player.RED) ? Player.BLUE : Player.RED;
+    return drawForCurrentPlayer(); // Other player draws Card upon their turn starting
+  }
+
+  @Override
+  public void drawCard() throws IllegalStateException {
+    checkGameStarted();
+
+    drawForCurrentPlayer();
+  }
+
+  // Draws the first card of the current player's deck into their hand; returns if a card was drawn
+  private boolean drawForCurrentPlayer() {
+    CardDeck deck = (currentPlayer == Player.RED) ? redDeck : blueDeck;
+    CardHand hand = (currentPlayer == Player.RED) ? redHand : blueHand;
+
+    if (!deck.isEmpty()) {
+      hand.add(deck.draw());
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public void applyMove(Move move) throws IllegalArgumentException, IllegalStateException {
+    checkGameStarted();
+    if (move == null) {
+      throw new IllegalArgumentException("Move is null");
+    }
+
+    UndoFrame frame = new UndoFrame(move, currentPlayer, redPassedLastTurn, bluePassedLastTurn,
+            boardHash);
+    if (move.isPass()) {
+      frame.drew = endTurnWithPass();
+    } else {
+      checkPlacement(move.card(), move.row(), move.col());
+      saveBoardForUndo(move.row(), move.col());
+      endTurnWithPlay(move.card(), move.row(), move.col(), frame);
+    }
+    undoFrames.push(frame);
+  }
+
+  @Override
+  public void undoMove() throws IllegalStateException {
+    if (undoFrames.isEmpty()) {
+      throw new IllegalStateException("There are no applied moves to undo");
+    }
+    UndoFrame frame = undoFrames.pop();
+
+    // The player whose turn started after the move gives back the card they drew
+    if (frame.drew) {
+      CardDeck deck = (currentPlayer == Player.RED) ? redDeck : blueDeck;
+      CardHand hand = (currentPlayer == Player.RED) ? redHand : blueHand;
+      deck.putBack(hand.removeLast());
+    }
+
+    currentPlayer = frame.player;
+    redPassedLastTurn = frame.redPassed;
+    bluePassedLastTurn = frame.bluePassed;
+    boardHash = frame.boardHash;
+
+    Move move = frame.move;
+    if (!move.isPass()) {
+      CardHand hand = (currentPlayer == Player.RED) ? redHand : blueHand;
+      if (frame.discarded != null) {
+        hand.add(frame.handIndex, frame.discarded);
+      }
+      addToRowScore(currentPlayer, move.row(), -move.card().value());
+      restoreBoardFromUndo();
+    }
+  }
+
+  /**
+   * Remembers the part of the board a card placed on the given cell could change,
+   * so that restoreBoardFromUndo() can put it back. Saves are undone in last in, first out order.
+   *
+   * @param row row of the cell the card will be placed on
+   * @param col column of the cell the card will be placed on
+   */
+  protected abstract void saveBoardForUndo(int row, int col);
+
+  /**
+   * Puts back the part of the board remembered by the most recent saveBoardForUndo() call.
+   */
+  protected abstract void restoreBoardFromUndo();
+
+  /**
+   * This class remembers everything besides the board needed to take back one applied move.
+   */
+  private static final class UndoFrame {
+    private final Move move;
+    private final Player player;
+    private final boolean redPassed;
+    private final boolean bluePassed;
+    private final long boardHash;
+    private int handIndex;
+    private Card discarded;
+    private boolean drew;
+
+    private UndoFrame(Move move, Player player, boolean redPassed, boolean bluePassed,
+                      long boardHash) {
+      this.move = move;
+      this.player = player;
+      this.redPassed = redPassed;
+      this.bluePassed = bluePassed;
+      this.boardHash = boardHash;
+      this.handIndex = -1;
+      this.discarded = null;
+      this.drew = false;
+    }
+  }
+
+  // Returns why a card cannot be placed on an in bounds cell, or null if the placement is legal
+  private String placementError(Card card, int row, int col) {
+    if (cellHasCard(row, col)) {
+      return "Cannot place a card - Another card is on this cell";
+    }
+    int pawnCount = cellPawnCount(row, col);
+    if (pawnCount == 0) {
+      return "Cannot place a card - No pawns on this cell";
+    }
+    if (pawnCount < card.cost()) {
+      return "Cannot place a card - Not enough pawns on this cell";
+    }
+    if (cellPawnOwner(row, col) != currentPlayer) {
+      return "Cannot place a card - Pawns on this cell are not yours, "
+              + "they are " + cellPawnOwner(row, col).getColor() + "'s";
+    }
+    return null;
+  }
+
+  @Override
+  public boolean canPlay(Card card, int row, int col) throws IllegalStateException {
+    checkGameStarted();
+    if (card == null || row < 0 || col < 0 || row > numRows - 1 || col > numCols - 1) {
+      return false;
+    }
+    return placementError(card, row, col) == null;
+  }
+
+  @Override
+  public List<Move> legalMoves() throws IllegalStateException {
+    checkGameStarted();
+    CardHand hand = (currentPlayer == Player.RED) ? redHand : blueHand;
+    List<Move> moves = new ArrayList<>();
+
+    for (int cardIndex = 0; cardIndex < hand.size(); cardIndex++) {
+      Card card = hand.get(cardIndex);
+      if (hand.indexOf(card) < cardIndex) {
+        continue; // an equal card earlier in the hand already gave these placements
+      }
+      for (int row = 0; row < numRows; row++) {
+        for (int col = 0; col < numCols; col++) {
+          if (placementError(card, row, col) == null) {
+            moves.add(Move.play(card, row, col));
+          }
+        }
+      }
+    }
+    return moves;
+  }
+
+  @Override
+  public long zobristHash() throws IllegalStateException {
+    checkGameStarted();
+    long hash = boardHash
+            ^ ZobristKeys.deckSize(Player.RED, redDeck.size())
+            ^ ZobristKeys.deckSize(Player.BLUE, blueDeck.size())
+            ^ redDeck.hash() ^ blueDeck.hash() ^ redHand.hash() ^ blueHand.hash();
+    if (currentPlayer == Player.BLUE) {
+      hash ^= ZobristKeys.BLUE_TO_MOVE;
+    }
+    if (redPassedLastTurn) {
+      hash ^= ZobristKeys.RED_PASSED;
+    }
+    if (bluePassedLastTurn) {
+      hash ^= ZobristKeys.BLUE_PASSED;
+    }
+    return hash;
+  }
+
+  // XOR of the keys of every Pawn in the given rectangle of cells (Cells with Cards are skipped)
+  private long hashPawns(int top, int bottom, int left, int right) {
+    long hash = 0;
+    for (int row = top; row <= bottom; row++) {
+      for (int col = left; col <= right; col++) {
+        if (!cellHasCard(row, col)) {
+          int pawnCount = cellPawnCount(row, col);
+          if (pawnCount > 0) {
+            hash ^= ZobristKeys.pawns(row * numCols + col, cellPawnOwner(row, col), pawnCount);
+          }
+        }
+      }
+    }
+    return hash;
+  }
+
+  // Returns if the given player passed their last turn (used by GameState)
+  boolean passedLastTurn(Player player) {
+    checkGameStarted();
+    return player == Player.RED ? redPassedLastTurn : bluePassedLastTurn;
+  }
+
+  @Override
+  public boolean isGameOver() {
+    checkGameStarted();
+    return redPassedLastTurn && bluePassedLastTurn;
+  }
+
+  // Checks if the game has started
+  @Override
+  public boolean isGameStarted() {
+    return status == Status.STARTED;
+  }
+
+  @Override
+  public List<Card> getRedDeck() throws IllegalStateException {
+    checkGameStarted();
+    return redDeck.toList();
+  }
+
+  @Override
+  public List<Card> getBlueDeck() throws IllegalStateException {
+    checkGameStarted();
+    return blueDeck.toList();
+  }
+
+  @Override
+  public List<Card> getRedHand() throws IllegalStateException {
+    checkGameStarted();
+    return redHand.toList();
+  }
+
+  @Override
+  public List<Card> getBlueHand() throws IllegalStateException {
+    checkGameStarted();
+    return blueHand.toList();
+  }
+
+  @Override
+  public int getBoardSize() throws IllegalStateException {
+    checkGameStarted();
+    return numRows * numCols;
+  }
+
+  @Override
+  public Player getCurrentPlayer() throws IllegalStateException {
+    checkGameStarted();
+    return currentPlayer;
+  }
+
+  @Override
+  public int[] getRedRowScores() throws IllegalStateException {
+    checkGameStarted();
+    return redRowScores.clone(); // the totals are kept from these, so they must not be changed
+  }
+
+  @Override
+  public int[] getBlueRowScores() throws IllegalStateException {
+    checkGameStarted();
+    return blueRowScores.clone();
+  }
+
+  @Override
+  public int[] getScore() throws IllegalStateException {
+    checkGameStarted();
+    return new int[]{redScore, blueScore};
+  }
+
+  // Changes a player's row score, keeping the score totals up to date; only the row's winner
+  // gets its row score, so the row's old contribution is taken out before the new one is added
+  private void addToRowScore(Player player, int row, int amount) {
+    removeRowFromScores(row);
+    if (player == Player.RED) {
+      redRowScores[row] += amount;
+    } else {
+      blueRowScores[row] += amount;
+    }
+    addRowToScores(row);
+  }
+
+  // Takes a row's contribution out of the score totals
+  private void removeRowFromScores(int row) {
+    if (redRowScores[row] > blueRowScores[row]) {
+      redScore -= redRowScores[row];
+    } else if (redRowScores[row] < blueRowScores[row]) {
+      blueScore -= blueRowScores[row];
+    }
+  }
+
+  // Adds a row's contribution to the score totals; a tied row gives nobody points
+  private void addRowToScores(int row) {
+    if (redRowScores[row] > blueRowScores[row]) {
+      redScore += redRowScores[row];
+    } else if (redRowScores[row] < blueRowScores[row]) {
+      blueScore += blueRowScores[row];
+    }
+  }
+
+  @Override
+  public BoardView getBoardView() throws IllegalStateException {
+    checkGameStarted();
+    return boardView;
+  }
+
+  /**
+   * Builds a new Cell holding the same contents as the Cell at the given (in bounds) position.
+   * Changing the new Cell does nothing to the game.
+   *
+   * @param row row of the cell
+   * @param col column of the cell
+   * @return a copy of the cell
+   */
+  protected Cell copyCell(int row, int col) {
+    Cell cell = new Cell();
+    if (cellHasCard(row, col)) {
+      cell.addCard(cellCard(row, col), cellCardOwner(row, col));
+    } else {
+      Player owner = cellPawnOwner(row, col);
+      for (int pawn = 0; pawn < cellPawnCount(row, col); pawn++) {
+        cell.addPawn(owner);
+      }
+    }
+    return cell;
+  }
+
+  /**
+   * This class is the view of this game's board handed out by getBoardView(). It holds no state
+   * of its own, so it always reads the board as it is, and one instance serves the whole game.
+   */
+  private final class LiveBoardView implements BoardView {
+    @Override
+    public int numRows() {
+      return numRows;
+    }
+
+    @Override
+    public int numCols() {
+      return numCols;
+    }
+
+    @Override
+    public CellKind kind(int row, int col) throws IllegalArgumentException {
+      checkInBounds(row, col);
+      if (cellPawnCount(row, col) > 0) {
+        return CellKind.PAWNS;
+      }
+      return cellHasCard(row, col) ? CellKind.CARD : CellKind.EMPTY;
+    }
+
+    @Override
+    public int pawnCount(int row, int col) throws IllegalArgumentException {
+      checkInBounds(row, col);
+      return cellPawnCount(row, col);
+    }
+
+    @Override
+    public Player owner(int row, int col) throws IllegalArgumentException {
+      checkInBounds(row, col);
+      if (cellPawnCount(row, col) > 0) {
+        return cellPawnOwner(row, col);
+      }
+      return cellHasCard(row, col) ? cellCardOwner(row, col) : null;
+    }
+
+    @Override
+    public Card cardOrNull(int row, int col) throws IllegalArgumentException {
+      checkInBounds(row, col);
+      return cellCard(row, col);
+    }
+
+    @Override
+    public Cell[][] snapshot() {
+      Cell[][] board = new Cell[numRows][numCols];
+      for (int row = 0; row < numRows; row++) {
+        for (int col = 0; col < numCols; col++) {
+          board[row][col] = copyCell(row, col);
+        }
+      }
+      return board;
+    }
+  }
+
+  /**
+   * Checks if the given position is a Cell of the board.
+   * If the position is out of bounds, throws an IllegalArgumentException.
+   *
+   * @param row row of the cell
+   * @param col column of the cell
+   */
+  protected void checkInBounds(int row, int col) {
+    if (row < 0 || col < 0 || row > numRows - 1 || col > numCols - 1) {
+      throw new IllegalArgumentException("Cell is out of bounds");
+    }
+  }
+
+  /**
+   * Checks if game has started; If game hasn't started, throws IllegalStateException.
+   */
+  protected void checkGameStarted() {
+    if (!isGameStarted()) {
+      throw new IllegalStateException("Game hasn't started yet");
+    }
+  }
+}
@@ -0,0 +1,182 @@
+package sanguine.model;
+
+import java.util.Arrays;
+import sanguine.model.enums.Player;
+
+/**
+ * This class represents a game of sanguine.Sanguine with the basic ruleset, where the board is
+ * stored as packed primitive arrays instead of a grid of Cell Objects.
+ * Plays and passes give exactly the same results as BasicSanguine.
+ *
+ * <p>Every Cell of the board is one byte in a flat array (indexed by row * numCols + col):
+ *   - bits 0-1: the amount of Pawns in the Cell (0 to 3)
+ *   - bit 2: set if the Pawns are owned by the Blue Player, clear if owned by the Red Player
+ *   - bit 3: set if the Cell holds a Card
+ *   - bit 4: set if the Card is owned by the Blue Player, clear if owned by the Red Player
+ * The placed Cards themselves are kept in a parallel array.
+ * Adding Pawns or flipping their ownership never allocates.
+ *
+ * <p>Since there are no Cell Objects inside this model, getCell() and getBoard() build new Cells
+ * from the packed state every time they are called. Mutating them does nothing to the game.
+ * getBoardView() reads the packed state directly, without building anything.
+ */
+public class BitboardSanguine extends AbstractSanguineModel {
+  static final int PAWN_COUNT_MASK = 0b11;
+  static final int BLUE_PAWNS = 1 << 2;
+  static final int HAS_CARD = 1 << 3;
+  static final int BLUE_CARD = 1 << 4;
+  static final int MAX_PAWNS = 3;
+  static final int WINDOW = Card.GRID_SIZE * Card.GRID_SIZE;
+
+  // INVARIANT: cells and cards are never null, and always have numRows * numCols entries
+  private byte[] cells;
+  private Card[] cards;
+  // Undo stack: for every card placed with applyMove(), its cell index & the 5x5 cells around it
+  private int[] undoIndices;
+  private byte[] undoCells;
+  private int undoDepth;
+
+  /**
+   * Represents a game of sanguine.Sanguine backed by packed arrays.
+   * Sets up game on an empty configurations, which allows for safe initialization
+   */
+  public BitboardSanguine() {
+    super();
+    this.cells = new byte[0];
+    this.cards = new Card[0];
+    this.undoIndices = new int[0];
+    this.undoCells = new byte[0];
+    this.undoDepth = 0;
+  }
+
+  // Represents a copy of the given game, with its own copy of the packed board
+  private BitboardSanguine(BitboardSanguine other) {
+    super(other);
+    this.cells = other.cells.clone();
+    this.cards = other.cards.clone();
+    this.undoIndices = new int[0];
+    this.undoCells = new byte[0];
+    this.undoDepth = 0;
+  }
+
+  @Override
+  public BitboardSanguine copy() {
+    return new BitboardSanguine(this);
+  }
+
+  @Override
+  protected void initializeBoard(int numRows, int numCols) {
+    this.cells = new byte[numRows * numCols];
+    this.cards = new Card[numRows * numCols];
+    for (int row = 0; row < numRows; row++) {
+      cells[row * numCols] = 1;
+      cells[row * numCols + numCols - 1] = 1 | BLUE_PAWNS;
+    }
+  }
+
+  @Override
+  protected boolean cellHasCard(int row, int col) {
+    return (cells[row * numCols + col] & HAS_CARD) != 0;
+  }
+
+  @Override
+  protected int cellPawnCount(int row, int col) {
+    return cells[row * numCols + col] & PAWN_COUNT_MASK;
+  }
+
+  @Override
+  protected Player cellPawnOwner(int row, int col) {
+    return (cells[row * numCols + col] & BLUE_PAWNS) != 0 ? Player.BLUE : Player.RED;
+  }
+
+  @Override
+  protected Card cellCard(int row, int col) {
+    return cards[row * numCols + col];
+  }
+
+  @Override
+  protected Player cellCardOwner(int row, int col) {
+    return (cells[row * numCols + col] & BLUE_CARD) != 0 ? Player.BLUE : Player.RED;
+  }
+
+  @Override
+  protected void placeCard(Card card, int row, int col, Player owner) {
+    int index = row * numCols + col;
+    cards[index] = card;
+    cells[index] = (byte) (owner == Player.BLUE ? HAS_CARD | BLUE_CARD : HAS_CARD);
+
+    // Distributes the card's influence, skipping any position that falls off the board
+    int ownerBit = owner == Player.BLUE ? BLUE_PAWNS : 0;
+    for (int influence = 0; influence < card.influenceCount(); influence++) {
+      int boardRow = row + card.influenceRowOffset(influence);
+      int boardCol = col + card.influenceColOffset(influence);
+      if (boardRow >= 0 && boardRow < numRows && boardCol >= 0 && boardCol < numCols) {
+        influence(boardRow * numCols + boardCol, ownerBit);
+      }
+    }
+  }
+
+  // Spreads one unit of influence onto a cell for the player with the given owner bit
+  private void influence(int index, int ownerBit) {
+    int state = cells[index];
+    if ((state & HAS_CARD) != 0) {
+      return; // influencing a Card does nothing
+    }
+    int pawnCount = state & PAWN_COUNT_MASK;
+    if (pawnCount == 0) {
+      cells[index] = (byte) (1 | ownerBit);
+    } else if ((state & BLUE_PAWNS) != ownerBit) {
+      cells[index] = (byte) (pawnCount | ownerBit); // takes ownership, keeps the amount
+    } else if (pawnCount < MAX_PAWNS) {
+      cells[index] = (byte) (pawnCount + 1 | ownerBit);
+    }
+  }
+
+  // Saves the 5x5 cells around the placed card (the only cells a card can change)
+  @Override
+  protected void saveBoardForUndo(int row, int col) {
+    if (undoDepth == undoIndices.length) {
+      int capacity = Math.max(16, undoIndices.length * 2);
+      undoIndices = Arrays.copyOf(undoIndices, capacity);
+      undoCells = Arrays.copyOf(undoCells, capacity * WINDOW);
+    }
+    undoIndices[undoDepth] = row * numCols + col;
+    for (int window = 0; window < WINDOW; window++) {
+      int savedRow = row + window / Card.GRID_SIZE - Card.GRID_CENTER;
+      int savedCol = col + window % Card.GRID_SIZE - Card.GRID_CENTER;
+      if (savedRow >= 0 && savedRow < numRows && savedCol >= 0 && savedCol < numCols) {
+        undoCells[undoDepth * WINDOW + window] = cells[savedRow * numCols + savedCol];
+      }
+    }
+    undoDepth++;
+  }
+
+  @Override
+  protected void restoreBoardFromUndo() {
+    undoDepth--;
+    int index = undoIndices[undoDepth];
+    int row = index / numCols;
+    int col = index % numCols;
+    for (int window = 0; window < WINDOW; window++) {
+      int savedRow = row + window / Card.GRID_SIZE - Card.GRID_CENTER;
+      int savedCol = col + window % Card.GRID_SIZE - Card.GRID_CENTER;
+      if (savedRow >= 0 && savedRow < numRows && savedCol >= 0 && savedCol < numCols) {
+        cells[savedRow * numCols + savedCol] = undoCells[undoDepth * WINDOW + window];
+      }
+    }
+    cards[index] = null; // a card can only be placed on a cell that had no card
+  }
+
+  @Override
+  public Cell[][] getBoard() throws IllegalStateException {
+    return getBoardView().snapshot();
+  }
+
+  @Override
+  public Cell getCell(int row, int col) throws IllegalArgumentException, IllegalStateException {
+    checkGameStarted();
+    checkInBounds(row, col);
+
+    return copyCell(row, col);
+  }
+}
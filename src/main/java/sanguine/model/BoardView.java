@@ -0,0 +1,79 @@
+package sanguine.model;
+
+import sanguine.model.enums.CellKind;
+import sanguine.model.enums.Player;
+
+/**
+ * Represents a read-only view of the board of a game of sanguine.Sanguine.
+ *
+ * <p>A BoardView reads the game's board as it is right now, so it always shows the latest moves,
+ * and none of its methods build any Object (except snapshot()). This makes it the cheap way to
+ * walk the board in a loop: take the view once, then ask it about each Cell.
+ *
+ * <p>There is no way to change the game through a BoardView. To keep the board as it was at some
+ * point in the game, call snapshot(), which copies every Cell.
+ */
+public interface BoardView {
+
+  /**
+   * Returns the amount of rows on the board.
+   *
+   * @return the amount of rows
+   */
+  int numRows();
+
+  /**
+   * Returns the amount of columns on the board.
+   *
+   * @return the amount of columns
+   */
+  int numCols();
+
+  /**
+   * Returns what the given Cell holds: nothing, Pawns, or a Card.
+   *
+   * @param row row of the cell
+   * @param col column of the cell
+   * @return the kind of contents of the Cell
+   * @throws IllegalArgumentException if row or col are out of bounds
+   */
+  CellKind kind(int row, int col) throws IllegalArgumentException;
+
+  /**
+   * Returns the amount of Pawns in the given Cell, 0 if it has none.
+   *
+   * @param row row of the cell
+   * @param col column of the cell
+   * @return the amount of Pawns in the Cell
+   * @throws IllegalArgumentException if row or col are out of bounds
+   */
+  int pawnCount(int row, int col) throws IllegalArgumentException;
+
+  /**
+   * Returns the Player who owns the given Cell's contents: its Pawns, or its Card.
+   *
+   * @param row row of the cell
+   * @param col column of the cell
+   * @return the owner, or null if the Cell is empty
+   * @throws IllegalArgumentException if row or col are out of bounds
+   */
+  Player owner(int row, int col) throws IllegalArgumentException;
+
+  /**
+   * Returns the Card in the given Cell.
+   *
+   * @param row row of the cell
+   * @param col column of the cell
+   * @return the Card, or null if the Cell has no Card
+   * @throws IllegalArgumentException if row or col are out of bounds
+   */
+  Card cardOrNull(int row, int col) throws IllegalArgumentException;
+
+  /**
+   * Returns a copy of the board as it is right now, which later moves don't change.
+   * Mutating the copy does nothing to the game.
+   *
+   * @return a new grid of new Cells
+   */
+  Cell[][] snapshot();
+}
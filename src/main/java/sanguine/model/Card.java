@@ -8,10 +8,22 @@ import java.util.Objects;
  * All fields are made to be immutable, so once a card is made, it is immutable.
  */
 public class Card implements SanguineCard {
+  public static final int GRID_SIZE = 5;
+  public static final int GRID_CENTER = 2;
+
   private final String name;
   private final int cost;
   private final int value;
   private final String[] influenceGrid;
+  // Compiled once from influenceGrid; bit (row * GRID_SIZE + col) is set where the grid has an I
+  private final int influenceMask;
+  private final byte[] influenceRowOffsets;
+  private final byte[] influenceColOffsets;
+  // The same Card with its influence grid flipped left to right (the other mirrors this one);
+  // a Card whose grid is the same both ways is its own mirror
+  private final Card mirrored;
+  // Cards are immutable, so the hash (which covers the whole influence grid) is computed once
+  private final int hash;
 
   /**
    * Represents an instance of a Card for the game of sanguine.Sanguine.
@@ -36,6 +48,67 @@ public class Card implements SanguineCard {
     this.cost = cost;
     this.value = value;
     this.influenceGrid = Arrays.copyOf(influenceGrid, influenceGrid.length);
+    this.influenceMask = compileInfluenceMask(this.influenceGrid);
+    this.influenceRowOffsets = rowOffsets(influenceMask);
+    this.influenceColOffsets = colOffsets(influenceMask);
+    this.hash = hash(name, cost, value, this.influenceGrid);
+    Card twin = new Card(this);
+    this.mirrored = twin.hash == this.hash && twin.equals(this) ? this : twin;
+  }
+
+  // Builds the mirrored twin of an already validated Card; the twins point at each other
+  private Card(Card original) {
+    this.name = original.name;
+    this.cost = original.cost;
+    this.value = original.value;
+    this.influenceGrid = new String[original.influenceGrid.length];
+    for (int row = 0; row < influenceGrid.length; row++) {
+      influenceGrid[row] = new StringBuilder(original.influenceGrid[row]).reverse().toString();
+    }
+    this.influenceMask = compileInfluenceMask(this.influenceGrid);
+    this.influenceRowOffsets = rowOffsets(influenceMask);
+    this.influenceColOffsets = colOffsets(influenceMask);
+    this.hash = hash(name, cost, value, this.influenceGrid);
+    this.mirrored = original;
+  }
+
+  // The hash of a Card with the given fields
+  private static int hash(String name, int cost, int value, String[] influenceGrid) {
+    return Objects.hash(name, cost, value, Arrays.hashCode(influenceGrid));
+  }
+
+  // Compiles the 5x5 influence grid into a bitmask; anything outside the 5x5 grid is ignored
+  private static int compileInfluenceMask(String[] influenceGrid) {
+    int mask = 0;
+    for (int row = 0; row < Math.min(influenceGrid.length, GRID_SIZE); row++) {
+      String currentRow = influenceGrid[row];
+      for (int col = 0; col < Math.min(currentRow.length(), GRID_SIZE); col++) {
+        if (currentRow.charAt(col) == 'I') {
+          mask |= 1 << (row * GRID_SIZE + col);
+        }
+      }
+    }
+    return mask;
+  }
+
+  // Row offsets (relative to the Card's cell) of every influenced position in the mask
+  private static byte[] rowOffsets(int mask) {
+    byte[] offsets = new byte[Integer.bitCount(mask)];
+    int index = 0;
+    for (int bits = mask; bits != 0; bits &= bits - 1) {
+      offsets[index++] = (byte) (Integer.numberOfTrailingZeros(bits) / GRID_SIZE - GRID_CENTER);
+    }
+    return offsets;
+  }
+
+  // Column offsets (relative to the Card's cell) of every influenced position in the mask
+  private static byte[] colOffsets(int mask) {
+    byte[] offsets = new byte[Integer.bitCount(mask)];
+    int index = 0;
+    for (int bits = mask; bits != 0; bits &= bits - 1) {
+      offsets[index++] = (byte) (Integer.numberOfTrailingZeros(bits) % GRID_SIZE - GRID_CENTER);
+    }
+    return offsets;
   }
 
   @Override
@@ -58,6 +131,31 @@ public class Card implements SanguineCard {
     return Arrays.copyOf(influenceGrid, influenceGrid.length);
   }
 
+  @Override
+  public int influenceMask() {
+    return influenceMask;
+  }
+
+  @Override
+  public int influenceCount() {
+    return influenceRowOffsets.length;
+  }
+
+  @Override
+  public int influenceRowOffset(int index) {
+    return influenceRowOffsets[index];
+  }
+
+  @Override
+  public int influenceColOffset(int index) {
+    return influenceColOffsets[index];
+  }
+
+  @Override
+  public Card mirrored() {
+    return mirrored;
+  }
+
   @Override
   public String toString() {
     StringBuilder card = new StringBuilder();
@@ -76,7 +174,7 @@ public class Card implements SanguineCard {
       return true;
     }
 
-    if (!(o instanceof Card other)) {
+    if (!(o instanceof Card other) || this.hash != other.hash) {
       return false;
     }
 
@@ -86,8 +184,7 @@ public class Card implements SanguineCard {
 
   @Override
   public int hashCode() {
-    int influenceGridHash = Arrays.hashCode(this.influenceGrid);
-    return Objects.hash(this.name, this.cost, this.value, influenceGridHash);
+    return hash;
   }
 
   /**
@@ -0,0 +1,128 @@
+package sanguine.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import sanguine.model.enums.Player;
+
+/**
+ * This class holds a Player's deck as a ring buffer of Card IDs (from CardRegistry.shared()).
+ *
+ * <p>Cards are drawn from the front, and the front moves forward instead of every remaining card
+ * shifting down, so drawing is O(1) whatever the size of the deck. putBack() moves the front back
+ * to undo a draw. The deck never holds more cards than it started with.
+ *
+ * <p>A card stays in the same slot of the buffer until it is drawn (and goes back to it if the
+ * draw is undone), so the deck's Zobrist hash is kept up to date with one key per draw.
+ */
+final class CardDeck {
+  private final Player owner;
+  private final int[] ids;
+  // Index in ids of the next card to draw
+  private int head;
+  private int size;
+  // Sum of the ZobristKeys.deckCard() keys of the cards left
+  private long hash;
+
+  /**
+   * Represents a deck holding the given cards, the first one drawn first.
+   *
+   * @param owner the Player who owns the deck
+   * @param cards the cards of the deck
+   */
+  CardDeck(Player owner, List<Card> cards) {
+    this.owner = owner;
+    this.ids = new int[cards.size()];
+    for (int index = 0; index < ids.length; index++) {
+      ids[index] = CardRegistry.shared().id(cards.get(index));
+      hash += ZobristKeys.deckCard(owner, cards.get(index), index);
+    }
+    this.head = 0;
+    this.size = ids.length;
+  }
+
+  /**
+   * Represents a copy of the given deck, which can be drawn from separately.
+   *
+   * @param other the deck being copied
+   */
+  CardDeck(CardDeck other) {
+    this.owner = other.owner;
+    this.ids = other.ids.clone();
+    this.head = other.head;
+    this.size = other.size;
+    this.hash = other.hash;
+  }
+
+  /**
+   * Returns the amount of cards left in the deck.
+   *
+   * @return the amount of cards
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Returns the Zobrist hash of the cards left in the deck, and the order they are drawn in.
+   *
+   * @return the hash
+   */
+  long hash() {
+    return hash;
+  }
+
+  /**
+   * Returns true if there are no cards left to draw.
+   *
+   * @return if the deck is empty
+   */
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Removes the first card of the deck.
+   *
+   * @return the card drawn (its canonical instance)
+   * @throws IllegalStateException if the deck is empty
+   */
+  Card draw() {
+    if (size == 0) {
+      throw new IllegalStateException("Cannot draw from an empty deck");
+    }
+    Card card = CardRegistry.shared().card(ids[head]);
+    hash -= ZobristKeys.deckCard(owner, card, head);
+    head = (head + 1) % ids.length;
+    size--;
+    return card;
+  }
+
+  /**
+   * Puts a card back on the front of the deck, to be drawn next (used to undo a draw).
+   *
+   * @param card the card
+   * @throws IllegalStateException if the deck already holds as many cards as it started with
+   */
+  void putBack(Card card) {
+    if (size == ids.length) {
+      throw new IllegalStateException("Cannot put back a card that wasn't drawn");
+    }
+    head = (head - 1 + ids.length) % ids.length;
+    ids[head] = CardRegistry.shared().id(card);
+    hash += ZobristKeys.deckCard(owner, card, head);
+    size++;
+  }
+
+  /**
+   * Returns the cards left in the deck, next card to draw first.
+   *
+   * @return a new List of the cards
+   */
+  List<Card> toList() {
+    List<Card> cards = new ArrayList<>(size);
+    for (int index = 0; index < size; index++) {
+      cards.add(CardRegistry.shared().card(ids[(head + index) % ids.length]));
+    }
+    return cards;
+  }
+}
@@ -0,0 +1,156 @@
+package sanguine.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import sanguine.model.enums.Player;
+
+/**
+ * This class holds a Player's hand as a compact array of Cards, in the order they were drawn.
+ *
+ * <p>Cards come into the hand from a CardDeck, so they are the canonical instances from
+ * CardRegistry.shared(); equal cards are the same Object, and indexOf() finds a card with ==
+ * before falling back to equals(). Cards are removed by their index in the hand.
+ * The hand keeps its Zobrist hash up to date as cards come and go.
+ */
+final class CardHand {
+  private final Player owner;
+  private Card[] cards;
+  private int size;
+  // Sum of the ZobristKeys.handCard() keys of the cards in the hand
+  private long hash;
+
+  /**
+   * Represents an empty hand.
+   *
+   * @param owner the Player holding the hand
+   */
+  CardHand(Player owner) {
+    this.owner = owner;
+    this.cards = new Card[8];
+    this.size = 0;
+    this.hash = 0;
+  }
+
+  /**
+   * Represents a copy of the given hand, which can be changed separately.
+   *
+   * @param other the hand being copied
+   */
+  CardHand(CardHand other) {
+    this.owner = other.owner;
+    this.cards = other.cards.clone();
+    this.size = other.size;
+    this.hash = other.hash;
+  }
+
+  /**
+   * Returns the amount of cards in the hand.
+   *
+   * @return the amount of cards
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Returns the Zobrist hash of the cards in the hand (in any order).
+   *
+   * @return the hash
+   */
+  long hash() {
+    return hash;
+  }
+
+  /**
+   * Returns the card at the given index of the hand.
+   *
+   * @param index the index, from 0 to size() - 1
+   * @return the card
+   */
+  Card get(int index) {
+    return cards[index];
+  }
+
+  /**
+   * Returns the index of the first card equal to the given card.
+   *
+   * @param card the card
+   * @return its index, or -1 if no card in the hand is equal to it
+   */
+  int indexOf(Card card) {
+    for (int index = 0; index < size; index++) {
+      if (cards[index] == card) {
+        return index;
+      }
+    }
+    // The card may be an equal copy of one in the hand, rather than the canonical instance
+    for (int index = 0; index < size; index++) {
+      if (cards[index].equals(card)) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Adds a card to the end of the hand.
+   *
+   * @param card the card
+   */
+  void add(Card card) {
+    add(size, card);
+  }
+
+  /**
+   * Adds a card at the given index of the hand, moving the cards from there onwards back by one.
+   *
+   * @param index where the card goes, from 0 to size()
+   * @param card  the card
+   */
+  void add(int index, Card card) {
+    if (size == cards.length) {
+      cards = Arrays.copyOf(cards, cards.length * 2);
+    }
+    System.arraycopy(cards, index, cards, index + 1, size - index);
+    cards[index] = card;
+    size++;
+    hash += ZobristKeys.handCard(owner, card);
+  }
+
+  /**
+   * Removes the card at the given index of the hand.
+   *
+   * @param index the index, from 0 to size() - 1
+   * @return the card removed
+   */
+  Card remove(int index) {
+    Card card = cards[index];
+    System.arraycopy(cards, index + 1, cards, index, size - index - 1);
+    cards[--size] = null;
+    hash -= ZobristKeys.handCard(owner, card);
+    return card;
+  }
+
+  /**
+   * Removes the last card of the hand (the one drawn most recently, if none were played since).
+   *
+   * @return the card removed
+   */
+  Card removeLast() {
+    return remove(size - 1);
+  }
+
+  /**
+   * Returns the cards in the hand, in order.
+   *
+   * @return a new List of the cards
+   */
+  List<Card> toList() {
+    List<Card> list = new ArrayList<>(size);
+    for (int index = 0; index < size; index++) {
+      list.add(cards[index]);
+    }
+    return list;
+  }
+}
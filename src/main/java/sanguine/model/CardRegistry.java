@@ -0,0 +1,131 @@
+package sanguine.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class interns Cards: every distinct Card (by equals()) is given one canonical instance,
+ * and a dense int ID (0, 1, 2, ...) that never changes.
+ *
+ * <p>Once Cards are interned, two of them are the same card exactly when they are the same
+ * Object (or have the same ID), so hands, decks, and strategies can compare them with == or
+ * store them as ints instead of going through equals(), which compares whole influence grids.
+ *
+ * <p>A Card and its mirror are always interned together, so the canonical instance of a mirrored
+ * Card is the mirror of the canonical instance. The registry only grows, and can be used by many
+ * threads at once; shared() returns the one the decks are interned in.
+ */
+public final class CardRegistry {
+  private static final CardRegistry SHARED = new CardRegistry();
+
+  private final ConcurrentHashMap<Card, Integer> ids = new ConcurrentHashMap<>();
+  // Indexed by ID; only grown while holding the lock, and read through a snapshot
+  private volatile Card[] cards = new Card[16];
+  private int size;
+
+  /**
+   * Returns the registry shared by every deck in this process.
+   *
+   * @return the shared registry
+   */
+  public static CardRegistry shared() {
+    return SHARED;
+  }
+
+  /**
+   * Returns the canonical instance of the given Card, registering it if it is new.
+   *
+   * @param card the Card to intern
+   * @return the one instance every Card equal to the given Card interns to
+   * @throws IllegalArgumentException if the card is null
+   */
+  public Card intern(Card card) {
+    // The ID must be found before the array is read, since registering may replace the array
+    int id = id(card);
+    return cards[id];
+  }
+
+  /**
+   * Interns every Card of the given List.
+   *
+   * @param cards the Cards to intern
+   * @return a new List of the canonical instances, in the same order
+   * @throws IllegalArgumentException if the List or any Card in it is null
+   */
+  public List<Card> internAll(List<Card> cards) {
+    if (cards == null) {
+      throw new IllegalArgumentException("Cards cannot be null");
+    }
+    List<Card> interned = new ArrayList<>(cards.size());
+    for (Card card : cards) {
+      interned.add(intern(card));
+    }
+    return interned;
+  }
+
+  /**
+   * Returns the ID of the given Card, registering it if it is new.
+   *
+   * @param card the Card
+   * @return the Card's ID, the same for every Card equal to it
+   * @throws IllegalArgumentException if the card is null
+   */
+  public int id(Card card) {
+    if (card == null) {
+      throw new IllegalArgumentException("Card cannot be null");
+    }
+    Integer id = ids.get(card);
+    return id != null ? id : register(card);
+  }
+
+  /**
+   * Returns the canonical Card with the given ID.
+   *
+   * @param id an ID handed out by this registry
+   * @return the Card with that ID
+   * @throws IllegalArgumentException if no Card has that ID
+   */
+  public Card card(int id) {
+    Card[] snapshot = cards;
+    if (id < 0 || id >= snapshot.length || snapshot[id] == null) {
+      throw new IllegalArgumentException("No card has the ID " + id);
+    }
+    return snapshot[id];
+  }
+
+  /**
+   * Returns the amount of distinct Cards registered so far (which is also the next ID).
+   *
+   * @return the amount of Cards
+   */
+  public synchronized int size() {
+    return size;
+  }
+
+  // Registers a Card (and its mirror) that was not found; another thread may have just done so
+  private synchronized int register(Card card) {
+    Integer id = ids.get(card);
+    if (id != null) {
+      return id;
+    }
+    Card mirrored = card.mirrored();
+    Card[] grown = cards;
+    if (size + 2 > grown.length) {
+      grown = Arrays.copyOf(grown, grown.length * 2);
+    }
+    int cardId = size++;
+    grown[cardId] = card;
+    int mirroredId = cardId;
+    if (mirrored != card) {
+      mirroredId = size++;
+      grown[mirroredId] = mirrored;
+    }
+    // Publishes the array before the IDs, so any ID that can be found can also be looked up
+    cards = grown;
+    ids.put(card, cardId);
+    ids.put(mirrored, mirroredId);
+    return cardId;
+  }
+}
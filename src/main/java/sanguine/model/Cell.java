@@ -2,15 +2,22 @@ package sanguine.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import sanguine.model.enums.CellKind;
 import sanguine.model.enums.Pawn;
 import sanguine.model.enums.Player;
 
 /**
  * This class represents Cells in a board of the game sanguine.Sanguine.
  * A Cell can contain pawns, a card, or nothing (null).
+ *
+ * <p>Since every Pawn in a Cell has the same owner, the Pawns are stored as just their amount and
+ * their owner, so adding Pawns or reading the Cell through kind(), pawnCount(), owner(), and
+ * cardOrNull() never allocates.
  */
 public class Cell implements SanguineCell {
-  private List<Pawn> pawn;
+  // 0 when there are no pawns, in which case pawnOwner is null
+  private int pawnCount;
+  private Player pawnOwner;
   private Card card;
   private Player cardOwner;
 
@@ -23,8 +30,8 @@ public class Cell implements SanguineCell {
     if (pawn == null) {
       throw new IllegalArgumentException("Pawn cannot be null");
     }
-    this.pawn = new ArrayList<>();
-    this.pawn.add(pawn);
+    this.pawnCount = 1;
+    this.pawnOwner = (pawn == Pawn.RED) ? Player.RED : Player.BLUE;
     this.card = null;
     this.cardOwner = null;
   }
@@ -33,15 +40,66 @@ public class Cell implements SanguineCell {
    * Represents an empty instance of a cell.
    */
   public Cell() {
+    this.pawnCount = 0;
+    this.pawnOwner = null;
     this.card = null;
-    this.pawn = null;
     this.cardOwner = null;
   }
 
+  /**
+   * Represents a copy of the given cell, which can be changed separately from it.
+   *
+   * @param other the cell being copied
+   */
+  Cell(Cell other) {
+    restore(other);
+  }
+
+  // Sets this cell's contents to be the same as the given cell's (used to undo moves)
+  void restore(Cell saved) {
+    this.pawnCount = saved.pawnCount;
+    this.pawnOwner = saved.pawnOwner;
+    this.card = saved.card;
+    this.cardOwner = saved.cardOwner;
+  }
+
+  @Override
+  public CellKind kind() {
+    if (pawnCount > 0) {
+      return CellKind.PAWNS;
+    } else if (card != null) {
+      return CellKind.CARD;
+    }
+    return CellKind.EMPTY;
+  }
+
+  @Override
+  public int pawnCount() {
+    return pawnCount;
+  }
+
+  @Override
+  public Player owner() {
+    if (pawnCount > 0) {
+      return pawnOwner;
+    }
+    return cardOwner;
+  }
+
+  @Override
+  public Card cardOrNull() {
+    return card;
+  }
+
   @Override
   public Object getContents() {
-    if (pawn != null) {
-      return new ArrayList<>(pawn);
+    if (pawnCount > 0) {
+      Pawn pawn = (pawnOwner == Player.RED) ? Pawn.RED : Pawn.BLUE;
+      List<Pawn> pawns = new ArrayList<>(pawnCount);
+      for (int count = 0; count < pawnCount; count++) {
+        pawns.add(pawn);
+      }
+      return pawns;
     } else if (card != null) {
       return card;
     }
@@ -50,18 +108,18 @@ public class Cell implements SanguineCell {
 
   @Override
   public int getPawnCount() {
-    if (pawn == null) {
+    if (pawnCount == 0) {
       throw new IllegalStateException("Cannot get Pawn count when there are no pawns");
     }
-    return pawn.size();
+    return pawnCount;
   }
 
   @Override
   public String getPawnColor() {
-    if (pawn == null) {
+    if (pawnCount == 0) {
       throw new IllegalStateException("Cannot get Pawn color when there are no pawns");
     }
-    return pawn.getFirst().getColor();
+    return pawnOwner.getColor();
   }
 
   @Override
@@ -82,35 +140,36 @@ public class Cell implements SanguineCell {
     this.cardOwner = currentPlayer;
   }
 
+  // The first Pawn added decides the owner; a Cell can't hold Pawns of both colors
   @Override
   public void addPawn(Player currentPlayer) {
-    if (pawn == null) {
-      pawn = new ArrayList<>();
-      addCorrectPawn(currentPlayer);
-    } else {
-      addCorrectPawn(currentPlayer);
+    if (currentPlayer == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    if (pawnCount == 0) {
+      pawnOwner = currentPlayer;
     }
+    pawnCount++;
   }
 
-  // Responsible for adding the pawn, with the correct color, to the cell
-  private void addCorrectPawn(Player currentPlayer) {
-    if (currentPlayer.getColor().equals("RED")) {
-      pawn.add(Pawn.RED);
-    } else if (currentPlayer.getColor().equals("BLUE")) {
-      pawn.add(Pawn.BLUE);
+  // Gives every Pawn in this Cell to the given Player, keeping their amount
+  void setPawnOwner(Player owner) {
+    if (pawnCount > 0) {
+      pawnOwner = owner;
     }
   }
 
   @Override
   public void removeAllPawns() {
-    pawn = null;
+    pawnCount = 0;
+    pawnOwner = null;
   }
 
   // Placeholder for now
   @Override
   public String toString() {
-    if (pawn != null) {
-      return pawn.getFirst().getColor() + " PAWNx" + pawn.size();
+    if (pawnCount > 0) {
+      return pawnOwner.getColor() + " PAWNx" + pawnCount;
     } else if (card != null) {
       return "Card: " + card.name();
     }
@@ -0,0 +1,364 @@
+package sanguine.model;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.random.RandomGenerator;
+import sanguine.controller.RowScoreListener;
+import sanguine.controller.TurnListener;
+import sanguine.model.enums.Player;
+
+/**
+ * This class wraps a SanguineModel so it can be used from many threads at once (for example a
+ * Bot's thread, the GUI, spectators, and analytics).
+ *
+ * <p>Moves (and every other change) take a lock, so only one is made at a time. After each change,
+ * a copy of the whole game is published as an immutable snapshot (copy-on-write). Every read is
+ * answered from the latest snapshot, without taking the lock, so readers never wait for a move,
+ * moves never wait for readers, and a reader never sees a move half made.
+ *
+ * <p>Each read method may see a newer snapshot than the last one did. To read several things
+ * about the same position, take snapshot() once and read everything from it.
+ *
+ * <p>Listeners added to this wrapper are told about a change once its snapshot is published, and
+ * after the lock is released (so they may make moves of their own). The wrapped model should be a
+ * new one, that nothing else uses after it is wrapped.
+ */
+public class ConcurrentSanguineModel implements SanguineModel {
+  private static final Snapshot NOT_STARTED = new Snapshot(null);
+
+  private final SanguineModel model;
+  private final ReentrantLock writeLock = new ReentrantLock();
+  private volatile Snapshot snapshot = NOT_STARTED;
+
+  private final List<TurnListener> turnListeners = new CopyOnWriteArrayList<>();
+  private final List<RowScoreListener> rowScoreListeners = new CopyOnWriteArrayList<>();
+  // Filled by the wrapped model's listeners while a change is made (under the lock)
+  private boolean turnEnded;
+  private final List<int[]> rowScoreChanges = new ArrayList<>();
+
+  /**
+   * Represents a thread-safe wrapper of the given model.
+   *
+   * @param model the model being wrapped
+   * @throws IllegalArgumentException if the model is null
+   */
+  public ConcurrentSanguineModel(SanguineModel model) {
+    if (model == null) {
+      throw new IllegalArgumentException("Model cannot be null");
+    }
+    this.model = model;
+    model.addTurnListener(() -> turnEnded = true);
+    model.addRowScoreListener((row, redRowScore, blueRowScore) ->
+            rowScoreChanges.add(new int[]{row, redRowScore, blueRowScore}));
+    publish();
+  }
+
+  /**
+   * Returns the latest position of the game, which never changes (later moves publish a new one).
+   *
+   * @return an immutable snapshot of the game
+   */
+  public ReadOnlySanguineModel snapshot() {
+    return snapshot;
+  }
+
+  @Override
+  public void startGame(int numRows, int numCols, int handSize, boolean shuffle, File redDeck,
+                        File blueDeck) throws IllegalArgumentException, IllegalStateException {
+    write(() -> model.startGame(numRows, numCols, handSize, shuffle, redDeck, blueDeck));
+  }
+
+  @Override
+  public void startGame(int numRows, int numCols, int handSize, RandomGenerator random,
+                        File redDeck, File blueDeck)
+          throws IllegalArgumentException, IllegalStateException {
+    write(() -> model.startGame(numRows, numCols, handSize, random, redDeck, blueDeck));
+  }
+
+  @Override
+  public void startGame(int numRows, int numCols, int handSize, List<Card> redDeck,
+                        List<Card> blueDeck) throws IllegalArgumentException, IllegalStateException {
+    write(() -> model.startGame(numRows, numCols, handSize, redDeck, blueDeck));
+  }
+
+  @Override
+  public void playCard(Card card, int row, int col) throws IllegalStateException {
+    write(() -> model.playCard(card, row, col));
+  }
+
+  @Override
+  public void passTurn() throws IllegalStateException {
+    write(model::passTurn);
+  }
+
+  @Override
+  public void drawCard() throws IllegalStateException {
+    write(model::drawCard);
+  }
+
+  @Override
+  public void applyMove(Move move) throws IllegalArgumentException, IllegalStateException {
+    write(() -> model.applyMove(move));
+  }
+
+  @Override
+  public void undoMove() throws IllegalStateException {
+    write(model::undoMove);
+  }
+
+  @Override
+  public void addTurnListener(TurnListener turnListener) {
+    turnListeners.add(turnListener);
+  }
+
+  @Override
+  public void addRowScoreListener(RowScoreListener rowScoreListener) {
+    rowScoreListeners.add(rowScoreListener);
+  }
+
+  // The copy is independent of this wrapper, and is not thread-safe itself
+  @Override
+  public SanguineModel copy() {
+    Snapshot current = snapshot;
+    if (current.model == null) {
+      writeLock.lock();
+      try {
+        return model.copy();
+      } finally {
+        writeLock.unlock();
+      }
+    }
+    return current.model.copy();
+  }
+
+  @Override
+  public boolean isGameStarted() {
+    return snapshot.isGameStarted();
+  }
+
+  @Override
+  public Player getCurrentPlayer() {
+    return snapshot.getCurrentPlayer();
+  }
+
+  @Override
+  public List<Card> getRedDeck() throws IllegalStateException {
+    return snapshot.getRedDeck();
+  }
+
+  @Override
+  public List<Card> getBlueDeck() throws IllegalStateException {
+    return snapshot.getBlueDeck();
+  }
+
+  @Override
+  public List<Card> getRedHand() throws IllegalStateException {
+    return snapshot.getRedHand();
+  }
+
+  @Override
+  public List<Card> getBlueHand() throws IllegalStateException {
+    return snapshot.getBlueHand();
+  }
+
+  @Override
+  public Cell getCell(int row, int col) throws IllegalArgumentException, IllegalStateException {
+    return snapshot.getCell(row, col);
+  }
+
+  @Override
+  public Cell[][] getBoard() throws IllegalStateException {
+    return snapshot.getBoard();
+  }
+
+  // The view reads one snapshot, so it doesn't show moves made after it was taken
+  @Override
+  public BoardView getBoardView() throws IllegalStateException {
+    return snapshot.getBoardView();
+  }
+
+  @Override
+  public int getBoardSize() throws IllegalStateException {
+    return snapshot.getBoardSize();
+  }
+
+  @Override
+  public int[] getScore() throws IllegalStateException {
+    return snapshot.getScore();
+  }
+
+  @Override
+  public boolean isGameOver() {
+    return snapshot.isGameOver();
+  }
+
+  @Override
+  public int[] getRedRowScores() throws IllegalStateException {
+    return snapshot.getRedRowScores();
+  }
+
+  @Override
+  public int[] getBlueRowScores() throws IllegalStateException {
+    return snapshot.getBlueRowScores();
+  }
+
+  @Override
+  public boolean canPlay(Card card, int row, int col) throws IllegalStateException {
+    return snapshot.canPlay(card, row, col);
+  }
+
+  @Override
+  public List<Move> legalMoves() throws IllegalStateException {
+    return snapshot.legalMoves();
+  }
+
+  @Override
+  public long zobristHash() throws IllegalStateException {
+    return snapshot.zobristHash();
+  }
+
+  // Makes a change under the lock and publishes it, then tells the listeners outside the lock
+  private void write(Runnable change) {
+    boolean notifyTurn;
+    List<int[]> changedRows;
+    writeLock.lock();
+    try {
+      turnEnded = false;
+      rowScoreChanges.clear();
+      try {
+        change.run();
+      } finally {
+        publish();
+      }
+      notifyTurn = turnEnded;
+      changedRows = new ArrayList<>(rowScoreChanges);
+    } finally {
+      writeLock.unlock();
+    }
+
+    for (int[] changedRow : changedRows) {
+      for (RowScoreListener listener : rowScoreListeners) {
+        listener.rowScoreChanged(changedRow[0], changedRow[1], changedRow[2]);
+      }
+    }
+    if (notifyTurn) {
+      for (TurnListener listener : turnListeners) {
+        listener.nextTurnStarted();
+      }
+    }
+  }
+
+  // Publishes a copy of the game as it is now; must hold the lock
+  private void publish() {
+    snapshot = model.isGameStarted() ? new Snapshot(model.copy()) : NOT_STARTED;
+  }
+
+  /**
+   * This class is one published position of the game. The copy it reads is never changed, and
+   * everything handed out is a copy, so readers can't change it either.
+   */
+  private static final class Snapshot implements ReadOnlySanguineModel {
+    // null before the game has started
+    private final SanguineModel model;
+
+    private Snapshot(SanguineModel model) {
+      this.model = model;
+    }
+
+    // The copy of the game, if the game has started
+    private SanguineModel started() {
+      if (model == null) {
+        throw new IllegalStateException("Game hasn't started yet");
+      }
+      return model;
+    }
+
+    @Override
+    public boolean isGameStarted() {
+      return model != null;
+    }
+
+    @Override
+    public Player getCurrentPlayer() {
+      return started().getCurrentPlayer();
+    }
+
+    @Override
+    public List<Card> getRedDeck() throws IllegalStateException {
+      return started().getRedDeck();
+    }
+
+    @Override
+    public List<Card> getBlueDeck() throws IllegalStateException {
+      return started().getBlueDeck();
+    }
+
+    @Override
+    public List<Card> getRedHand() throws IllegalStateException {
+      return started().getRedHand();
+    }
+
+    @Override
+    public List<Card> getBlueHand() throws IllegalStateException {
+      return started().getBlueHand();
+    }
+
+    @Override
+    public Cell getCell(int row, int col) throws IllegalArgumentException, IllegalStateException {
+      return started().getCell(row, col); // the models already hand out a copy
+    }
+
+    @Override
+    public Cell[][] getBoard() throws IllegalStateException {
+      return started().getBoard();
+    }
+
+    @Override
+    public BoardView getBoardView() throws IllegalStateException {
+      return started().getBoardView();
+    }
+
+    @Override
+    public int getBoardSize() throws IllegalStateException {
+      return started().getBoardSize();
+    }
+
+    @Override
+    public int[] getScore() throws IllegalStateException {
+      return started().getScore().clone();
+    }
+
+    @Override
+    public boolean isGameOver() {
+      return started().isGameOver();
+    }
+
+    @Override
+    public int[] getRedRowScores() throws IllegalStateException {
+      return started().getRedRowScores(); // the models already hand out a copy
+    }
+
+    @Override
+    public int[] getBlueRowScores() throws IllegalStateException {
+      return started().getBlueRowScores();
+    }
+
+    @Override
+    public boolean canPlay(Card card, int row, int col) throws IllegalStateException {
+      return started().canPlay(card, row, col);
+    }
+
+    @Override
+    public List<Move> legalMoves() throws IllegalStateException {
+      return started().legalMoves();
+    }
+
+    @Override
+    public long zobristHash() throws IllegalStateException {
+      return started().zobristHash();
+    }
+  }
+}
@@ -0,0 +1,564 @@
+package sanguine.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import sanguine.model.enums.CellKind;
+import sanguine.model.enums.Player;
+
+/**
+ * This record is one whole position of a game of sanguine.Sanguine (the board, both hands, both
+ * decks, whose turn it is, and who passed last turn) as an immutable value.
+ *
+ * <p>Since it never changes, a GameState can be shared freely (between threads, search branches,
+ * undo and replay histories, or spectators) without being copied, and two equal positions are
+ * equal GameStates, so it can be used as a map key.
+ *
+ * <p>play() and pass() return a new GameState, following the same rules as the models, and share
+ * everything they didn't change with the old one (structural sharing):
+ *   - the board is a list of immutable Rows; placing a card only copies the (at most 5) Rows its
+ *     influence reaches, every other Row is the same Object in both states
+ *   - drawing a card doesn't copy the deck, the new deck is a view of the old one without its
+ *     first card
+ * Row scores are kept in each Row, so they are shared the same way.
+ *
+ * @param board         the Rows of the board, from top to bottom
+ * @param redHand       the Red Player's hand
+ * @param blueHand      the Blue Player's hand
+ * @param redDeck       the Red Player's deck, next card to draw first
+ * @param blueDeck      the Blue Player's deck, next card to draw first
+ * @param currentPlayer the Player whose turn it is
+ * @param redPassed     if the Red Player passed their last turn
+ * @param bluePassed    if the Blue Player passed their last turn
+ */
+public record GameState(List<Row> board, List<Card> redHand, List<Card> blueHand,
+                        List<Card> redDeck, List<Card> blueDeck, Player currentPlayer,
+                        boolean redPassed, boolean bluePassed) {
+
+  /**
+   * Represents a position with the given contents. Lists that aren't already part of a GameState
+   * are copied, so changing them afterwards does not change the position.
+   *
+   * @throws IllegalArgumentException if any argument is null, a list holds null, the board has
+   *                                  no Rows, or its Rows aren't all the same width
+   */
+  public GameState {
+    if (board == null || redHand == null || blueHand == null || redDeck == null
+            || blueDeck == null || currentPlayer == null) {
+      throw new IllegalArgumentException("Arguments cannot be null");
+    }
+    board = Frozen.of(board);
+    redHand = Frozen.of(redHand);
+    blueHand = Frozen.of(blueHand);
+    redDeck = Frozen.of(redDeck);
+    blueDeck = Frozen.of(blueDeck);
+    if (board.isEmpty()) {
+      throw new IllegalArgumentException("Board must have at least one row");
+    }
+    for (Row row : board) {
+      if (row.width() != board.getFirst().width()) {
+        throw new IllegalArgumentException("Every row of the board must be the same width");
+      }
+    }
+  }
+
+  /**
+   * Factory Method.
+   * Builds the position the given game is in now.
+   *
+   * @param model a started game (BasicSanguine, BitboardSanguine, or a model whose copy() is one
+   *              of them, like ConcurrentSanguineModel)
+   * @return the game's position
+   * @throws IllegalArgumentException if the model is null, or not one of those models
+   * @throws IllegalStateException    if the game hasn't started
+   */
+  public static GameState of(ReadOnlySanguineModel model) {
+    if (model == null) {
+      throw new IllegalArgumentException("Model cannot be null");
+    }
+    AbstractSanguineModel game = gameOf(model);
+    BoardView cells = game.getBoardView();
+    List<Row> board = new ArrayList<>(cells.numRows());
+    for (int row = 0; row < cells.numRows(); row++) {
+      board.add(Row.of(cells, row));
+    }
+    return new GameState(board, game.getRedHand(), game.getBlueHand(), game.getRedDeck(),
+            game.getBlueDeck(), game.getCurrentPlayer(), game.passedLastTurn(Player.RED),
+            game.passedLastTurn(Player.BLUE));
+  }
+
+  // The model itself, or a copy of it, as one of this package's models (which know who passed)
+  private static AbstractSanguineModel gameOf(ReadOnlySanguineModel model) {
+    if (model instanceof AbstractSanguineModel game) {
+      return game;
+    }
+    if (model instanceof SanguineModel game && game.copy() instanceof AbstractSanguineModel copy) {
+      return copy;
+    }
+    throw new IllegalArgumentException("Model must be (or copy to) one of Sanguine's models");
+  }
+
+  /**
+   * Returns the amount of rows on the board.
+   *
+   * @return the amount of rows
+   */
+  public int numRows() {
+    return board.size();
+  }
+
+  /**
+   * Returns the amount of columns on the board.
+   *
+   * @return the amount of columns
+   */
+  public int numCols() {
+    return board.getFirst().width();
+  }
+
+  /**
+   * Returns true if both Players passed their last turn.
+   *
+   * @return if the game is over
+   */
+  public boolean isGameOver() {
+    return redPassed && bluePassed;
+  }
+
+  /**
+   * Returns both Players' score; a row's score only goes to the Player who wins that row.
+   *
+   * @return Red's & Blue's scores (in that order)
+   */
+  public int[] score() {
+    int red = 0;
+    int blue = 0;
+    for (Row row : board) {
+      if (row.redScore() > row.blueScore()) {
+        red += row.redScore();
+      } else if (row.blueScore() > row.redScore()) {
+        blue += row.blueScore();
+      }
+    }
+    return new int[]{red, blue};
+  }
+
+  /**
+   * Returns the hand of the Player whose turn it is.
+   *
+   * @return the current Player's hand
+   */
+  public List<Card> currentHand() {
+    return currentPlayer == Player.RED ? redHand : blueHand;
+  }
+
+  /**
+   * Returns true if the current Player could place the given card on the given cell.
+   *
+   * @param card the card
+   * @param row  row of the cell
+   * @param col  column of the cell
+   * @return if the placement is legal (false for a null card or a cell off the board)
+   */
+  public boolean canPlay(Card card, int row, int col) {
+    if (card == null || row < 0 || col < 0 || row >= numRows() || col >= numCols()) {
+      return false;
+    }
+    return placementError(card, row, col) == null;
+  }
+
+  /**
+   * Returns every legal placement for the current Player, in the same order as the models'
+   * legalMoves() (passing is always legal too, and is not included).
+   *
+   * @return the legal placements
+   */
+  public List<Move> legalMoves() {
+    List<Card> hand = currentHand();
+    List<Move> moves = new ArrayList<>();
+    for (int cardIndex = 0; cardIndex < hand.size(); cardIndex++) {
+      Card card = hand.get(cardIndex);
+      if (hand.subList(0, cardIndex).contains(card)) {
+        continue; // an equal card earlier in the hand already gave these placements
+      }
+      for (int row = 0; row < numRows(); row++) {
+        for (int col = 0; col < numCols(); col++) {
+          if (placementError(card, row, col) == null) {
+            moves.add(Move.play(card, row, col));
+          }
+        }
+      }
+    }
+    return moves;
+  }
+
+  /**
+   * Returns the position after the current Player makes the given move.
+   *
+   * @param move the move (a placement or a pass)
+   * @return the new position; this one is unchanged
+   * @throws IllegalArgumentException if the move is null, or places a card off the board
+   * @throws IllegalStateException    if the card cannot be placed on that cell
+   */
+  public GameState play(Move move) {
+    if (move == null) {
+      throw new IllegalArgumentException("Move is null");
+    }
+    if (move.isPass()) {
+      return pass();
+    }
+
+    Card card = move.card();
+    int row = move.row();
+    int col = move.col();
+    if (row < 0 || col < 0 || row >= numRows() || col >= numCols()) {
+      throw new IllegalArgumentException("Cell is out of bounds");
+    }
+    String placementError = placementError(card, row, col);
+    if (placementError != null) {
+      throw new IllegalStateException(placementError);
+    }
+
+    List<Card> hand = currentHand();
+    int handIndex = hand.indexOf(card);
+    if (handIndex != -1) {
+      hand = Frozen.without(hand, handIndex);
+    }
+    List<Card> newRedHand = currentPlayer == Player.RED ? hand : redHand;
+    List<Card> newBlueHand = currentPlayer == Player.BLUE ? hand : blueHand;
+    return nextTurn(place(card, row, col), newRedHand, newBlueHand,
+            currentPlayer == Player.RED ? false : redPassed,
+            currentPlayer == Player.BLUE ? false : bluePassed);
+  }
+
+  /**
+   * Returns the position after the current Player passes their turn.
+   *
+   * @return the new position; this one is unchanged
+   */
+  public GameState pass() {
+    return nextTurn(board, redHand, blueHand, redPassed || currentPlayer == Player.RED,
+            bluePassed || currentPlayer == Player.BLUE);
+  }
+
+  // Hands the turn to the other Player, who draws the first card of their deck (if any)
+  private GameState nextTurn(List<Row> board, List<Card> redHand, List<Card> blueHand,
+                             boolean redPassed, boolean bluePassed) {
+    Player next = currentPlayer == Player.RED ? Player.BLUE : Player.RED;
+    List<Card> redDeck = this.redDeck;
+    List<Card> blueDeck = this.blueDeck;
+    if (next == Player.RED && !redDeck.isEmpty()) {
+      redHand = Frozen.with(redHand, redDeck.getFirst());
+      redDeck = Frozen.withoutFirst(redDeck);
+    } else if (next == Player.BLUE && !blueDeck.isEmpty()) {
+      blueHand = Frozen.with(blueHand, blueDeck.getFirst());
+      blueDeck = Frozen.withoutFirst(blueDeck);
+    }
+    return new GameState(board, redHand, blueHand, redDeck, blueDeck, next, redPassed,
+            bluePassed);
+  }
+
+  // The board after the current Player places the card; only the Rows that change are copied
+  private List<Row> place(Card card, int row, int col) {
+    byte[][] changedCells = new byte[numRows()][];
+    int ownerBit = currentPlayer == Player.BLUE ? BitboardSanguine.BLUE_PAWNS : 0;
+    for (int influence = 0; influence < card.influenceCount(); influence++) {
+      int boardRow = row + card.influenceRowOffset(influence);
+      int boardCol = col + card.influenceColOffset(influence);
+      if (boardRow >= 0 && boardRow < numRows() && boardCol >= 0 && boardCol < numCols()) {
+        if (changedCells[boardRow] == null) {
+          changedCells[boardRow] = board.get(boardRow).cells.clone();
+        }
+        influence(changedCells[boardRow], boardCol, ownerBit);
+      }
+    }
+    if (changedCells[row] == null) {
+      changedCells[row] = board.get(row).cells.clone();
+    }
+    changedCells[row][col] = (byte) (currentPlayer == Player.BLUE
+            ? BitboardSanguine.HAS_CARD | BitboardSanguine.BLUE_CARD : BitboardSanguine.HAS_CARD);
+
+    Row[] rows = board.toArray(new Row[0]);
+    for (int changed = 0; changed < rows.length; changed++) {
+      if (changedCells[changed] == null) {
+        continue;
+      }
+      Row old = rows[changed];
+      if (changed == row) {
+        Card[] cards = old.cards.clone();
+        cards[col] = card;
+        rows[changed] = new Row(changedCells[changed], cards,
+                old.redScore + (currentPlayer == Player.RED ? card.value() : 0),
+                old.blueScore + (currentPlayer == Player.BLUE ? card.value() : 0));
+      } else {
+        rows[changed] = new Row(changedCells[changed], old.cards, old.redScore, old.blueScore);
+      }
+    }
+    return new Frozen<>(rows, 0);
+  }
+
+  // Spreads one unit of influence onto a cell (the same way BitboardSanguine does)
+  private static void influence(byte[] cells, int col, int ownerBit) {
+    int state = cells[col];
+    if ((state & BitboardSanguine.HAS_CARD) != 0) {
+      return; // influencing a Card does nothing
+    }
+    int pawnCount = state & BitboardSanguine.PAWN_COUNT_MASK;
+    if (pawnCount == 0) {
+      cells[col] = (byte) (1 | ownerBit);
+    } else if ((state & BitboardSanguine.BLUE_PAWNS) != ownerBit) {
+      cells[col] = (byte) (pawnCount | ownerBit); // takes ownership, keeps the amount
+    } else if (pawnCount < BitboardSanguine.MAX_PAWNS) {
+      cells[col] = (byte) (pawnCount + 1 | ownerBit);
+    }
+  }
+
+  // Returns why a card cannot be placed on an in bounds cell, or null if the placement is legal
+  private String placementError(Card card, int row, int col) {
+    if (card == null) {
+      return "Card is null";
+    }
+    Row cells = board.get(row);
+    if (cells.card(col) != null) {
+      return "Cannot place a card - Another card is on this cell";
+    }
+    int pawnCount = cells.pawnCount(col);
+    if (pawnCount == 0) {
+      return "Cannot place a card - No pawns on this cell";
+    }
+    if (pawnCount < card.cost()) {
+      return "Cannot place a card - Not enough pawns on this cell";
+    }
+    if (cells.pawnOwner(col) != currentPlayer) {
+      return "Cannot place a card - Pawns on this cell are not yours, "
+              + "they are " + cells.pawnOwner(col).getColor() + "'s";
+    }
+    return null;
+  }
+
+  /**
+   * This class is one immutable row of the board, along with both Players' score for it.
+   * Each cell is packed into a byte the same way BitboardSanguine packs it.
+   */
+  public static final class Row {
+    private final byte[] cells;
+    private final Card[] cards;
+    private final int redScore;
+    private final int blueScore;
+    private final int hash;
+
+    // The arrays are owned by this Row from now on, and never changed
+    private Row(byte[] cells, Card[] cards, int redScore, int blueScore) {
+      this.cells = cells;
+      this.cards = cards;
+      this.redScore = redScore;
+      this.blueScore = blueScore;
+      this.hash = 31 * Arrays.hashCode(cells) + Arrays.hashCode(cards);
+    }
+
+    // Builds the Row holding the same contents as the given row of the board
+    private static Row of(BoardView board, int row) {
+      byte[] cells = new byte[board.numCols()];
+      Card[] cards = new Card[board.numCols()];
+      int redScore = 0;
+      int blueScore = 0;
+      for (int col = 0; col < cells.length; col++) {
+        CellKind kind = board.kind(row, col);
+        if (kind == CellKind.CARD) {
+          boolean blue = board.owner(row, col) == Player.BLUE;
+          cards[col] = board.cardOrNull(row, col);
+          cells[col] = (byte) (blue ? BitboardSanguine.HAS_CARD | BitboardSanguine.BLUE_CARD
+                  : BitboardSanguine.HAS_CARD);
+          if (blue) {
+            blueScore += cards[col].value();
+          } else {
+            redScore += cards[col].value();
+          }
+        } else if (kind == CellKind.PAWNS) {
+          boolean blue = board.owner(row, col) == Player.BLUE;
+          cells[col] = (byte) (board.pawnCount(row, col)
+                  | (blue ? BitboardSanguine.BLUE_PAWNS : 0));
+        }
+      }
+      return new Row(cells, cards, redScore, blueScore);
+    }
+
+    /**
+     * Returns the amount of cells in this row.
+     *
+     * @return the width of the row
+     */
+    public int width() {
+      return cells.length;
+    }
+
+    /**
+     * Returns the amount of Pawns on the given cell (0 if it has none, or has a Card).
+     *
+     * @param col column of the cell
+     * @return the amount of Pawns
+     */
+    public int pawnCount(int col) {
+      return cells[col] & BitboardSanguine.PAWN_COUNT_MASK;
+    }
+
+    /**
+     * Returns the owner of the Pawns on the given cell.
+     *
+     * @param col column of the cell
+     * @return the owner, or null if the cell has no Pawns
+     */
+    public Player pawnOwner(int col) {
+      if (pawnCount(col) == 0) {
+        return null;
+      }
+      return (cells[col] & BitboardSanguine.BLUE_PAWNS) != 0 ? Player.BLUE : Player.RED;
+    }
+
+    /**
+     * Returns the Card on the given cell.
+     *
+     * @param col column of the cell
+     * @return the Card, or null if the cell has no Card
+     */
+    public Card card(int col) {
+      return cards[col];
+    }
+
+    /**
+     * Returns the owner of the Card on the given cell.
+     *
+     * @param col column of the cell
+     * @return the owner, or null if the cell has no Card
+     */
+    public Player cardOwner(int col) {
+      if (cards[col] == null) {
+        return null;
+      }
+      return (cells[col] & BitboardSanguine.BLUE_CARD) != 0 ? Player.BLUE : Player.RED;
+    }
+
+    /**
+     * Returns the Red Player's score for this row (the value of their Cards on it).
+     *
+     * @return Red's row score
+     */
+    public int redScore() {
+      return redScore;
+    }
+
+    /**
+     * Returns the Blue Player's score for this row (the value of their Cards on it).
+     *
+     * @return Blue's row score
+     */
+    public int blueScore() {
+      return blueScore;
+    }
+
+    // Row scores come from the Cards, so comparing the cells & Cards is enough
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Row other) || this.hash != other.hash) {
+        return false;
+      }
+      return Arrays.equals(this.cells, other.cells) && Arrays.equals(this.cards, other.cards);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder row = new StringBuilder("[");
+      for (int col = 0; col < cells.length; col++) {
+        if (col > 0) {
+          row.append(", ");
+        }
+        if (cards[col] != null) {
+          row.append(cardOwner(col).getColor()).append(' ').append(cards[col].name());
+        } else if (pawnCount(col) > 0) {
+          row.append(pawnOwner(col).getColor()).append(" PAWNx").append(pawnCount(col));
+        } else {
+          row.append("___");
+        }
+      }
+      return row.append(']').toString();
+    }
+  }
+
+  /**
+   * This class is an unmodifiable list over part of an array that is never changed, so lists
+   * made from each other (like a deck and the same deck after a draw) can share one array.
+   */
+  private static final class Frozen<T> extends AbstractList<T> implements RandomAccess {
+    private final T[] items;
+    private final int from;
+
+    private Frozen(T[] items, int from) {
+      this.items = items;
+      this.from = from;
+    }
+
+    // The given list, or an unmodifiable copy of it if it isn't already one of these
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> of(List<T> list) {
+      if (list instanceof Frozen<T>) {
+        return list;
+      }
+      T[] items = (T[]) list.toArray();
+      for (T item : items) {
+        if (item == null) {
+          throw new IllegalArgumentException("Lists cannot hold null");
+        }
+      }
+      return new Frozen<>(items, 0);
+    }
+
+    // The list without its first item, sharing this list's array
+    private static <T> List<T> withoutFirst(List<T> list) {
+      Frozen<T> frozen = (Frozen<T>) list;
+      return new Frozen<>(frozen.items, frozen.from + 1);
+    }
+
+    // A copy of the list without the item at the given index
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> without(List<T> list, int index) {
+      Object[] items = new Object[list.size() - 1];
+      for (int item = 0, copied = 0; item < list.size(); item++) {
+        if (item != index) {
+          items[copied++] = list.get(item);
+        }
+      }
+      return new Frozen<>((T[]) items, 0);
+    }
+
+    // A copy of the list with the given item added to its end
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> with(List<T> list, T added) {
+      Object[] items = Arrays.copyOf(list.toArray(), list.size() + 1);
+      items[list.size()] = added;
+      return new Frozen<>((T[]) items, 0);
+    }
+
+    @Override
+    public T get(int index) {
+      if (index < 0 || index >= size()) {
+        throw new IndexOutOfBoundsException("Index " + index + " out of bounds");
+      }
+      return items[from + index];
+    }
+
+    @Override
+    public int size() {
+      return items.length - from;
+    }
+  }
+}
@@ -0,0 +1,119 @@
+package sanguine.model;
+
+import java.util.Objects;
+
+/**
+ * This class represents a single move in a game of sanguine.Sanguine.
+ * A move is either placing a Card on a Cell of the board, or passing the turn.
+ * All fields are made to be immutable, so once a move is made, it is immutable.
+ */
+public final class Move {
+  private static final Move PASS = new Move(null, -1, -1);
+
+  private final Card card;
+  private final int row;
+  private final int col;
+
+  /**
+   * Represents an instance of a Move for the game of sanguine.Sanguine.
+   *
+   * @param card the card being placed (null when passing)
+   * @param row  the row of the cell (-1 when passing)
+   * @param col  the column of the cell (-1 when passing)
+   */
+  private Move(Card card, int row, int col) {
+    this.card = card;
+    this.row = row;
+    this.col = col;
+  }
+
+  /**
+   * Factory Method.
+   * Builds the move of placing a card on the cell at the given row & column.
+   *
+   * @param card the card being placed
+   * @param row  the row of the cell
+   * @param col  the column of the cell
+   * @return the move
+   * @throws IllegalArgumentException if the card is null
+   */
+  public static Move play(Card card, int row, int col) {
+    if (card == null) {
+      throw new IllegalArgumentException("Card cannot be null");
+    }
+    return new Move(card, row, col);
+  }
+
+  /**
+   * Factory Method.
+   * Returns the move of passing the turn. There is only ever one pass move.
+   *
+   * @return the pass move
+   */
+  public static Move pass() {
+    return PASS;
+  }
+
+  /**
+   * Returns true if this move passes the turn instead of placing a card.
+   *
+   * @return if this move is a pass
+   */
+  public boolean isPass() {
+    return card == null;
+  }
+
+  /**
+   * Returns the card being placed, or null if this move is a pass.
+   *
+   * @return the card of this move
+   */
+  public Card card() {
+    return card;
+  }
+
+  /**
+   * Returns the row of the cell the card is placed on, or -1 if this move is a pass.
+   *
+   * @return the row of this move
+   */
+  public int row() {
+    return row;
+  }
+
+  /**
+   * Returns the column of the cell the card is placed on, or -1 if this move is a pass.
+   *
+   * @return the column of this move
+   */
+  public int col() {
+    return col;
+  }
+
+  @Override
+  public String toString() {
+    if (isPass()) {
+      return "Pass";
+    }
+    return card.name() + " on cell [" + row + ", " + col + "]";
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (!(o instanceof Move other)) {
+      return false;
+    }
+
+    return Objects.equals(this.card, other.card) && this.row == other.row
+            && this.col == other.col;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.card, this.row, this.col);
+  }
+}
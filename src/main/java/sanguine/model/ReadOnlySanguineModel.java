@@ -93,6 +93,16 @@ public interface ReadOnlySanguineModel {
    */
   Cell[][] getBoard() throws IllegalStateException;
 
+  /**
+   * Returns a read-only view of the board, which always shows the board as it is right now.
+   * Reading the board through the view builds nothing, unlike getBoard() and getCell(), which
+   * copy the Cells they return.
+   *
+   * @return a view of the board
+   * @throws IllegalStateException if game hasn't started
+   */
+  BoardView getBoardView() throws IllegalStateException;
+
   /**
    * Returns how many cells are contained within the board,
    * doesn't matter what is in the cells.
@@ -144,7 +154,7 @@ public interface ReadOnlySanguineModel {
   /**
    * Returns the row scores for each row for the Red Player.
    *
-   * @return Red's row scores
+   * @return a copy of Red's row scores, which can be changed without changing the game
    * @throws IllegalStateException if the game hasn't started
    */
   int[] getRedRowScores() throws IllegalStateException;
@@ -152,8 +162,48 @@ public interface ReadOnlySanguineModel {
   /**
    * Returns the row scores for each row for the Blue Player.
    *
-   * @return Blue's row scores
+   * @return a copy of Blue's row scores, which can be changed without changing the game
    * @throws IllegalStateException if the game hasn't started
    */
   int[] getBlueRowScores() throws IllegalStateException;
+
+  /**
+   * Returns true if the current Player could place the given Card on the given Cell right now.
+   * Follows exactly the same rules as playCard(), but never throws for an illegal placement,
+   * which makes it cheap to call on every Cell of the board.
+   *
+   * <p>A null Card or a Cell outside the board can never be played, so they return false.
+   *
+   * @param card the chosen card
+   * @param row  the chosen row
+   * @param col  the chosen column
+   * @return if the placement is legal
+   * @throws IllegalStateException if the game hasn't started
+   */
+  boolean canPlay(Card card, int row, int col) throws IllegalStateException;
+
+  /**
+   * Returns every legal placement the current Player can make with the cards in their hand.
+   * Placements are ordered by the card's position in the hand, then by row, then by column.
+   * Equal cards in the hand only appear once. Passing is always legal, so it is not included.
+   *
+   * @return the legal placements of the current Player
+   * @throws IllegalStateException if the game hasn't started
+   */
+  List<Move> legalMoves() throws IllegalStateException;
+
+  /**
+   * Returns the 64-bit Zobrist hash of the game as it is right now.
+   * The hash covers the Pawns (owner & amount) and Cards (and who placed them) on every Cell,
+   * whose turn it is, which Players passed their last turn, the Cards in each hand, and the Cards
+   * left in each deck (in the order they will be drawn). Two games in the same state always have
+   * the same hash, and the hash is kept up to date as moves are made, so calling this is cheap.
+   *
+   * <p>Different states can share a hash, but it is very unlikely, so searches use the hash to
+   * recognize positions they have already looked at.
+   *
+   * @return the hash of the game
+   * @throws IllegalStateException if the game hasn't started
+   */
+  long zobristHash() throws IllegalStateException;
 }
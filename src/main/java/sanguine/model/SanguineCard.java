@@ -37,4 +37,48 @@ public interface SanguineCard {
    * @return the influence grid of the card
    */
   String[] influenceGrid();
+
+  /**
+   * Returns the influence grid compiled into a bitmask.
+   * Bit (row * 5 + col) is set when the influence grid has influence (an I) at that row & column,
+   * so the Card's own cell (row 2, column 2) is bit 12. Only the 5x5 grid is compiled.
+   *
+   * @return the influence mask of the card
+   */
+  int influenceMask();
+
+  /**
+   * Returns how many cells this card influences.
+   *
+   * @return the amount of influenced cells
+   */
+  int influenceCount();
+
+  /**
+   * Returns how many rows away from the card the influenced cell at the given index is.
+   * Negative offsets are above the card, positive offsets are below it.
+   *
+   * @param index index of the influenced cell, between 0 and influenceCount() - 1
+   * @return the row offset of the influenced cell
+   */
+  int influenceRowOffset(int index);
+
+  /**
+   * Returns how many columns away from the card the influenced cell at the given index is.
+   * Negative offsets are left of the card, positive offsets are right of it.
+   *
+   * @param index index of the influenced cell, between 0 and influenceCount() - 1
+   * @return the column offset of the influenced cell
+   */
+  int influenceColOffset(int index);
+
+  /**
+   * Returns this card with its influence grid flipped left to right, which is how the Blue
+   * Player sees it. The mirrored card is built once, so this never creates a new card,
+   * and mirroring the mirrored card gives back the original. A card whose influence grid
+   * is the same either way is its own mirror.
+   *
+   * @return the mirrored card
+   */
+  SanguineCard mirrored();
 }
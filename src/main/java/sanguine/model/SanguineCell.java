@@ -1,5 +1,6 @@
 package sanguine.model;
 
+import sanguine.model.enums.CellKind;
 import sanguine.model.enums.Player;
 
 /**
@@ -8,9 +9,42 @@ import sanguine.model.enums.Player;
  *
  * <p>A Cell cannot contain Pawns of different colors. For example, if a Cell contains a red Pawn,
  * only other red Pawns can be added to the Cell, not any blue Pawns.
+ *
+ * <p>kind(), pawnCount(), owner(), and cardOrNull() read a Cell without building any Object or
+ * throwing, so they are the ones to use in loops over the board (getContents() builds a new List
+ * of Pawns every time it is called).
  */
 public interface SanguineCell {
 
+  /**
+   * Returns what this Cell holds: nothing, Pawns, or a Card.
+   *
+   * @return the kind of contents of this Cell
+   */
+  CellKind kind();
+
+  /**
+   * Returns the amount of Pawns inside this Cell, 0 if it has none.
+   *
+   * @return the amount of Pawns in the Cell
+   */
+  int pawnCount();
+
+  /**
+   * Returns the Player who owns this Cell's contents: its Pawns, or the Card (the Player who
+   * placed it).
+   *
+   * @return the owner, or null if the Cell is empty
+   */
+  Player owner();
+
+  /**
+   * Returns the Card in this Cell.
+   *
+   * @return the Card, or null if the Cell has no Card
+   */
+  Card cardOrNull();
+
   /**
    * Returns either Pawns, a Card, or null.
    * These are the only possible Objects that could be in a Cell.
@@ -1,6 +1,9 @@
 package sanguine.model;
 
 import java.io.File;
+import java.util.List;
+import java.util.random.RandomGenerator;
+import sanguine.controller.RowScoreListener;
 import sanguine.controller.TurnListener;
 
 /**
@@ -50,6 +53,48 @@ public interface SanguineModel extends ReadOnlySanguineModel {
                  File redDeck, File blueDeck)
           throws IllegalArgumentException, IllegalStateException;
 
+  /**
+   * Starts a game of sanguine.Sanguine with both decks shuffled by the given random generator
+   * (the Red player's deck first, then the Blue player's).
+   * Two games started with generators in the same state (for example, made from the same seed)
+   * deal exactly the same cards, so games can be reproduced. Generators are not thread-safe, so
+   * games started at the same time on different threads should each be given their own (for
+   * example, split() from one SplittableRandom).
+   * Otherwise, this follows the same rules as the startGame() which takes a shuffle flag.
+   *
+   * @param numRows  number of rows on the board
+   * @param numCols  number of columns on the board
+   * @param handSize the initial size of the hand of cards of both players
+   * @param random   shuffles the decks
+   * @param redDeck  red player's deck
+   * @param blueDeck blue player's deck
+   * @throws IllegalStateException    if the game has already started,
+   * @throws IllegalArgumentException if the random generator is null, or for any of the reasons
+   *                                  the startGame() which takes a shuffle flag gives
+   */
+  void startGame(int numRows, int numCols, int handSize, RandomGenerator random,
+                 File redDeck, File blueDeck)
+          throws IllegalArgumentException, IllegalStateException;
+
+  /**
+   * Starts a game of sanguine.Sanguine with the given decks, exactly as given.
+   * The decks are not shuffled, and the Blue player's deck is not mirrored (it is used as it is),
+   * so a game started with the same decks always deals the same cards (used to replay games).
+   * Otherwise, this follows the same rules as the startGame() which reads deck files.
+   *
+   * @param numRows  number of rows on the board
+   * @param numCols  number of columns on the board
+   * @param handSize the initial size of the hand of cards of both players
+   * @param redDeck  red player's deck, in the order it is drawn
+   * @param blueDeck blue player's deck, in the order it is drawn
+   * @throws IllegalStateException    if the game has already started,
+   * @throws IllegalArgumentException if a deck is null or holds null, or for any of the reasons
+   *                                  the startGame() which reads deck files gives
+   */
+  void startGame(int numRows, int numCols, int handSize, List<Card> redDeck,
+                 List<Card> blueDeck)
+          throws IllegalArgumentException, IllegalStateException;
+
   /**
    * plays a Card onto a valid Cell on the board.
    * Only allows the playing of a valid card.
@@ -114,4 +159,42 @@ public interface SanguineModel extends ReadOnlySanguineModel {
    * @param turnListener The Listener
    */
   void addTurnListener(TurnListener turnListener);
+
+  /**
+   * Adds the Listener to any class who wants to be notified when a row's score changes.
+   * Only the row a card was placed on is notified, and only when playCard() changes its score.
+   *
+   * @param rowScoreListener The Listener
+   */
+  void addRowScoreListener(RowScoreListener rowScoreListener);
+
+  /**
+   * Plays the given Move for the current Player, and remembers it so it can be taken back with
+   * undoMove(). Placing a Card follows the same rules as playCard(), and passing follows the same
+   * rules as passTurn(), including drawing a card for the next Player.
+   *
+   * <p>Meant for strategies that search ahead on a copy of the game; unlike playCard() and
+   * passTurn(), this does not notify the turn listeners.
+   *
+   * @param move the move to play
+   * @throws IllegalArgumentException if the move is null, or playCard() would throw it
+   * @throws IllegalStateException    if the game hasn't started, or playCard() would throw it
+   */
+  void applyMove(Move move) throws IllegalArgumentException, IllegalStateException;
+
+  /**
+   * Takes back the most recent Move played with applyMove().
+   * The board, hands, decks, row scores, passes, and the current Player are restored exactly.
+   *
+   * @throws IllegalStateException if there is no applied move to take back
+   */
+  void undoMove() throws IllegalStateException;
+
+  /**
+   * Returns a copy of this game, which can be played separately from this one.
+   * The copy does not have any turn listeners, nor any moves to undo.
+   *
+   * @return the copy of this game
+   */
+  SanguineModel copy();
 }
@@ -0,0 +1,90 @@
+package sanguine.model;
+
+import sanguine.model.enums.Player;
+
+/**
+ * This class holds the random 64-bit keys that make up the Zobrist hash of a game.
+ * A game's hash is the XOR of the keys of everything in it, so changing one part of the game
+ * only needs that part's old key and new key to be XORed in.
+ *
+ * <p>Instead of filling tables of random numbers (which would limit the size of the board), every
+ * key is computed by scrambling a description of what it stands for with SplitMix64.
+ * The same description always gives the same key, in every game and every run.
+ */
+final class ZobristKeys {
+  static final long BLUE_TO_MOVE = mix(0x5A6E_7500_0001L);
+  static final long RED_PASSED = mix(0x5A6E_7500_0002L);
+  static final long BLUE_PASSED = mix(0x5A6E_7500_0003L);
+
+  private ZobristKeys() {
+  }
+
+  /**
+   * Returns the key of the given amount of Pawns owned by the given Player on a Cell.
+   *
+   * @param index     the index of the cell (row * number of columns + column)
+   * @param owner     the Player who owns the Pawns
+   * @param pawnCount the amount of Pawns, from 1 to 3
+   * @return the key
+   */
+  static long pawns(int index, Player owner, int pawnCount) {
+    return mix(((long) index << 8) | (owner == Player.BLUE ? 4 : 0) | pawnCount);
+  }
+
+  /**
+   * Returns the key of the given Card, placed by the given Player, on a Cell.
+   *
+   * @param index the index of the cell (row * number of columns + column)
+   * @param card  the placed Card
+   * @param owner the Player who placed the Card
+   * @return the key
+   */
+  static long card(int index, Card card, Player owner) {
+    return mix(mix(((long) index << 8) | 0x80 | (owner == Player.BLUE ? 1 : 0)) ^ card.hashCode());
+  }
+
+  /**
+   * Returns the key of a Player's deck having the given amount of Cards left.
+   * Decks are dealt in a fixed order, so this tells how many Cards the Player has drawn.
+   *
+   * @param owner     the Player who owns the deck
+   * @param deckSize  the amount of Cards left in the deck
+   * @return the key
+   */
+  static long deckSize(Player owner, int deckSize) {
+    return mix(((long) deckSize << 8) | 0x40 | (owner == Player.BLUE ? 1 : 0));
+  }
+
+  /**
+   * Returns the key of a Card in a Player's hand. A hand's hash is the sum (not the XOR) of the
+   * keys of its Cards, so two equal Cards in the same hand don't cancel each other out.
+   *
+   * @param owner the Player holding the Card
+   * @param card  the Card
+   * @return the key
+   */
+  static long handCard(Player owner, Card card) {
+    return mix(mix(0x20 | (owner == Player.BLUE ? 1 : 0)) ^ card.hashCode());
+  }
+
+  /**
+   * Returns the key of a Card waiting in a Player's deck. A deck's hash is the sum of the keys of
+   * the Cards left in it, so it covers which Cards will be drawn, and in which order.
+   *
+   * @param owner the Player who owns the deck
+   * @param card  the Card
+   * @param slot  where the Card was in the deck when the game started (0 is drawn first)
+   * @return the key
+   */
+  static long deckCard(Player owner, Card card, int slot) {
+    return mix(mix(((long) slot << 8) | 0x10 | (owner == Player.BLUE ? 1 : 0)) ^ card.hashCode());
+  }
+
+  // SplitMix64's finalizer: spreads every bit of the input over all 64 bits of the output
+  private static long mix(long value) {
+    long z = value + 0x9E37_79B9_7F4A_7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -0,0 +1,14 @@
+package sanguine.model.enums;
+
+/**
+ * Represents what a Cell of the board of sanguine.Sanguine holds.
+ * CellKind could be:
+ * - EMPTY, where the cell holds nothing
+ * - PAWNS, where the cell holds 1 to 3 Pawns, all owned by the same Player
+ * - CARD, where the cell holds a Card
+ */
+public enum CellKind {
+  EMPTY,
+  PAWNS,
+  CARD
+}
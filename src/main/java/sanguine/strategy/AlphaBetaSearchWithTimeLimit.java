@@ -0,0 +1,268 @@
+package sanguine.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import sanguine.model.Card;
+import sanguine.model.CardRegistry;
+import sanguine.model.Move;
+import sanguine.model.SanguineModel;
+import sanguine.model.enums.Player;
+
+/**
+ * This class represents a Strategy for the game of sanguine.Sanguine.
+ *
+ * <p>In this strategy, the player searches ahead with alpha-beta pruning over every legal move
+ * (including passing), and plays the move that leads to the best score for them.
+ * The search deepens one turn at a time (iterative deepening) until the time limit for the turn
+ * runs out, then plays the best move from the deepest search that finished.
+ * The first turn of lookahead is always finished, so a move is always found.
+ *
+ * <p>Positions are scored by the difference between the two players' scores from getScore().
+ * The search runs on a copy of the model, using applyMove() and undoMove().
+ *
+ * <p>Results are kept in a TranspositionTable, looked up by the Zobrist hash of the position, so a
+ * position reached through different orders of moves (or already searched on an earlier turn or
+ * iteration) is not searched again. The table's best move for a position is also tried first;
+ * it is stored by its card and cell rather than its place in the list of moves, since positions
+ * with the same hash may list the same moves in a different order.
+ * A table can be shared between several instances of this strategy.
+ *
+ * <p>Everything a search changes as it runs (its copy of the game, deadline and flags) belongs to
+ * that search alone, so one instance can choose moves for several games (or both players) at once.
+ */
+public class AlphaBetaSearchWithTimeLimit implements SanguineStrategy {
+  private static final int MAX_DEPTH = 64;
+  private static final int TABLE_CAPACITY = 1 << 16;
+
+  private final long timeLimitNanos;
+  private final int maxDepth;
+  private final TranspositionTable table;
+
+  /**
+   * Represents an instance of this strategy, which searches as deep as it can within the
+   * time limit.
+   *
+   * @param timeLimitMillis how long (in milliseconds) the strategy may think each turn
+   * @throws IllegalArgumentException if the time limit is not positive
+   */
+  public AlphaBetaSearchWithTimeLimit(long timeLimitMillis) {
+    this(timeLimitMillis, MAX_DEPTH);
+  }
+
+  /**
+   * Represents an instance of this strategy, which searches no deeper than the given amount of
+   * turns, and no longer than the time limit.
+   *
+   * @param timeLimitMillis how long (in milliseconds) the strategy may think each turn
+   * @param maxDepth        the most turns the strategy looks ahead
+   * @throws IllegalArgumentException if the time limit or the depth is not positive
+   */
+  public AlphaBetaSearchWithTimeLimit(long timeLimitMillis, int maxDepth) {
+    this(timeLimitMillis, maxDepth, new TranspositionTable(TABLE_CAPACITY));
+  }
+
+  /**
+   * Represents an instance of this strategy, which searches no deeper than the given amount of
+   * turns, and no longer than the time limit, keeping its results in the given table.
+   *
+   * @param timeLimitMillis how long (in milliseconds) the strategy may think each turn
+   * @param maxDepth        the most turns the strategy looks ahead
+   * @param table           where search results are kept (may be shared with other searches)
+   * @throws IllegalArgumentException if the time limit or the depth is not positive,
+   *                                  or the table is null
+   */
+  public AlphaBetaSearchWithTimeLimit(long timeLimitMillis, int maxDepth,
+                                      TranspositionTable table) {
+    if (timeLimitMillis <= 0 || maxDepth <= 0) {
+      throw new IllegalArgumentException("Time limit and depth must be positive");
+    }
+    if (table == null) {
+      throw new IllegalArgumentException("Table cannot be null");
+    }
+    this.timeLimitNanos = timeLimitMillis * 1_000_000L;
+    this.maxDepth = maxDepth;
+    this.table = table;
+  }
+
+  @Override
+  public Move chooseMove(SanguineModel model) {
+    return findBestMove(model);
+  }
+
+  // Searches deeper and deeper until time runs out; returns the best move of the last full search
+  private Move findBestMove(SanguineModel model) {
+    Search search = new Search(model.copy(), System.nanoTime() + timeLimitNanos);
+
+    List<Move> rootMoves = orderedMoves(search.game);
+    Move bestMove = rootMoves.getFirst();
+
+    for (int depth = 1; depth <= maxDepth; depth++) {
+      search.timedOut = false;
+      search.reachedDepthLimit = false;
+      Move iterationBest = null;
+      int alpha = -Integer.MAX_VALUE;
+
+      for (Move move : rootMoves) {
+        search.game.applyMove(move);
+        int score = -negamax(search, depth - 1, -Integer.MAX_VALUE, -alpha, depth > 1);
+        search.game.undoMove();
+
+        if (search.timedOut) {
+          break;
+        }
+        if (iterationBest == null || score > alpha) {
+          alpha = score;
+          iterationBest = move;
+        }
+      }
+
+      if (search.timedOut) {
+        break; // only finished searches are trusted
+      }
+      bestMove = iterationBest;
+      // Searches the best move first next time, so the search prunes more
+      rootMoves.remove(bestMove);
+      rootMoves.addFirst(bestMove);
+
+      if (!search.reachedDepthLimit || System.nanoTime() >= search.deadline) {
+        break; // every line already reached the end of the game, or there is no time left
+      }
+    }
+    return bestMove;
+  }
+
+  // Scores the position for the player to move, looking the given amount of turns ahead
+  private int negamax(Search search, int depth, int alpha, int beta, boolean timed) {
+    if (timed && System.nanoTime() >= search.deadline) {
+      search.timedOut = true;
+      return 0;
+    }
+    if (search.game.isGameOver()) {
+      return evaluate(search.game);
+    }
+    if (depth == 0) {
+      search.reachedDepthLimit = true;
+      return evaluate(search.game);
+    }
+
+    // Reuses what is known about this position from an earlier search
+    long hash = search.game.zobristHash();
+    int originalAlpha = alpha;
+    TranspositionTable.Entry entry = table.probe(hash);
+    long hintMove = 0;
+    if (entry != null) {
+      if (entry.depth() >= depth) {
+        search.reachedDepthLimit = true; // the stored result may have stopped at a depth limit
+        switch (entry.bound()) {
+          case EXACT -> {
+            return entry.score();
+          }
+          case LOWER -> alpha = Math.max(alpha, entry.score());
+          case UPPER -> beta = Math.min(beta, entry.score());
+          default -> throw new IllegalStateException("Unknown bound");
+        }
+        if (alpha >= beta) {
+          return entry.score();
+        }
+      }
+      hintMove = entry.bestMove();
+    }
+
+    List<Move> moves = orderedMoves(search.game);
+    int hint = indexOfMove(moves, hintMove);
+    int best = -Integer.MAX_VALUE;
+    int bestIndex = -1;
+    // Tries the table's best move first (order -1), then every other move in order
+    for (int order = -1; order < moves.size(); order++) {
+      int index = (order == -1) ? hint : order;
+      if (index == -1 || (order != -1 && index == hint)) {
+        continue;
+      }
+      search.game.applyMove(moves.get(index));
+      int score = -negamax(search, depth - 1, -beta, -alpha, timed);
+      search.game.undoMove();
+
+      if (search.timedOut) {
+        return 0;
+      }
+      if (score > best) {
+        best = score;
+        bestIndex = index;
+      }
+      alpha = Math.max(alpha, score);
+      if (alpha >= beta) {
+        break; // the other player would never allow this line
+      }
+    }
+
+    TranspositionTable.Bound bound = TranspositionTable.Bound.EXACT;
+    if (best <= originalAlpha) {
+      bound = TranspositionTable.Bound.UPPER;
+    } else if (best >= beta) {
+      bound = TranspositionTable.Bound.LOWER;
+    }
+    table.store(hash, depth, best, bound, (bestIndex == -1) ? 0 : moveCode(moves.get(bestIndex)));
+    return best;
+  }
+
+  // All legal moves, with higher value cards first and passing last
+  private List<Move> orderedMoves(SanguineModel search) {
+    List<Move> moves = new ArrayList<>(search.legalMoves());
+    moves.sort((move1, move2) -> move2.card().value() - move1.card().value());
+    moves.add(Move.pass());
+    return moves;
+  }
+
+  // A code for the move that doesn't depend on the order moves are listed in (0 is no move)
+  private static long moveCode(Move move) {
+    if (move.isPass()) {
+      return 1;
+    }
+    return ((long) (CardRegistry.shared().id(move.card()) + 1) << 32)
+            | ((long) (move.row() & 0xFFFF) << 16) | (move.col() & 0xFFFF);
+  }
+
+  // The index of the move with the given code, or -1 if no move has it
+  private static int indexOfMove(List<Move> moves, long code) {
+    if (code == 0) {
+      return -1;
+    }
+    if (code == 1) {
+      return moves.size() - 1; // passing is always listed last
+    }
+    Card card = CardRegistry.shared().card((int) (code >>> 32) - 1);
+    int row = (int) (code >>> 16) & 0xFFFF;
+    int col = (int) code & 0xFFFF;
+    for (int index = 0; index < moves.size() - 1; index++) {
+      Move move = moves.get(index);
+      if (move.row() == row && move.col() == col && move.card().equals(card)) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  // The score difference, from the point of view of the player whose turn it is
+  private int evaluate(SanguineModel search) {
+    int[] score = search.getScore();
+    int difference = score[0] - score[1];
+    return (search.getCurrentPlayer() == Player.RED) ? difference : -difference;
+  }
+
+  /**
+   * This class represents the state of one call to chooseMove(): its own copy of the game, when
+   * it must stop, and what the current iteration found out. It is only used by the thread running
+   * that search.
+   */
+  private static final class Search {
+    private final SanguineModel game;
+    private final long deadline;
+    private boolean timedOut;
+    private boolean reachedDepthLimit;
+
+    private Search(SanguineModel game, long deadline) {
+      this.game = game;
+      this.deadline = deadline;
+    }
+  }
+}
@@ -0,0 +1,279 @@
+package sanguine.strategy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import sanguine.model.Card;
+import sanguine.model.Move;
+import sanguine.model.SanguineModel;
+import sanguine.model.enums.Player;
+
+/**
+ * This class represents a Strategy for the game of sanguine.Sanguine.
+ *
+ * <p>In this strategy, the player runs Monte Carlo Tree Search on every core at once
+ * (root parallelism): each worker grows its own search tree on its own copy of the model until
+ * the time limit for the turn runs out. The visit counts of the moves at the root of every tree
+ * are then added together, and the most visited move is played.
+ *
+ * <p>Every simulation walks down the tree picking moves by UCT, adds one new move to the tree,
+ * then finishes the game with a fast playout: a random card from the hand is placed on the first
+ * cell it fits in (like PlayFirstPossibleCardOrPass), or the turn is passed if no card fits.
+ * Games are walked with applyMove() and undoMove(), so simulations do not copy the model.
+ *
+ * <p>Every instance grows its trees on one pool shared by the whole program (one thread per core),
+ * so making many instances (one per game of a batch, for example) never leaves threads behind.
+ * A search with a single worker grows its tree on the calling thread instead.
+ */
+public class ParallelMonteCarloTreeSearch implements SanguineStrategy {
+  // How much UCT favors trying less visited moves over the best ones found so far
+  private static final double EXPLORATION = Math.sqrt(2);
+  // Its threads are daemons, so the pool never needs to be shut down
+  private static final ForkJoinPool POOL =
+      new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+  private final long timeLimitNanos;
+  private final int workers;
+  // Each search splits its workers' random generators off this one
+  private final SplittableRandom seeds;
+
+  /**
+   * Represents an instance of this strategy, which uses one worker for every available core.
+   *
+   * @param timeLimitMillis how long (in milliseconds) the strategy may think each turn
+   * @throws IllegalArgumentException if the time limit is not positive
+   */
+  public ParallelMonteCarloTreeSearch(long timeLimitMillis) {
+    this(timeLimitMillis, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Represents an instance of this strategy, which uses the given amount of workers.
+   *
+   * @param timeLimitMillis how long (in milliseconds) the strategy may think each turn
+   * @param workers         how many search trees are grown at the same time
+   * @throws IllegalArgumentException if the time limit or the amount of workers is not positive
+   */
+  public ParallelMonteCarloTreeSearch(long timeLimitMillis, int workers) {
+    this(timeLimitMillis, workers, new SplittableRandom());
+  }
+
+  /**
+   * Represents an instance of this strategy, which uses the given amount of workers, and draws
+   * its random choices from the given generator (so the same seed explores the same moves first).
+   * Searches still stop at the time limit, so how far they get depends on the speed of the machine.
+   *
+   * @param timeLimitMillis how long (in milliseconds) the strategy may think each turn
+   * @param workers         how many search trees are grown at the same time
+   * @param random          where the workers' random generators are split from
+   * @throws IllegalArgumentException if the time limit or the amount of workers is not positive,
+   *                                  or the generator is null
+   */
+  public ParallelMonteCarloTreeSearch(long timeLimitMillis, int workers, SplittableRandom random) {
+    if (timeLimitMillis <= 0 || workers <= 0) {
+      throw new IllegalArgumentException("Time limit and workers must be positive");
+    }
+    if (random == null) {
+      throw new IllegalArgumentException("Random generator cannot be null");
+    }
+    this.timeLimitNanos = timeLimitMillis * 1_000_000L;
+    this.workers = workers;
+    this.seeds = random;
+  }
+
+  @Override
+  public Move chooseMove(SanguineModel model) {
+    return findBestMove(model);
+  }
+
+  // Grows one tree per worker until time runs out, then picks the most visited root move
+  private Move findBestMove(SanguineModel model) {
+    List<Move> rootMoves = movesOf(model);
+    if (rootMoves.size() == 1) {
+      return rootMoves.getFirst(); // passing is the only option, nothing to search
+    }
+
+    long deadline = System.nanoTime() + timeLimitNanos;
+    if (workers == 1) {
+      return mostVisited(rootMoves, search(model.copy(), splitSeed(), deadline));
+    }
+    List<Callable<Map<Move, Integer>>> trees = new ArrayList<>();
+    for (int worker = 0; worker < workers; worker++) {
+      SanguineModel copy = model.copy();
+      SplittableRandom random = splitSeed();
+      trees.add(() -> search(copy, random, deadline));
+    }
+
+    Map<Move, Integer> visits = new HashMap<>();
+    for (Future<Map<Move, Integer>> result : POOL.invokeAll(trees)) {
+      try {
+        result.get().forEach((move, count) -> visits.merge(move, count, Integer::sum));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Search was interrupted", e);
+      } catch (ExecutionException e) {
+        throw new IllegalStateException("Search failed: " + e.getCause(), e);
+      }
+    }
+    return mostVisited(rootMoves, visits);
+  }
+
+  // A new random generator for one worker; an instance may be searching for several games at once
+  private SplittableRandom splitSeed() {
+    synchronized (seeds) {
+      return seeds.split();
+    }
+  }
+
+  // The root move with the most visits (the first of them on a tie)
+  private Move mostVisited(List<Move> rootMoves, Map<Move, Integer> visits) {
+    Move bestMove = rootMoves.getFirst();
+    for (Move move : rootMoves) {
+      if (visits.getOrDefault(move, 0) > visits.getOrDefault(bestMove, 0)) {
+        bestMove = move;
+      }
+    }
+    return bestMove;
+  }
+
+  // Runs simulations on one copy of the game until the deadline, returning the root visit counts
+  private Map<Move, Integer> search(SanguineModel game, SplittableRandom random, long deadline) {
+    Node root = new Node(null, null, movesOf(game));
+
+    // At least one simulation always runs, so every worker has something to report
+    do {
+      simulate(root, game, random);
+    } while (System.nanoTime() < deadline);
+
+    Map<Move, Integer> visits = new HashMap<>();
+    for (Node child : root.children) {
+      visits.put(child.move, child.visits);
+    }
+    return visits;
+  }
+
+  // One simulation: selection, expansion, playout, then backing the result up the tree
+  private void simulate(Node root, SanguineModel game, SplittableRandom random) {
+    Node node = root;
+    int applied = 0;
+
+    // Selection: follows UCT down through nodes whose moves have all been tried
+    while (node.untried.isEmpty() && !node.children.isEmpty()) {
+      node = node.bestChild();
+      game.applyMove(node.move);
+      applied++;
+    }
+
+    // Expansion: adds one untried move to the tree
+    if (!node.untried.isEmpty()) {
+      Move move = node.untried.remove(random.nextInt(node.untried.size()));
+      Player mover = game.getCurrentPlayer();
+      game.applyMove(move);
+      applied++;
+      Node child = new Node(move, mover, game.isGameOver() ? new ArrayList<>() : movesOf(game));
+      node.children.add(child);
+      child.parent = node;
+      node = child;
+    }
+
+    // Playout: finishes the game quickly
+    while (!game.isGameOver()) {
+      game.applyMove(playoutMove(game, random));
+      applied++;
+    }
+    int[] score = game.getScore();
+
+    for (; applied > 0; applied--) {
+      game.undoMove();
+    }
+
+    // Backpropagation: each node is credited from the point of view of the player who moved
+    for (; node != null; node = node.parent) {
+      node.visits++;
+      if (node.mover != null) {
+        node.wins += reward(score, node.mover);
+      }
+    }
+  }
+
+  // Plays a random card of the hand on the first cell it fits in, or passes if no card fits
+  private Move playoutMove(SanguineModel game, SplittableRandom random) {
+    List<Card> hand = (game.getCurrentPlayer() == Player.RED)
+        ? game.getRedHand() : game.getBlueHand();
+    int rows = game.getBoardView().numRows();
+    int cols = game.getBoardView().numCols();
+    int start = hand.isEmpty() ? 0 : random.nextInt(hand.size());
+
+    for (int offset = 0; offset < hand.size(); offset++) {
+      Card card = hand.get((start + offset) % hand.size());
+      for (int row = 0; row < rows; row++) {
+        for (int col = 0; col < cols; col++) {
+          if (game.canPlay(card, row, col)) {
+            return Move.play(card, row, col);
+          }
+        }
+      }
+    }
+    return Move.pass();
+  }
+
+  // 1 for a win, 0.5 for a tie, and 0 for a loss
+  private double reward(int[] score, Player player) {
+    int own = (player == Player.RED) ? score[0] : score[1];
+    int other = (player == Player.RED) ? score[1] : score[0];
+    if (own == other) {
+      return 0.5;
+    }
+    return (own > other) ? 1 : 0;
+  }
+
+  // All legal moves, with passing last
+  private List<Move> movesOf(SanguineModel game) {
+    List<Move> moves = new ArrayList<>(game.legalMoves());
+    moves.add(Move.pass());
+    return moves;
+  }
+
+  /**
+   * This class represents one position in a search tree, reached by playing its move.
+   * Each tree is only used by one worker, so nodes are never shared between threads.
+   */
+  private static final class Node {
+    private final Move move;
+    private final Player mover;
+    private final List<Move> untried;
+    private final List<Node> children;
+    private Node parent;
+    private int visits;
+    private double wins;
+
+    private Node(Move move, Player mover, List<Move> untried) {
+      this.move = move;
+      this.mover = mover;
+      this.untried = untried;
+      this.children = new ArrayList<>();
+    }
+
+    // The child with the highest UCT value
+    private Node bestChild() {
+      Node best = null;
+      double bestValue = Double.NEGATIVE_INFINITY;
+      double logVisits = Math.log(visits);
+      for (Node child : children) {
+        double value = child.wins / child.visits
+            + EXPLORATION * Math.sqrt(logVisits / child.visits);
+        if (value > bestValue) {
+          bestValue = value;
+          best = child;
+        }
+      }
+      return best;
+    }
+  }
+}
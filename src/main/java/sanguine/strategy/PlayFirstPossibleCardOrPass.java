@@ -3,6 +3,7 @@ package sanguine.strategy;
 import java.util.ArrayList;
 import java.util.List;
 import sanguine.model.Card;
+import sanguine.model.Move;
 import sanguine.model.SanguineModel;
 import sanguine.model.enums.Player;
 
@@ -15,41 +16,32 @@ import sanguine.model.enums.Player;
 public class PlayFirstPossibleCardOrPass implements SanguineStrategy {
 
   @Override
-  public void playTurn(SanguineModel model) {
-    tryAllPlays(model);
+  public Move chooseMove(SanguineModel model) {
+    return findFirstPlay(model);
   }
 
-  // Attempts plays until a valid one is made; the first card in hand is attempted first
-  private void tryAllPlays(SanguineModel model) {
+  // Finds the first valid play, trying the first card in hand first; passes if there is none
+  private Move findFirstPlay(SanguineModel model) {
     Player player = model.getCurrentPlayer();
     List<Card> hand = new ArrayList<>(
             (player == Player.RED) ? model.getRedHand() : model.getBlueHand());
+    int numRows = model.getBoardView().numRows();
+    int numCols = model.getBoardView().numCols();
 
-    boolean played = false;
     // Each Card
     for (Card card : hand) {
       // Each Row
-      for (int row = 0; row < model.getBoard().length && !played; row++) {
+      for (int row = 0; row < numRows; row++) {
         // Each Column
-        for (int col = 0; col < model.getBoard()[0].length && !played; col++) {
-          // Keeping try to make a successful play
-          try {
-            model.playCard(card, row, col);
-            played = true;
-          } catch (IllegalStateException e) {
-            // If a play is invalid, try the next play
+        for (int col = 0; col < numCols; col++) {
+          // Keeps checking cells until a successful play can be found
+          if (model.canPlay(card, row, col)) {
+            return Move.play(card, row, col);
           }
         }
       }
-      // If a play is made, stop checking for valid plays (as one has been made)
-      if (played) {
-        break;
-      }
-    }
-    // If no play was made during this player's entire turn, skip their turn
-    if (!played) {
-      model.passTurn();
     }
+    // If no play can be made during this player's entire turn, skip their turn
+    return Move.pass();
   }
-
 }
\ No newline at end of file
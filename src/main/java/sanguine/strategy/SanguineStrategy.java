@@ -1,18 +1,39 @@
 package sanguine.strategy;
 
+import sanguine.model.Move;
 import sanguine.model.SanguineModel;
 
 /**
  * This interface is responsible for establishing the supported strategies for running this game.
  * Supported Strategies:
  * - AI who makes the first possible valid move; if no moves are valid, they pass turn.
+ *
+ * <p>A strategy decides on a move with chooseMove(), which never changes the given model, so it
+ * can be given a copy of the game (and run on another thread). playTurn() then makes that move.
  */
 public interface SanguineStrategy {
 
   /**
-   * Plays the next turn in a game of sanguine.Sanguine.
+   * Decides which move the current Player makes next, without making it.
+   * The model is left exactly as it was given.
    *
    * @param model the model
+   * @return the chosen move; either a legal play, or a pass
    */
-  void playTurn(SanguineModel model);
+  Move chooseMove(SanguineModel model);
+
+  /**
+   * Plays the next turn in a game of sanguine.Sanguine, making the move from chooseMove().
+   *
+   * @param model the model
+   */
+  default void playTurn(SanguineModel model) {
+    Move move = chooseMove(model);
+
+    if (move.isPass()) {
+      model.passTurn();
+    } else {
+      model.playCard(move.card(), move.row(), move.col());
+    }
+  }
 }
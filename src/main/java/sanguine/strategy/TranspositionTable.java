@@ -0,0 +1,185 @@
+package sanguine.strategy;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This class represents a fixed size table of search results, looked up by the Zobrist hash of
+ * the position they were found for (see ReadOnlySanguineModel.zobristHash()).
+ * Searches that reach a position they (or another search sharing the table) have already
+ * looked at can reuse the result instead of searching it again.
+ *
+ * <p>The table never grows: every hash maps to one slot, and a new result replaces the old one
+ * unless the old one is for the same position and was searched deeper.
+ *
+ * <p>The table is lock-free and can be shared by searches on different threads. Every slot is
+ * three longs: the packed result, the best move's code, and the hash XORed with both. If two
+ * threads write the same slot at once and the longs end up from different writes, the hash check
+ * fails and the slot reads as empty, so a torn entry is never returned.
+ *
+ * <p>The best move is stored as a code chosen by the search (0 meaning unknown) rather than its
+ * position in a list of moves, since positions with the same hash may list their moves in a
+ * different order.
+ */
+public final class TranspositionTable {
+  private static final int DEPTH_SHIFT = 32;
+  private static final int BOUND_SHIFT = 40;
+  private static final int MAX_DEPTH = 0xFF;
+  private static final int SLOT_SIZE = 3;
+
+  /**
+   * Tells how a stored score relates to the real score of its position.
+   */
+  public enum Bound {
+    EXACT, // the real score
+    LOWER, // the real score is at least this (the search was cut off by beta)
+    UPPER  // the real score is at most this (no move reached alpha)
+  }
+
+  private final AtomicLongArray slots;
+  private final int mask;
+
+  /**
+   * Represents an empty table that holds at least the given amount of results.
+   * The capacity is rounded up to the next power of two.
+   *
+   * @param capacity the least amount of results the table holds
+   * @throws IllegalArgumentException if the capacity is not positive, or is too large
+   */
+  public TranspositionTable(int capacity) {
+    if (capacity <= 0 || capacity > (1 << 29)) {
+      throw new IllegalArgumentException("Capacity must be positive and at most 2^29");
+    }
+    int slotCount = Integer.highestOneBit(capacity);
+    if (slotCount < capacity) {
+      slotCount <<= 1;
+    }
+    this.slots = new AtomicLongArray(slotCount * SLOT_SIZE);
+    this.mask = slotCount - 1;
+  }
+
+  /**
+   * Returns how many results the table can hold.
+   *
+   * @return the capacity of the table
+   */
+  public int capacity() {
+    return mask + 1;
+  }
+
+  /**
+   * Stores the result of searching a position.
+   *
+   * @param hash     the Zobrist hash of the position
+   * @param depth    how many turns ahead the position was searched (capped at 255)
+   * @param score    the score found, from the point of view of the player to move
+   * @param bound    how the score relates to the real score of the position
+   * @param bestMove the search's code for the best move, or 0 if it is unknown
+   * @throws IllegalArgumentException if the depth is negative or the bound is null
+   */
+  public void store(long hash, int depth, int score, Bound bound, long bestMove) {
+    if (depth < 0 || bound == null) {
+      throw new IllegalArgumentException("Depth must not be negative and bound must not be null");
+    }
+    int slot = (int) (hash & mask) * SLOT_SIZE;
+
+    // Keeps a deeper result for the same position
+    long oldData = slots.get(slot + 1);
+    if ((slots.get(slot) ^ oldData ^ slots.get(slot + 2)) == hash && oldData != 0
+            && depthOf(oldData) > Math.min(depth, MAX_DEPTH)) {
+      return;
+    }
+
+    long data = (score & 0xFFFF_FFFFL)
+            | ((long) Math.min(depth, MAX_DEPTH) << DEPTH_SHIFT)
+            | ((long) (bound.ordinal() + 1) << BOUND_SHIFT);
+    slots.set(slot + 1, data);
+    slots.set(slot + 2, bestMove);
+    slots.set(slot, hash ^ data ^ bestMove);
+  }
+
+  /**
+   * Returns the stored result for the position with the given hash, or null if there is none.
+   *
+   * @param hash the Zobrist hash of the position
+   * @return the stored result, or null
+   */
+  public Entry probe(long hash) {
+    int slot = (int) (hash & mask) * SLOT_SIZE;
+    long data = slots.get(slot + 1);
+    long bestMove = slots.get(slot + 2);
+    long check = slots.get(slot);
+    if (data == 0 || (check ^ data ^ bestMove) != hash) {
+      return null;
+    }
+    return new Entry(data, bestMove);
+  }
+
+  /**
+   * Removes every stored result.
+   */
+  public void clear() {
+    for (int index = 0; index < slots.length(); index++) {
+      slots.set(index, 0);
+    }
+  }
+
+  // The depth packed into a slot's data
+  private static int depthOf(long data) {
+    return (int) (data >>> DEPTH_SHIFT) & MAX_DEPTH;
+  }
+
+  /**
+   * This class represents one result read from the table.
+   * All fields are made to be immutable.
+   */
+  public static final class Entry {
+    private final int score;
+    private final int depth;
+    private final Bound bound;
+    private final long bestMove;
+
+    // Unpacks a slot's data
+    private Entry(long data, long bestMove) {
+      this.score = (int) data;
+      this.depth = depthOf(data);
+      this.bound = Bound.values()[(int) (data >>> BOUND_SHIFT & 0xFF) - 1];
+      this.bestMove = bestMove;
+    }
+
+    /**
+     * Returns the score found for the position.
+     *
+     * @return the score
+     */
+    public int score() {
+      return score;
+    }
+
+    /**
+     * Returns how many turns ahead the position was searched.
+     *
+     * @return the depth
+     */
+    public int depth() {
+      return depth;
+    }
+
+    /**
+     * Returns how the score relates to the real score of the position.
+     *
+     * @return the bound
+     */
+    public Bound bound() {
+      return bound;
+    }
+
+    /**
+     * Returns the search's code for the best move in the position, or 0 if it is unknown.
+     *
+     * @return the code of the best move
+     */
+    public long bestMove() {
+      return bestMove;
+    }
+  }
+}
@@ -47,8 +47,8 @@ public class MouseClickListener extends MouseAdapter {
   @Override
   public void mouseClicked(MouseEvent evt) {
     if (type == SanguineViewRedFrame.Clicks.CELL) {
-      double row = evt.getY() * ((double) model.getBoard().length / panel.getHeight());
-      double col = evt.getX() * ((double) model.getBoard()[0].length / panel.getWidth());
+      double row = evt.getY() * ((double) model.getBoardView().numRows() / panel.getHeight());
+      double col = evt.getX() * ((double) model.getBoardView().numCols() / panel.getWidth());
       listener.onClickCell((int) row, (int) col);
     }
     if (type == SanguineViewRedFrame.Clicks.RED_CARD) {
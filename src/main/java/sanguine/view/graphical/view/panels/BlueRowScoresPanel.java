@@ -38,19 +38,22 @@ public class BlueRowScoresPanel extends JPanel {
     super.paintComponent(g);
 
     Graphics2D g2d = (Graphics2D) g.create();
-    int modelNumRow = model.getBoard().length;
+    int modelNumRow = model.getBoardView().numRows();
 
     // Converts coordinates of this panel from physical X & Y to logical X & Y
     g2d.scale(getWidth() / LOGICAL_X, getHeight() / LOGICAL_Y);
 
+    // Each call hands out a new copy of the row scores, so they are read once per paint
+    int[] rowScores = model.getBlueRowScores();
+    int[] opponentRowScores = model.getRedRowScores();
     for (int row = 0; row < modelNumRow; row++) {
-      drawScore(g2d, row, model.getBlueRowScores()[row]);
+      drawScore(g2d, row, rowScores[row], opponentRowScores[row]);
     }
   }
 
   // Draws each rows score for the blue's team
-  private void drawScore(Graphics2D g2d, int row, int rowScore) {
-    int modelNumRow = model.getBoard().length;
+  private void drawScore(Graphics2D g2d, int row, int rowScore, int opponentRowScore) {
+    int modelNumRow = model.getBoardView().numRows();
 
     double modelRowToLogicalY = LOGICAL_Y / modelNumRow;
     double modelColToLogicalX = LOGICAL_X;
@@ -64,7 +67,7 @@ public class BlueRowScoresPanel extends JPanel {
     int rectY = (int) (cellRow + (modelRowToLogicalY - pawnSize) / 2);
 
     g2d.setColor(new Color(205, 203, 203));
-    if (model.getRedRowScores()[row] < model.getBlueRowScores()[row]) {
+    if (rowScore > opponentRowScore) {
       g2d.setColor(new Color(73, 114, 218));
     }
 
@@ -6,12 +6,11 @@ import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.util.List;
 import javax.swing.JPanel;
 import sanguine.controller.FeaturesListener;
-import sanguine.model.Card;
+import sanguine.model.BoardView;
 import sanguine.model.ReadOnlySanguineModel;
-import sanguine.model.enums.Pawn;
+import sanguine.model.enums.CellKind;
 import sanguine.model.enums.Player;
 import sanguine.view.graphical.view.SanguineViewRedFrame;
 import sanguine.view.graphical.view.listeners.MouseClickListener;
@@ -54,8 +53,9 @@ public class SanguineBoardPanel extends JPanel {
     super.paintComponent(g);
 
     Graphics2D g2d = (Graphics2D) g.create();
-    int modelNumRow = model.getBoard().length;
-    int modelNumCol = model.getBoard()[0].length;
+    BoardView board = model.getBoardView();
+    int modelNumRow = board.numRows();
+    int modelNumCol = board.numCols();
 
     // Converts coordinates of this panel from physical X & Y to logical X & Y
     g2d.scale(getWidth() / LOGICAL_X, getHeight() / LOGICAL_Y);
@@ -71,21 +71,18 @@ public class SanguineBoardPanel extends JPanel {
 
     for (int row = 0; row < modelNumRow; row++) {
       for (int col = 0; col < modelNumCol; col++) {
+        CellKind kind = board.kind(row, col);
         // If cell contains Pawns
-        if (model.getCell(row, col).getContents() instanceof List<?> listOfPawn) {
-          if (listOfPawn.getFirst() instanceof Pawn) {
-            List<Pawn> confirmedListOfPawn = (List<Pawn>) listOfPawn;
-            if (confirmedListOfPawn.getFirst().getColor().equals("RED")) {
-              drawPawns(g2d, row, col, Color.RED, confirmedListOfPawn.size());
-            } else {
-              drawPawns(g2d, row, col, Color.BLUE, confirmedListOfPawn.size());
-            }
+        if (kind == CellKind.PAWNS) {
+          if (board.owner(row, col) == Player.RED) {
+            drawPawns(g2d, row, col, Color.RED, board.pawnCount(row, col));
+          } else {
+            drawPawns(g2d, row, col, Color.BLUE, board.pawnCount(row, col));
           }
         }
         // If cell contains a Card
-        if (model.getCell(row, col).getContents() instanceof Card card) {
-          int cardValue = card.value();
-          drawPlacedCard(g2d, row, col, model.getCell(row, col).getCardOwner(), cardValue);
+        if (kind == CellKind.CARD) {
+          drawPlacedCard(g2d, row, col, board.owner(row, col), board.cardOrNull(row, col).value());
         }
       }
     }
@@ -96,8 +93,8 @@ public class SanguineBoardPanel extends JPanel {
 
   // Draws the grid lines for a board in sanguine.Sanguine.
   private void drawBoard(Graphics2D g2d, int row1, int col1, int row2, int col2) {
-    int modelNumRow = model.getBoard().length;
-    int modelNumCol = model.getBoard()[0].length;
+    int modelNumRow = model.getBoardView().numRows();
+    int modelNumCol = model.getBoardView().numCols();
     double modelRowToLogicalY = LOGICAL_Y / modelNumRow;
     double modelColToLogicalX = LOGICAL_X / modelNumCol;
 
@@ -112,8 +109,8 @@ public class SanguineBoardPanel extends JPanel {
 
   // Draws Pawns; Represented as ovals with a #.
   private void drawPawns(Graphics2D g2d, int row, int col, Color color, int pawnAmount) {
-    int modelNumRow = model.getBoard().length;
-    int modelNumCol = model.getBoard()[0].length;
+    int modelNumRow = model.getBoardView().numRows();
+    int modelNumCol = model.getBoardView().numCols();
 
     double modelRowToLogicalY = LOGICAL_Y / modelNumRow;
     double modelColToLogicalX = LOGICAL_X / modelNumCol;
@@ -151,8 +148,8 @@ public class SanguineBoardPanel extends JPanel {
 
   // Draws a card onto the board; card is printed with its value showing
   private void drawPlacedCard(Graphics2D g2d, int row, int col, Player player, int cardValue) {
-    int modelNumRow = model.getBoard().length;
-    int modelNumCol = model.getBoard()[0].length;
+    int modelNumRow = model.getBoardView().numRows();
+    int modelNumCol = model.getBoardView().numCols();
 
     double modelRowToLogicalY = LOGICAL_Y / modelNumRow;
     double modelColToLogicalX = LOGICAL_X / modelNumCol;
@@ -185,8 +182,8 @@ public class SanguineBoardPanel extends JPanel {
 
   // Highlights a cell whenever clicked
   private void highlightClickedCell(Graphics2D g2d) {
-    int modelNumRow = model.getBoard().length;
-    int modelNumCol = model.getBoard()[0].length;
+    int modelNumRow = model.getBoardView().numRows();
+    int modelNumCol = model.getBoardView().numCols();
 
     double modelRowToLogicalY = LOGICAL_Y / modelNumRow;
     double modelColToLogicalX = LOGICAL_X / modelNumCol;
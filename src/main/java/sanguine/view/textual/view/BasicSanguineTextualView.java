@@ -1,10 +1,8 @@
 package sanguine.view.textual.view;
 
-import java.util.List;
-import sanguine.model.Card;
-import sanguine.model.Cell;
+import sanguine.model.BoardView;
 import sanguine.model.SanguineModel;
-import sanguine.model.enums.Pawn;
+import sanguine.model.enums.CellKind;
 import sanguine.model.enums.Player;
 
 /**
@@ -31,31 +29,31 @@ public class BasicSanguineTextualView implements SanguineTextualView {
   // Builds the board textually according to the current state of the game
   private String buildBoard() {
     StringBuilder board = new StringBuilder();
-    int rowIndex = 0;
+    BoardView cells = model.getBoardView();
+    int[] redRowScores = model.getRedRowScores();
+    int[] blueRowScores = model.getBlueRowScores();
 
-    for (Cell[] row : model.getBoard()) {
-      board.append(model.getRedRowScores()[rowIndex] + " ");
+    for (int row = 0; row < cells.numRows(); row++) {
+      board.append(redRowScores[row] + " ");
 
-      for (Cell cell : row) {
-        if (cell.getContents() instanceof List<?> maybeListOfPawn
-            && maybeListOfPawn.getFirst() instanceof Pawn) {
-          List<Pawn> listOfPawn = (List<Pawn>) maybeListOfPawn;
-          board.append(listOfPawn.size());
+      for (int col = 0; col < cells.numCols(); col++) {
+        CellKind kind = cells.kind(row, col);
+        if (kind == CellKind.PAWNS) {
+          board.append(cells.pawnCount(row, col));
         }
-        if (cell.getContents() instanceof Card) {
-          if (cell.getCardOwner().equals(Player.RED)) {
+        if (kind == CellKind.CARD) {
+          if (cells.owner(row, col) == Player.RED) {
             board.append("R");
           }
-          if (cell.getCardOwner().equals(Player.BLUE)) {
+          if (cells.owner(row, col) == Player.BLUE) {
             board.append("B");
           }
         }
-        if (cell.getContents() == null) {
+        if (kind == CellKind.EMPTY) {
           board.append("_");
         }
       }
-      board.append(" " + model.getBlueRowScores()[rowIndex] + System.lineSeparator());
-      rowIndex++;
+      board.append(" " + blueRowScores[row] + System.lineSeparator());
     }
     return board.toString();
   }
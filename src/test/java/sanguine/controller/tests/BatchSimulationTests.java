@@ -0,0 +1,109 @@
+package sanguine.controller.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import org.junit.Test;
+import sanguine.controller.simulation.BatchSimulation;
+import sanguine.controller.simulation.SimulationReport;
+import sanguine.model.Move;
+import sanguine.model.SanguineModel;
+import sanguine.model.enums.Player;
+import sanguine.strategy.PlayFirstPossibleCardOrPass;
+import sanguine.strategy.PlayHighestValuePossibleCardOrPass;
+import sanguine.strategy.SanguineStrategy;
+
+/**
+ * Responsible for testing the headless BatchSimulation runner and its SimulationReport.
+ */
+public class BatchSimulationTests {
+  File file = new File("docs" + File.separator + "35CardDeck1");
+
+  // Tests every game of a batch is played and counted exactly once
+  @Test
+  public void testRunBatch() {
+    BatchSimulation simulation = new BatchSimulation(5, 7, 5, file, file,
+        PlayFirstPossibleCardOrPass::new, PlayHighestValuePossibleCardOrPass::new);
+    SimulationReport report = simulation.run(24, 4);
+
+    assertEquals(24, report.games());
+    assertEquals(24, report.wins(Player.RED) + report.wins(Player.BLUE) + report.ties());
+    assertEquals(24, report.scoreDistribution(Player.RED).values().stream()
+        .mapToInt(Integer::intValue).sum());
+    assertEquals(24, report.scoreDistribution(Player.BLUE).values().stream()
+        .mapToInt(Integer::intValue).sum());
+    assertEquals(1.0, report.winRate(Player.RED) + report.winRate(Player.BLUE)
+        + (double) report.ties() / 24, 1e-9);
+    assertTrue(report.gamesPerSecond() > 0);
+    assertTrue(report.toString().startsWith("Games: 24"));
+  }
+
+  // Tests a batch with a seed gives the same results however many threads play it
+  @Test
+  public void testSeededBatchIsReproducible() {
+    BatchSimulation simulation = new BatchSimulation(5, 7, 5, file, file,
+        PlayFirstPossibleCardOrPass::new, PlayHighestValuePossibleCardOrPass::new);
+    SimulationReport first = simulation.run(24, 4, 7);
+    SimulationReport second = simulation.run(24, 1, 7);
+
+    assertEquals(first.scoreDistribution(Player.RED), second.scoreDistribution(Player.RED));
+    assertEquals(first.scoreDistribution(Player.BLUE), second.scoreDistribution(Player.BLUE));
+    assertEquals(first.wins(Player.RED), second.wins(Player.RED));
+    assertEquals(first.ties(), second.ties());
+  }
+
+  // Tests the report counts wins, ties & distributions from the given scores
+  @Test
+  public void testReport() {
+    SimulationReport report = new SimulationReport(new int[]{5, 3, 4, 5}, new int[]{1, 3, 6, 0},
+        2_000_000_000L);
+
+    assertEquals(2, report.wins(Player.RED));
+    assertEquals(1, report.wins(Player.BLUE));
+    assertEquals(1, report.ties());
+    assertEquals(0.5, report.winRate(Player.RED), 1e-9);
+    assertEquals(4.25, report.averageScore(Player.RED), 1e-9);
+    assertEquals(2.0, report.gamesPerSecond(), 1e-9);
+    assertEquals("{3=1, 4=1, 5=2}", report.scoreDistribution(Player.RED).toString());
+    assertEquals("{0=1, 1=1, 3=1, 6=1}", report.scoreDistribution(Player.BLUE).toString());
+
+    SimulationReport empty = new SimulationReport(new int[0], new int[0], 0);
+    assertEquals(0, empty.winRate(Player.BLUE), 1e-9);
+    assertEquals(0, empty.gamesPerSecond(), 1e-9);
+  }
+
+  // Tests invalid setups & strategies that never end their turn are rejected
+  @Test
+  public void testInvalidBatch() {
+    assertThrows(IllegalArgumentException.class, () -> new BatchSimulation(5, 7, 5, null, file,
+        PlayFirstPossibleCardOrPass::new, PlayFirstPossibleCardOrPass::new));
+    assertThrows(IllegalArgumentException.class, () -> new SimulationReport(new int[1],
+        new int[2], 0));
+    assertThrows(IllegalArgumentException.class, () -> BatchSimulation.strategyNamed("nope"));
+
+    BatchSimulation simulation = new BatchSimulation(5, 7, 5, file, file,
+        PlayFirstPossibleCardOrPass::new, PlayFirstPossibleCardOrPass::new);
+    assertThrows(IllegalArgumentException.class, () -> simulation.run(-1, 1));
+    assertThrows(IllegalArgumentException.class, () -> simulation.run(1, 0));
+
+    BatchSimulation stuck = new BatchSimulation(5, 7, 5, file, file,
+        () -> new SanguineStrategy() {
+          @Override
+          public Move chooseMove(SanguineModel model) {
+            return Move.pass();
+          }
+
+          @Override
+          public void playTurn(SanguineModel model) {
+            // Never makes its move
+          }
+        }, PlayFirstPossibleCardOrPass::new);
+    assertThrows(IllegalStateException.class, () -> stuck.run(1, 1));
+
+    BatchSimulation badBoard = new BatchSimulation(5, 6, 5, file, file,
+        PlayFirstPossibleCardOrPass::new, PlayFirstPossibleCardOrPass::new);
+    assertThrows(IllegalArgumentException.class, () -> badBoard.run(2, 2));
+  }
+}
@@ -0,0 +1,124 @@
+package sanguine.controller.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import sanguine.controller.deck.reader.BinaryDeckConverter;
+import sanguine.controller.deck.reader.MappedDeckReader;
+import sanguine.controller.deck.reader.StreamingDeckReader;
+import sanguine.model.BasicSanguine;
+import sanguine.model.Card;
+import sanguine.model.SanguineModel;
+
+/**
+ * This test class is responsible for testing the compiled deck format:
+ * BinaryDeckConverter writing it, and MappedDeckReader reading it.
+ */
+public class BinaryDeckTests {
+
+  // Tests every deck in docs comes back as the same Cards after being compiled
+  @Test
+  public void testRoundTrip() throws IOException {
+    for (String deck : new String[]{"15CardDeck1", "20CardDeck1", "35CardDeck1",
+        "example.deck"}) {
+      File text = new File("docs" + File.separator + deck);
+      File binary = compile(text);
+
+      List<Card> expected = new StreamingDeckReader(text).readDeck();
+      MappedDeckReader reader = new MappedDeckReader(binary);
+      assertEquals(deck, expected.size(), reader.size());
+      assertEquals(deck, expected, reader.readDeck());
+      for (int index = 0; index < expected.size(); index++) {
+        assertArrayEquals(expected.get(index).influenceGrid(),
+            reader.card(index).influenceGrid());
+      }
+    }
+  }
+
+  // Tests Cards are only built once, and the List view is read-only
+  @Test
+  public void testLazyCards() throws IOException {
+    MappedDeckReader reader = new MappedDeckReader(
+        compile(new File("docs" + File.separator + "15CardDeck1")));
+    List<Card> view = reader.cards();
+
+    assertSame(reader.card(3), reader.card(3));
+    assertSame(reader.card(3), view.get(3));
+    assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+    assertThrows(IndexOutOfBoundsException.class, () -> reader.card(15));
+
+    // readDeck() gives a List that can be changed, without changing the reader
+    List<Card> deck = reader.readDeck();
+    deck.clear();
+    assertEquals(15, reader.size());
+  }
+
+  // Tests names shared by several Cards are only stored once
+  @Test
+  public void testNamesStoredOnce() {
+    Card pikachu = new StreamingDeckReader(new File("docs" + File.separator + "15CardDeck1"))
+        .readDeck().getFirst();
+    int oneCard = BinaryDeckConverter.compile(List.of(pikachu)).remaining();
+    int threeCards = BinaryDeckConverter.compile(List.of(pikachu, pikachu, pikachu)).remaining();
+    assertEquals(2 * 8, threeCards - oneCard);
+  }
+
+  // Tests the model can start a game from compiled decks
+  @Test
+  public void testModelReadsCompiledDecks() throws IOException {
+    File text = new File("docs" + File.separator + "35CardDeck1");
+    File binary = compile(text);
+    assertTrue(MappedDeckReader.isCompiledDeck(binary));
+    assertFalse(MappedDeckReader.isCompiledDeck(text));
+
+    SanguineModel fromText = new BasicSanguine();
+    SanguineModel fromBinary = new BasicSanguine();
+    fromText.startGame(5, 7, 5, false, text, text);
+    fromBinary.startGame(5, 7, 5, false, binary, text);
+    assertEquals(fromText.getRedHand(), fromBinary.getRedHand());
+    assertEquals(fromText.getRedDeck(), fromBinary.getRedDeck());
+  }
+
+  // Tests files that are not compiled decks are rejected
+  @Test
+  public void testInvalidFiles() throws IOException {
+    assertThrows(IllegalArgumentException.class,
+        () -> new MappedDeckReader(new File("docs" + File.separator + "15CardDeck1")));
+    assertThrows(IllegalArgumentException.class,
+        () -> new MappedDeckReader(new File("docs" + File.separator + "noSuchDeck")));
+
+    File truncated = File.createTempFile("deck", ".sdeck");
+    truncated.deleteOnExit();
+    byte[] compiled = Files.readAllBytes(
+        compile(new File("docs" + File.separator + "15CardDeck1")).toPath());
+    Files.write(truncated.toPath(), Arrays.copyOf(compiled, 40));
+    assertThrows(IllegalArgumentException.class, () -> new MappedDeckReader(truncated));
+
+    // A header claiming far more cards than the file holds (enough to overflow an int offset)
+    File oversized = File.createTempFile("deck", ".sdeck");
+    oversized.deleteOnExit();
+    ByteBuffer header = ByteBuffer.wrap(compiled.clone());
+    header.putInt(8, Integer.MAX_VALUE);
+    Files.write(oversized.toPath(), header.array());
+    assertThrows(IllegalArgumentException.class, () -> new MappedDeckReader(oversized));
+  }
+
+  // Compiles the given text deck into a new temporary file
+  private File compile(File text) throws IOException {
+    File binary = File.createTempFile("deck", ".sdeck");
+    binary.deleteOnExit();
+    BinaryDeckConverter.convert(text, binary);
+    return binary;
+  }
+}
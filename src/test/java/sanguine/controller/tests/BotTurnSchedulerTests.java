@@ -0,0 +1,124 @@
+package sanguine.controller.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+import sanguine.controller.player.SanguinePlayer;
+import sanguine.controller.player.SanguinePlayerImpl;
+import sanguine.controller.stub.controller.BotTurnScheduler;
+import sanguine.model.BasicSanguine;
+import sanguine.model.Move;
+import sanguine.model.SanguineModel;
+import sanguine.model.enums.Player;
+import sanguine.strategy.PlayFirstPossibleCardOrPass;
+
+/**
+ * This test class is responsible for testing BotTurnScheduler, which plays Bot turns for the
+ * stub controller.
+ */
+public class BotTurnSchedulerTests {
+  private final File file = new File("docs" + File.separator + "35CardDeck1");
+
+  // Starts a 5x7 game
+  private SanguineModel startedGame() {
+    SanguineModel model = new BasicSanguine();
+    model.startGame(5, 7, 5, false, file, file);
+    return model;
+  }
+
+  // Sets both Players to be PlayFirstPossibleCardOrPass Bots
+  private void setBots(BotTurnScheduler scheduler) {
+    scheduler.setBot(Player.RED, new SanguinePlayerImpl(new PlayFirstPossibleCardOrPass()));
+    scheduler.setBot(Player.BLUE, new SanguinePlayerImpl(new PlayFirstPossibleCardOrPass()));
+  }
+
+  // Tests a whole Bot vs Bot game is played, refreshing after every turn by default
+  @Test
+  public void testBotGameRefreshesEveryTurn() {
+    SanguineModel model = startedGame();
+    AtomicInteger refreshes = new AtomicInteger();
+    BotTurnScheduler scheduler = new BotTurnScheduler(model, refreshes::incrementAndGet);
+    setBots(scheduler);
+
+    int turns = scheduler.runBotTurns();
+    assertTrue(model.isGameOver());
+    assertTrue(turns > 2);
+    assertEquals(turns, refreshes.get());
+    assertEquals(0, scheduler.runBotTurns());
+  }
+
+  // Tests fast-forward only refreshes once the game is over
+  @Test
+  public void testFastForward() {
+    SanguineModel model = startedGame();
+    AtomicInteger refreshes = new AtomicInteger();
+    BotTurnScheduler scheduler = new BotTurnScheduler(model, refreshes::incrementAndGet);
+    setBots(scheduler);
+    scheduler.setFastForward(true);
+
+    assertTrue(scheduler.runBotTurns() > 2);
+    assertTrue(model.isGameOver());
+    assertEquals(1, refreshes.get());
+  }
+
+  // Tests refreshes are limited to the given rate, with a final refresh at the end
+  @Test
+  public void testRefreshRateLimited() {
+    SanguineModel model = startedGame();
+    AtomicInteger refreshes = new AtomicInteger();
+    // Each turn takes 40ms on this clock, and 10 refreshes a second allows one every 100ms
+    AtomicLong clock = new AtomicLong();
+    BotTurnScheduler scheduler = new BotTurnScheduler(model, refreshes::incrementAndGet,
+        () -> clock.getAndAdd(40_000_000L));
+    setBots(scheduler);
+    scheduler.setMaxRefreshesPerSecond(10);
+
+    int turns = scheduler.runBotTurns();
+    assertTrue(model.isGameOver());
+    assertTrue(refreshes.get() < turns);
+    assertTrue(refreshes.get() >= turns / 3);
+  }
+
+  // Tests the Bots stop on a human's turn
+  @Test
+  public void testStopsForHuman() {
+    SanguineModel model = startedGame();
+    AtomicInteger refreshes = new AtomicInteger();
+    BotTurnScheduler scheduler = new BotTurnScheduler(model, refreshes::incrementAndGet);
+    scheduler.setBot(Player.RED, new SanguinePlayerImpl(new PlayFirstPossibleCardOrPass()));
+
+    assertEquals(1, scheduler.runBotTurns());
+    assertEquals(Player.BLUE, model.getCurrentPlayer());
+    assertFalse(model.isGameOver());
+    assertEquals(1, refreshes.get());
+  }
+
+  // Tests a Bot that never ends its turn is caught, and invalid arguments are rejected
+  @Test
+  public void testInvalid() {
+    SanguineModel model = startedGame();
+    BotTurnScheduler scheduler = new BotTurnScheduler(model, () -> { });
+    scheduler.setBot(Player.RED, new SanguinePlayer() {
+      @Override
+      public void playTurn(SanguineModel model) {
+        // Never makes its move
+      }
+
+      @Override
+      public Move chooseMove(SanguineModel model) {
+        return Move.pass();
+      }
+    });
+    assertThrows(IllegalStateException.class, scheduler::runBotTurns);
+
+    assertThrows(IllegalArgumentException.class, () -> scheduler.setBot(null, null));
+    assertThrows(IllegalArgumentException.class, () -> scheduler.setMaxRefreshesPerSecond(-1));
+    assertThrows(IllegalArgumentException.class, () -> new BotTurnScheduler(null, () -> { }));
+  }
+}
@@ -0,0 +1,108 @@
+package sanguine.controller.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import org.junit.Test;
+import sanguine.controller.deck.reader.DeckCache;
+import sanguine.controller.deck.reader.StreamingDeckReader;
+import sanguine.model.Card;
+
+/**
+ * This test class is responsible for testing DeckCache.
+ */
+public class DeckCacheTests {
+  private final File deck15 = new File("docs" + File.separator + "15CardDeck1");
+  private final File deck20 = new File("docs" + File.separator + "20CardDeck1");
+  private final File deck35 = new File("docs" + File.separator + "35CardDeck1");
+
+  // Tests a deck is only read once, and can be found through another path to the same file
+  @Test
+  public void testHit() {
+    DeckCache cache = new DeckCache(4);
+    List<Card> deck = cache.deck(deck15);
+    assertSame(deck, cache.deck(new File("docs" + File.separator + "." + File.separator
+        + "15CardDeck1")));
+    assertSame(cache.mirroredDeck(deck15), cache.mirroredDeck(deck15));
+    assertArrayEquals(new int[]{3, 1}, cache.stats());
+    assertEquals(new StreamingDeckReader(deck15).readDeck(), deck);
+  }
+
+  // Tests the mirrored deck holds the same Cards, with mirrored influence grids
+  @Test
+  public void testMirroredDeck() {
+    DeckCache cache = new DeckCache(4);
+    List<Card> deck = cache.deck(deck15);
+    List<Card> mirrored = cache.mirroredDeck(deck15);
+    assertEquals(deck.size(), mirrored.size());
+    for (int index = 0; index < deck.size(); index++) {
+      assertArrayEquals(deck.get(index).mirrored().influenceGrid(),
+          mirrored.get(index).influenceGrid());
+    }
+  }
+
+  // Tests decks handed out cannot be changed
+  @Test
+  public void testImmutable() {
+    List<Card> deck = new DeckCache(4).deck(deck15);
+    assertThrows(UnsupportedOperationException.class, () -> deck.remove(0));
+    assertThrows(UnsupportedOperationException.class, deck::clear);
+  }
+
+  // Tests a deck file that changed is read again
+  @Test
+  public void testChangedFileIsReadAgain() throws IOException {
+    File copy = File.createTempFile("deck", "");
+    copy.deleteOnExit();
+    Files.copy(deck15.toPath(), copy.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+    DeckCache cache = new DeckCache(4);
+    assertEquals(15, cache.deck(copy).size());
+
+    Files.copy(deck20.toPath(), copy.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    assertEquals(20, cache.deck(copy).size());
+    assertEquals(1, cache.size());
+  }
+
+  // Tests the least recently used deck is dropped once the cache is full
+  @Test
+  public void testLeastRecentlyUsedDropped() {
+    DeckCache cache = new DeckCache(2);
+    List<Card> first = cache.deck(deck15);
+    cache.deck(deck20);
+    cache.deck(deck15);
+    cache.deck(deck35);
+    assertEquals(2, cache.size());
+
+    // 15CardDeck1 was used after 20CardDeck1, so it is still kept
+    assertSame(first, cache.deck(deck15));
+    assertArrayEquals(new int[]{2, 3}, cache.stats());
+    cache.deck(deck20);
+    assertArrayEquals(new int[]{2, 4}, cache.stats());
+
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertNotSame(first, cache.deck(deck15));
+  }
+
+  // Tests invalid decks & files are rejected, and never kept
+  @Test
+  public void testInvalidDecks() {
+    DeckCache cache = new DeckCache(4);
+    assertThrows(IllegalArgumentException.class, () -> cache.deck(new File("docs"
+        + File.separator + "invalid.decks" + File.separator + "3RepeatCards_15TotalCards")));
+    assertThrows(IllegalArgumentException.class,
+        () -> cache.deck(new File("docs" + File.separator + "noSuchDeck")));
+    assertThrows(IllegalArgumentException.class, () -> cache.deck(null));
+    assertThrows(IllegalArgumentException.class, () -> new DeckCache(0));
+    assertEquals(0, cache.size());
+  }
+}
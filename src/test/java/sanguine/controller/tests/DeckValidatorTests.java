@@ -0,0 +1,69 @@
+package sanguine.controller.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import sanguine.controller.deck.reader.DeckValidator;
+import sanguine.controller.deck.reader.StreamingDeckReader;
+import sanguine.model.Card;
+
+/**
+ * This test class is responsible for testing DeckValidator.
+ */
+public class DeckValidatorTests {
+  private final File deck15 = new File("docs" + File.separator + "15CardDeck1");
+  private final File repeatedDeck = new File("docs" + File.separator + "invalid.decks"
+      + File.separator + "3RepeatCards_15TotalCards");
+
+  // Tests every deck in docs is valid
+  @Test
+  public void testValidDecks() {
+    for (String deck : new String[]{"15CardDeck1", "20CardDeck1", "35CardDeck1",
+        "example.deck"}) {
+      assertEquals(deck, List.of(), DeckValidator.violations(new File("docs" + File.separator
+          + deck)));
+    }
+    DeckValidator.validate("Deck", new StreamingDeckReader(deck15).readDeck());
+  }
+
+  // Tests a card repeated 3 times is reported
+  @Test
+  public void testRepeatedCard() {
+    assertEquals(List.of("contains more than 2 of the same card (Pikachu, 3 copies)"),
+        DeckValidator.violations(repeatedDeck));
+  }
+
+  // Tests every violating card is reported at once, in the order they first appear
+  @Test
+  public void testEveryViolationReported() {
+    List<Card> cards = new StreamingDeckReader(deck15).readDeck();
+    Card first = cards.get(0);
+    Card second = cards.get(2);
+    List<Card> deck = new ArrayList<>(Arrays.asList(second, first, first, second, second, first,
+        first, null));
+
+    assertEquals(List.of("contains 1 null card(s)",
+        "contains more than 2 of the same card (" + second.name() + ", 3 copies)",
+        "contains more than 2 of the same card (" + first.name() + ", 4 copies)"),
+        DeckValidator.violations(deck));
+
+    IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+        () -> DeckValidator.validate("Red's Deck", deck));
+    assertTrue(e.getMessage().startsWith("Red's Deck contains 1 null card(s); "));
+  }
+
+  // Tests invalid arguments are rejected
+  @Test
+  public void testInvalidArguments() {
+    assertThrows(IllegalArgumentException.class,
+        () -> DeckValidator.violations((List<Card>) null));
+    assertThrows(IllegalArgumentException.class,
+        () -> DeckValidator.violations(new File("docs" + File.separator + "noSuchDeck")));
+  }
+}
@@ -0,0 +1,157 @@
+package sanguine.controller.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.Test;
+import sanguine.controller.record.GameRecorder;
+import sanguine.controller.record.GameReplay;
+import sanguine.model.BasicSanguine;
+import sanguine.model.Card;
+import sanguine.model.GameState;
+import sanguine.model.Move;
+import sanguine.model.SanguineModel;
+
+/**
+ * This test class is responsible for testing GameRecorder & GameReplay, which write games as
+ * binary records and rebuild any of their positions.
+ */
+public class GameRecordTests {
+  private final File file = new File("docs" + File.separator + "35CardDeck1");
+
+  private final List<GameState> states = new ArrayList<>();
+  private final List<Move> moves = new ArrayList<>();
+  private int passes;
+
+  // Plays and records a whole shuffled game, remembering every position & move on the way
+  // (seeded, so the game is always long enough to seek through)
+  private byte[] recordGame() {
+    SanguineModel model = new BasicSanguine();
+    model.startGame(5, 7, 5, new SplittableRandom(21), file, file);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    GameRecorder recorder = new GameRecorder(out);
+    recorder.start(model, file, file);
+
+    int turn = 0;
+    while (!model.isGameOver()) {
+      states.add(GameState.of(model));
+      List<Move> legal = model.legalMoves();
+      Move move = (legal.isEmpty() || turn % 6 == 5)
+          ? Move.pass() : legal.get((turn * 7) % legal.size());
+      passes += move.isPass() ? 1 : 0;
+      recorder.record(move);
+      model.applyMove(move);
+      moves.add(move);
+      turn++;
+    }
+    states.add(GameState.of(model));
+    assertEquals(turn, recorder.turns());
+    return out.toByteArray();
+  }
+
+  // Tests every position of a shuffled game is rebuilt exactly, in any order
+  @Test
+  public void testReplayRebuildsEveryPosition() {
+    byte[] record = recordGame();
+    GameReplay replay = new GameReplay(new ByteArrayInputStream(record), 4);
+
+    assertEquals(moves.size(), replay.turns());
+    assertTrue(replay.turns() > 10);
+    // Seeks backwards first (no checkpoints yet), then forwards, then jumps around
+    for (int turn = replay.turns(); turn >= 0; turn--) {
+      assertEquals(states.get(turn), GameState.of(replay.position(turn)));
+    }
+    for (int turn = 0; turn < replay.turns(); turn++) {
+      assertEquals(states.get(turn), GameState.of(replay.position(turn)));
+      assertEquals(moves.get(turn), replay.move(turn));
+    }
+    for (int turn = 0; turn <= replay.turns(); turn += 7) {
+      assertEquals(states.get(turn), GameState.of(replay.position(turn)));
+    }
+    assertTrue(replay.position(replay.turns()).isGameOver());
+  }
+
+  // Tests a position handed out can be changed without changing the replay
+  @Test
+  public void testPositionsAreIndependent() {
+    GameReplay replay = new GameReplay(new ByteArrayInputStream(recordGame()));
+    SanguineModel position = replay.position(0);
+    position.passTurn();
+    position.passTurn();
+
+    assertEquals(states.getFirst(), GameState.of(replay.position(0)));
+    assertEquals(states.get(1), GameState.of(replay.position(1)));
+  }
+
+  // Tests the record is compact: 1 byte per pass, and 3 bytes per placement after the header
+  @Test
+  public void testRecordIsCompact() {
+    byte[] record = recordGame();
+    byte[] header = recordHeader();
+
+    assertEquals(header.length + passes + 3 * (moves.size() - passes), record.length);
+  }
+
+  // The record of a new game before any move is made
+  private byte[] recordHeader() {
+    SanguineModel model = new BasicSanguine();
+    model.startGame(5, 7, 5, false, file, file);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new GameRecorder(out).start(model, file, file);
+    return out.toByteArray();
+  }
+
+  // Tests records that are cut short or aren't records are rejected
+  @Test
+  public void testInvalidRecords() {
+    byte[] record = recordGame();
+    // The game ends on two passes (1 byte each); a placement's first byte alone is cut off
+    byte[] lastPassDropped = Arrays.copyOf(record, record.length - 1);
+    byte[] cutInMove = Arrays.copyOf(record, record.length + 1);
+    byte[] cutInHeader = Arrays.copyOf(record, 20);
+    byte[] notRecord = "not a game record".getBytes();
+
+    assertThrows(IllegalArgumentException.class,
+        () -> new GameReplay(new ByteArrayInputStream(cutInHeader)));
+    assertThrows(IllegalArgumentException.class,
+        () -> new GameReplay(new ByteArrayInputStream(notRecord)));
+    assertThrows(IllegalArgumentException.class,
+        () -> new GameReplay(new ByteArrayInputStream(cutInMove)));
+    assertThrows(IllegalArgumentException.class, () -> new GameReplay(null));
+    assertThrows(IllegalArgumentException.class,
+        () -> new GameReplay(new ByteArrayInputStream(record), 0));
+    // Dropping the final pass leaves a whole, shorter game
+    GameReplay shorter = new GameReplay(new ByteArrayInputStream(lastPassDropped));
+    assertEquals(moves.size() - 1, shorter.turns());
+    assertThrows(IllegalArgumentException.class, () -> shorter.position(moves.size()));
+    assertThrows(IllegalArgumentException.class, () -> shorter.position(-1));
+  }
+
+  // Tests the recorder rejects moves before it is started, and cards not in the hand
+  @Test
+  public void testInvalidRecording() {
+    SanguineModel model = new BasicSanguine();
+    model.startGame(5, 7, 5, false, file, file);
+    GameRecorder recorder = new GameRecorder(new ByteArrayOutputStream());
+    Card notInHand = model.getRedDeck().getLast();
+
+    assertThrows(IllegalStateException.class, () -> recorder.record(Move.pass()));
+    assertThrows(IllegalArgumentException.class, () -> new GameRecorder(null));
+    assertThrows(IllegalArgumentException.class, () -> recorder.start(null, file, file));
+    recorder.start(model, file, file);
+    assertThrows(IllegalStateException.class, () -> recorder.start(model, file, file));
+    assertThrows(IllegalArgumentException.class, () -> recorder.record(null));
+    if (!model.getRedHand().contains(notInHand)) {
+      assertThrows(IllegalArgumentException.class,
+          () -> recorder.record(Move.play(notInHand, 0, 0)));
+    }
+  }
+}
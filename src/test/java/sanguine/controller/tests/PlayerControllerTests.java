@@ -6,10 +6,18 @@ import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.Test;
 import sanguine.controller.AbstractPlayerController;
 import sanguine.controller.BluePlayerController;
+import sanguine.controller.BotTurnRunner;
 import sanguine.controller.RedPlayerController;
+import sanguine.controller.player.SanguinePlayer;
 import sanguine.controller.player.SanguinePlayerImpl;
 import sanguine.controller.tests.controller.mocks.BlueTurnMockModel;
 import sanguine.controller.tests.controller.mocks.RedTurnMockModel;
@@ -322,4 +330,113 @@ public class PlayerControllerTests {
 
     assertEquals(expectedLog, log.toString());
   }
+
+  // Tests a bot vs bot game runs to the end with Bots thinking on virtual threads, and every move
+  // made on the one applier thread
+  @Test
+  public void testBotTurnsOffCallingThread() throws Exception {
+    SanguineModel model = new BasicSanguine();
+    SanguineView view = new ViewMock();
+    ExecutorService applier = Executors.newSingleThreadExecutor();
+    Set<String> movers = ConcurrentHashMap.newKeySet();
+    CountDownLatch gameOver = new CountDownLatch(1);
+    model.addTurnListener(() -> {
+      movers.add(Thread.currentThread().getName());
+      if (model.isGameOver()) {
+        gameOver.countDown();
+      }
+    });
+    BotTurnRunner botTurns = new BotTurnRunner(Executors.newVirtualThreadPerTaskExecutor(),
+        applier, 5000);
+
+    AbstractPlayerController redCon = new RedPlayerController(model, view,
+        new SanguinePlayerImpl(new PlayFirstPossibleCardOrPass()), botTurns);
+    new BluePlayerController(model, view,
+        new SanguinePlayerImpl(new PlayFirstPossibleCardOrPass()), botTurns);
+
+    String caller = Thread.currentThread().getName();
+    applier.submit(() -> redCon.playGame(3, 5, 3, false, new File(path), new File(path))).get();
+
+    assertTrue(gameOver.await(10, TimeUnit.SECONDS));
+    assertEquals(1, movers.size());
+    assertFalse(movers.contains(caller));
+    applier.shutdown();
+  }
+
+  // Tests a Bot that thinks for longer than the timeout passes instead
+  @Test
+  public void testBotTimeoutPasses() throws Exception {
+    SanguineModel model = new BasicSanguine();
+    ExecutorService applier = Executors.newSingleThreadExecutor();
+    SanguinePlayer slowBot = new SanguinePlayerImpl(model1 -> {
+      try {
+        Thread.sleep(10_000);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return new PlayFirstPossibleCardOrPass().chooseMove(model1);
+    });
+    AbstractPlayerController redCon = new RedPlayerController(model, new ViewMock(), slowBot,
+        new BotTurnRunner(Executors.newVirtualThreadPerTaskExecutor(), applier, 50));
+    new BluePlayerController(model, new ViewMock(), null);
+
+    applier.submit(() -> redCon.playGame(3, 5, 3, false, new File(path), new File(path))).get();
+    long waitUntil = System.currentTimeMillis() + 5000;
+    while (model.getCurrentPlayer() == Player.RED && System.currentTimeMillis() < waitUntil) {
+      Thread.sleep(10);
+    }
+    applier.submit(() -> { }).get();
+
+    assertEquals(Player.BLUE, model.getCurrentPlayer());
+    assertEquals("RED PAWNx1", model.getCell(0, 0).toString()); // Red passed
+    applier.shutdown();
+  }
+
+  // Tests a cancelled Bot turn never makes a move
+  @Test
+  public void testCancelledBotTurnMakesNoMove() throws Exception {
+    SanguineModel model = new BasicSanguine();
+    ExecutorService applier = Executors.newSingleThreadExecutor();
+    CountDownLatch thinking = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    SanguinePlayer bot = new SanguinePlayerImpl(model1 -> {
+      thinking.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return new PlayFirstPossibleCardOrPass().chooseMove(model1);
+    });
+    AbstractPlayerController redCon = new RedPlayerController(model, new ViewMock(), bot,
+        new BotTurnRunner(Executors.newVirtualThreadPerTaskExecutor(), applier, 5000));
+    new BluePlayerController(model, new ViewMock(), null);
+
+    applier.submit(() -> redCon.playGame(3, 5, 3, false, new File(path), new File(path))).get();
+    assertTrue(thinking.await(5, TimeUnit.SECONDS));
+    applier.submit(redCon::cancelBotTurn).get();
+    release.countDown();
+    Thread.sleep(100);
+    applier.submit(() -> { }).get();
+
+    assertEquals(Player.RED, model.getCurrentPlayer());
+    assertEquals("RED PAWNx1", model.getCell(0, 0).toString());
+    applier.shutdown();
+  }
+
+  // Tests a synchronous runner makes the Bot's move before the turn event returns
+  @Test
+  public void testSynchronousBotTurns() {
+    SanguineModel model = new BasicSanguine();
+    AbstractPlayerController redCon = new RedPlayerController(model, new ViewMock(),
+        new SanguinePlayerImpl(new PlayFirstPossibleCardOrPass()), BotTurnRunner.synchronous());
+    new BluePlayerController(model, new ViewMock(), null, BotTurnRunner.synchronous());
+
+    redCon.playGame(3, 5, 3, false, new File(path), new File(path));
+
+    assertEquals(Player.BLUE, model.getCurrentPlayer());
+    assertEquals("Card: Pikachu", model.getCell(0, 0).toString());
+    assertThrows(IllegalArgumentException.class,
+        () -> new RedPlayerController(model, new ViewMock(), null, null));
+  }
 }
@@ -0,0 +1,131 @@
+package sanguine.controller.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import sanguine.controller.player.SanguinePlayerImpl;
+import sanguine.controller.session.GameSession;
+import sanguine.controller.session.SessionManager;
+import sanguine.model.Move;
+import sanguine.model.enums.Player;
+import sanguine.strategy.PlayFirstPossibleCardOrPass;
+import sanguine.strategy.PlayHighestValuePossibleCardOrPass;
+
+/**
+ * This test class is responsible for testing SessionManager & GameSession, which host many
+ * games in one JVM.
+ */
+public class SessionManagerTests {
+  private final File file = new File("docs" + File.separator + "35CardDeck1");
+
+  // Tests many Bot vs Bot games run at once on small shared pools, all finish, and each is
+  // dropped from the manager once it ends
+  @Test
+  public void testManyBotSessions() throws Exception {
+    SessionManager manager = new SessionManager(2, 2, 4);
+    List<GameSession> sessions = new ArrayList<>();
+    for (int game = 0; game < 200; game++) {
+      sessions.add(manager.createSession(5, 7, 5, file, file,
+          new SanguinePlayerImpl(new PlayFirstPossibleCardOrPass()),
+          new SanguinePlayerImpl(new PlayHighestValuePossibleCardOrPass())));
+    }
+
+    for (GameSession session : sessions) {
+      int[] score = session.result().get(30, TimeUnit.SECONDS);
+      assertEquals(2, score.length);
+      assertTrue(session.query(model -> model.isGameOver()).get(5, TimeUnit.SECONDS));
+    }
+    // Sessions are dropped just after their result completes
+    long waitUntil = System.currentTimeMillis() + 5000;
+    while (manager.sessionCount() > 0 && System.currentTimeMillis() < waitUntil) {
+      Thread.sleep(5);
+    }
+    assertEquals(0, manager.sessionCount());
+    manager.shutdown();
+    assertEquals(0, manager.sessionCount());
+  }
+
+  // Tests a human's moves are routed to their session, and the Bot answers them
+  @Test
+  public void testHumanAgainstBot() throws Exception {
+    SessionManager manager = new SessionManager(1, 1, 1);
+    GameSession session = manager.createSession(5, 7, 5, file, file, null,
+        new SanguinePlayerImpl(new PlayFirstPossibleCardOrPass()));
+    assertEquals(session, manager.session(session.id()));
+
+    Move move = session.query(model -> model.legalMoves().getFirst()).get(5, TimeUnit.SECONDS);
+    session.play(Player.RED, move).get(5, TimeUnit.SECONDS);
+
+    // Waits for the Bot to answer
+    long waitUntil = System.currentTimeMillis() + 5000;
+    while (session.query(model -> model.getCurrentPlayer()).get() != Player.RED
+        && System.currentTimeMillis() < waitUntil) {
+      Thread.sleep(5);
+    }
+    assertEquals(Player.RED, session.query(model -> model.getCurrentPlayer()).get());
+    assertEquals(2, (int) session.query(model -> {
+      int cards = 0;
+      for (int row = 0; row < 5; row++) {
+        for (int col = 0; col < 7; col++) {
+          cards += model.getCell(row, col).toString().startsWith("Card") ? 1 : 0;
+        }
+      }
+      return cards;
+    }).get());
+    manager.shutdown();
+  }
+
+  // Tests moves out of turn, for Bots, on closed sessions, or that are illegal, are rejected
+  @Test
+  public void testRejectedMoves() throws Exception {
+    SessionManager manager = new SessionManager(1, 1, 1);
+    GameSession session = manager.createSession(5, 7, 5, file, file, null, null);
+    GameSession botSession = manager.createSession(5, 7, 5, file, file,
+        new SanguinePlayerImpl(new PlayFirstPossibleCardOrPass()), null);
+
+    assertFailsWith(IllegalStateException.class, session.play(Player.BLUE, Move.pass()));
+    assertFailsWith(IllegalStateException.class, botSession.play(Player.RED, Move.pass()));
+    Move offBoard = Move.play(session.query(model -> model.getRedHand().getFirst()).get(), 2, 3);
+    assertFailsWith(IllegalStateException.class, session.play(Player.RED, offBoard));
+    assertFailsWith(IllegalArgumentException.class, session.play(Player.RED, null));
+
+    session.play(Player.RED, Move.pass()).get(5, TimeUnit.SECONDS);
+    session.play(Player.BLUE, Move.pass()).get(5, TimeUnit.SECONDS);
+    assertEquals(2, session.result().get(5, TimeUnit.SECONDS).length);
+
+    manager.closeSession(botSession.id());
+    assertFailsWith(IllegalStateException.class, botSession.query(model -> 0));
+    assertThrows(IllegalArgumentException.class, () -> manager.session(botSession.id()));
+    assertThrows(IllegalArgumentException.class, () -> manager.closeSession(botSession.id()));
+    assertThrows(IllegalArgumentException.class, () -> new SessionManager(0, 1, 1));
+    assertThrows(IllegalArgumentException.class,
+        () -> manager.createSession(5, 6, 5, file, file, null, null));
+
+    manager.shutdown();
+    assertThrows(IllegalStateException.class,
+        () -> manager.createSession(5, 7, 5, file, file, null, null));
+    // The finished game's session can't run messages anymore, so they fail instead of waiting
+    assertFailsWith(IllegalStateException.class, session.query(model -> 0));
+    assertFailsWith(IllegalStateException.class, session.play(Player.RED, Move.pass()));
+  }
+
+  // Asserts the future fails with the given type of exception
+  private void assertFailsWith(Class<? extends Throwable> expected, Future<?> future)
+      throws Exception {
+    try {
+      future.get(5, TimeUnit.SECONDS);
+    } catch (ExecutionException e) {
+      assertEquals(expected, e.getCause().getClass());
+      return;
+    }
+    throw new AssertionError("Expected " + expected.getSimpleName());
+  }
+}
@@ -0,0 +1,107 @@
+package sanguine.controller.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.Test;
+import sanguine.controller.deck.reader.BasicDeckReader;
+import sanguine.controller.deck.reader.DeckFormatException;
+import sanguine.controller.deck.reader.StreamingDeckReader;
+import sanguine.model.Card;
+
+/**
+ * This test class is responsible for testing StreamingDeckReader.
+ * Tests that valid files are read into the same Cards as BasicDeckReader, and that invalid files
+ * are rejected with the line and column of the problem.
+ */
+public class StreamingDeckReaderTests {
+  private static final String PIKACHU = "Pikachu 1 1\nXXXXX\nXXXXX\nXXCXI\nXXXXX\nXXXXX\n";
+
+  // Tests every deck in docs is read exactly like BasicDeckReader reads it
+  @Test
+  public void testSameCardsAsBasicDeckReader() {
+    for (String deck : new String[]{"15CardDeck1", "20CardDeck1", "35CardDeck1",
+        "example.deck", "invalid.decks" + File.separator + "3RepeatCards_15TotalCards"}) {
+      File file = new File("docs" + File.separator + deck);
+      List<Card> expected = new BasicDeckReader(file).readDeck();
+      List<Card> actual = new StreamingDeckReader(file).readDeck();
+      assertEquals(deck, expected, actual);
+    }
+  }
+
+  // Tests line endings, blank lines, extra spaces and a missing last newline are all accepted
+  @Test
+  public void testLenientWhitespace() throws IOException {
+    List<Card> deck = read("\n" + PIKACHU.replace("\n", "\r\n") + "\r\n\n"
+        + "Squirtle  2\t3  \nXXIXX\nXXXXX\nXICIX\nXXXXX\nXXIXX" + "\n\n\n   \n");
+    assertEquals(2, deck.size());
+    assertEquals("Pikachu", deck.get(0).name());
+    assertEquals("Squirtle", deck.get(1).name());
+    assertEquals(2, deck.get(1).cost());
+    assertEquals(3, deck.get(1).value());
+    assertEquals("XICIX", deck.get(1).influenceGrid()[2]);
+
+    List<Card> noNewline = read(PIKACHU.substring(0, PIKACHU.length() - 1));
+    assertEquals(1, noNewline.size());
+    assertEquals(0, read("").size());
+    assertEquals(0, read("\n\r\n  \n").size());
+  }
+
+  // Tests a reader can be used again, giving the same Cards
+  @Test
+  public void testReadTwice() throws IOException {
+    StreamingDeckReader reader = new StreamingDeckReader(write(PIKACHU + PIKACHU));
+    assertEquals(reader.readDeck(), reader.readDeck());
+  }
+
+  // Tests invalid files report where the problem is
+  @Test
+  public void testErrorsHaveLineAndColumn() throws IOException {
+    assertError("Pikachu1 1\nXXXXX\nXXXXX\nXXCXI\nXXXXX\nXXXXX\n", 1, 11);
+    assertError("Pikachu x 1\nXXXXX\nXXXXX\nXXCXI\nXXXXX\nXXXXX\n", 1, 9);
+    assertError("Pikachu 1 1a\nXXXXX\nXXXXX\nXXCXI\nXXXXX\nXXXXX\n", 1, 12);
+    assertError("Pikachu 1 1\nXXXXX\nXXXX\nXXCXI\nXXXXX\nXXXXX\n", 3, 5);
+    assertError("Pikachu 1 1\nXXXXX\nXXXXX\nXXCXIX\nXXXXX\nXXXXX\n", 4, 6);
+    assertError("Pikachu 1 1\nXXXXX\nXXXXX\nXXXXI\nXXXXX\nXXXXX\n", 4, 3);
+    assertError("Pikachu 1 1\nXXXXX\nXCXXX\nXXCXI\nXXXXX\nXXXXX\n", 3, 2);
+    assertError(PIKACHU + "Pikachu 1 1\nXXXXX\nXXXXX\n", 10, 1);
+    assertError(PIKACHU + "\nPikachu 1 1\nXXXXX\n\nXXCXI\nXXXXX\nXXXXX\n", 10, 1);
+    // The Card itself rejects the cost, so the card's header is reported
+    assertError(PIKACHU + "Pikachu 4 1\nXXXXX\nXXXXX\nXXCXI\nXXXXX\nXXXXX\n", 7, 1);
+    assertError("Pikachu 1 99999999999\nXXXXX\nXXXXX\nXXCXI\nXXXXX\nXXXXX\n", 1, 21);
+  }
+
+  // Tests files that don't exist are rejected like BasicDeckReader rejects them
+  @Test
+  public void testMissingFile() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new StreamingDeckReader(new File("docs" + File.separator + "noSuchDeck")));
+    assertThrows(IllegalArgumentException.class, () -> new StreamingDeckReader(null));
+  }
+
+  // Checks reading the given contents fails at the given line & column
+  private void assertError(String contents, int line, int column) throws IOException {
+    DeckFormatException error = assertThrows(DeckFormatException.class, () -> read(contents));
+    assertEquals(error.getMessage(), line, error.getLine());
+    assertEquals(error.getMessage(), column, error.getColumn());
+  }
+
+  // Reads the given contents as a deck file
+  private List<Card> read(String contents) throws IOException {
+    return new StreamingDeckReader(write(contents)).readDeck();
+  }
+
+  // Writes the given contents to a new temporary file
+  private File write(String contents) throws IOException {
+    Path path = Files.createTempFile("deck", ".txt");
+    path.toFile().deleteOnExit();
+    Files.writeString(path, contents, StandardCharsets.UTF_8);
+    return path.toFile();
+  }
+}
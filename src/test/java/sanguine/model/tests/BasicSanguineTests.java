@@ -3,14 +3,19 @@ package sanguine.model.tests;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 import org.junit.Test;
 import sanguine.model.BasicSanguine;
 import sanguine.model.Card;
+import sanguine.model.Move;
 import sanguine.model.SanguineModel;
 import sanguine.model.enums.Pawn;
 import sanguine.model.enums.Player;
@@ -118,6 +123,32 @@ public class BasicSanguineTests {
     assertArrayEquals(expectedBlueInfluenceGrid, actualBlueInfluenceGrid);
   }
 
+  // Tests a Card's influence grid is compiled into the right mask & offsets, for both players
+  @Test
+  public void testCardInfluenceMaskAndMirror() {
+    String[] influenceGrid = {
+        "XXXXX",
+        "XXIXX",
+        "XXCXI",
+        "XXXXX",
+        "XXXXX"};
+    Card card = Card.builder().name("Test").cost(1).value(1).influenceGrid(influenceGrid).build();
+
+    assertEquals((1 << 7) | (1 << 14), card.influenceMask());
+    assertEquals(2, card.influenceCount());
+    assertEquals(-1, card.influenceRowOffset(0));
+    assertEquals(0, card.influenceColOffset(0));
+    assertEquals(0, card.influenceRowOffset(1));
+    assertEquals(2, card.influenceColOffset(1));
+
+    Card mirrored = card.mirrored();
+    assertEquals((1 << 7) | (1 << 10), mirrored.influenceMask());
+    assertEquals(-2, mirrored.influenceColOffset(1));
+    assertArrayEquals(new String[]{"XXXXX", "XXIXX", "IXCXX", "XXXXX", "XXXXX"},
+        mirrored.influenceGrid());
+    assertTrue(card == mirrored.mirrored());
+  }
+
   // Tests startGame() when called with invalid arguments (or in invalid states)
   @Test
   public void testStartGameInvalid() {
@@ -172,6 +203,39 @@ public class BasicSanguineTests {
         () -> model.startGame(3, 3, 5, false, file, file));
   }
 
+  // Tests startGame() with a random generator deals the same cards for the same seed
+  @Test
+  public void testSeededStartGame() {
+    File file = new File("docs" + File.separator + "35CardDeck1");
+    SanguineModel first = new BasicSanguine();
+    SanguineModel second = new BasicSanguine();
+    SanguineModel other = new BasicSanguine();
+    SanguineModel unshuffled = new BasicSanguine();
+
+    first.startGame(5, 7, 5, new SplittableRandom(42), file, file);
+    second.startGame(5, 7, 5, new SplittableRandom(42), file, file);
+    other.startGame(5, 7, 5, new SplittableRandom(43), file, file);
+    unshuffled.startGame(5, 7, 5, false, file, file);
+
+    assertEquals(first.getRedHand(), second.getRedHand());
+    assertEquals(first.getRedDeck(), second.getRedDeck());
+    assertEquals(first.getBlueHand(), second.getBlueHand());
+    assertEquals(first.getBlueDeck(), second.getBlueDeck());
+    assertNotEquals(first.getRedDeck(), other.getRedDeck());
+    assertNotEquals(first.getRedDeck(), unshuffled.getRedDeck());
+    // The same cards are dealt, just in another order
+    List<Card> shuffled = new ArrayList<>(first.getRedHand());
+    shuffled.addAll(first.getRedDeck());
+    List<Card> dealt = new ArrayList<>(unshuffled.getRedHand());
+    dealt.addAll(unshuffled.getRedDeck());
+    assertTrue(shuffled.containsAll(dealt) && dealt.containsAll(shuffled));
+
+    assertThrows(IllegalArgumentException.class, () -> new BasicSanguine().startGame(5, 7, 5,
+        (RandomGenerator) null, file, file));
+    assertThrows(IllegalStateException.class, () -> first.startGame(5, 7, 5,
+        new SplittableRandom(42), file, file));
+  }
+
   // Tests calling passTurn() in a valid state, and tests isGameOver() works properly
   @Test
   public void testPassTurnAndIsGameOver() {
@@ -358,6 +422,51 @@ public class BasicSanguineTests {
     assertThrows(IllegalStateException.class, () -> model.playCard(card, 0, 0));
   }
 
+  // Tests canPlay() agrees with playCard() on every cell, and legalMoves() lists every legal play
+  @Test
+  public void testCanPlayAndLegalMoves() {
+    SanguineModel model = new BasicSanguine();
+    String path = "docs" + File.separator + "15CardDeck1";
+    File file = new File(path);
+
+    assertThrows(IllegalStateException.class, () -> model.legalMoves());
+    model.startGame(3, 5, 3, false, file, file);
+
+    Card pikachu = model.getRedHand().get(0);
+    assertFalse(model.canPlay(null, 0, 0));
+    assertFalse(model.canPlay(pikachu, -1, 0));
+    assertFalse(model.canPlay(pikachu, 0, 5));
+
+    int legalPlays = 0;
+    for (Card card : model.getRedHand()) {
+      for (int row = 0; row < 3; row++) {
+        for (int col = 0; col < 5; col++) {
+          SanguineModel fresh = new BasicSanguine();
+          fresh.startGame(3, 5, 3, false, file, file);
+          boolean played = true;
+          try {
+            fresh.playCard(card, row, col);
+          } catch (IllegalStateException e) {
+            played = false;
+          }
+          assertEquals(played, model.canPlay(card, row, col));
+          if (played && model.legalMoves().contains(Move.play(card, row, col))) {
+            legalPlays++;
+          }
+        }
+      }
+    }
+
+    // Red's hand holds 2 equal Pikachus, which are only listed once
+    assertEquals(List.of(
+        Move.play(pikachu, 0, 0), Move.play(pikachu, 1, 0), Move.play(pikachu, 2, 0),
+        Move.play(model.getRedHand().get(2), 0, 0), Move.play(model.getRedHand().get(2), 1, 0),
+        Move.play(model.getRedHand().get(2), 2, 0),
+        Move.play(model.getRedHand().get(3), 0, 0), Move.play(model.getRedHand().get(3), 1, 0),
+        Move.play(model.getRedHand().get(3), 2, 0)), model.legalMoves());
+    assertEquals(12, legalPlays);
+  }
+
   // Tests all the Observer Methods will throw an exceptions when called in an invalid state
   // Also tests if game starts appropriately
   @Test
@@ -479,4 +588,61 @@ public class BasicSanguineTests {
 
     System.out.println(view.toString());
   }
+
+  // Tests the score totals follow every play, and row score listeners only hear the changed row
+  @Test
+  public void testScoreTotalsAndRowScoreListener() {
+    SanguineModel model = new BasicSanguine();
+    File file = new File("docs" + File.separator + "35CardDeck1");
+    StringBuilder log = new StringBuilder();
+    model.addRowScoreListener((row, redRowScore, blueRowScore) ->
+        log.append(row).append(":").append(redRowScore).append("-").append(blueRowScore)
+            .append(" "));
+    model.startGame(5, 7, 5, false, file, file);
+    assertArrayEquals(new int[]{0, 0}, model.getScore());
+
+    int turn = 0;
+    while (!model.isGameOver()) {
+      List<Move> moves = model.legalMoves();
+      if (moves.isEmpty()) {
+        model.passTurn();
+        assertEquals("", log.toString());
+      } else {
+        Move move = moves.get((turn * 5) % moves.size());
+        model.playCard(move.card(), move.row(), move.col());
+        String expected = move.row() + ":" + model.getRedRowScores()[move.row()] + "-"
+            + model.getBlueRowScores()[move.row()] + " ";
+        assertEquals(expected, log.toString());
+      }
+      log.setLength(0);
+
+      // The running totals must match adding up the rows from scratch
+      int[] expectedScore = new int[2];
+      for (int row = 0; row < 5; row++) {
+        int red = model.getRedRowScores()[row];
+        int blue = model.getBlueRowScores()[row];
+        expectedScore[0] += (red > blue) ? red : 0;
+        expectedScore[1] += (blue > red) ? blue : 0;
+      }
+      assertArrayEquals(expectedScore, model.getScore());
+      turn++;
+    }
+  }
+
+  // Tests the row scores handed out are copies, so changing them can't throw off the totals
+  @Test
+  public void testRowScoresAreCopies() {
+    SanguineModel model = new BasicSanguine();
+    File file = new File("docs" + File.separator + "35CardDeck1");
+    model.startGame(5, 7, 5, false, file, file);
+    Move move = model.legalMoves().getFirst();
+    model.playCard(move.card(), move.row(), move.col());
+    int[] score = model.getScore();
+
+    model.getRedRowScores()[move.row()] = 99;
+    model.getBlueRowScores()[move.row()] = 99;
+    assertEquals(move.card().value(), model.getRedRowScores()[move.row()]);
+    assertEquals(0, model.getBlueRowScores()[move.row()]);
+    assertArrayEquals(score, model.getScore());
+  }
 }
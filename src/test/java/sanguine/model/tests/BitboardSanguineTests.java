@@ -0,0 +1,121 @@
+package sanguine.model.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.List;
+import org.junit.Test;
+import sanguine.model.BasicSanguine;
+import sanguine.model.BitboardSanguine;
+import sanguine.model.Card;
+import sanguine.model.SanguineModel;
+import sanguine.model.enums.Pawn;
+import sanguine.strategy.PlayFirstPossibleCardOrPass;
+import sanguine.strategy.PlayHighestValuePossibleCardOrPass;
+import sanguine.strategy.SanguineStrategy;
+
+/**
+ * Responsible for testing BitboardSanguine.
+ * Every test checks that BitboardSanguine ends up in the same state as BasicSanguine.
+ */
+public class BitboardSanguineTests {
+  String path15 = "docs" + File.separator + "15CardDeck1";
+  String path20 = "docs" + File.separator + "20CardDeck1";
+  String path35 = "docs" + File.separator + "35CardDeck1";
+
+  // Tests the initial board is the same as BasicSanguine's initial board
+  @Test
+  public void testInitialBoard() {
+    SanguineModel model = new BitboardSanguine();
+    File file = new File(path15);
+
+    assertThrows(IllegalStateException.class, () -> model.getCell(0, 0));
+    model.startGame(3, 5, 3, false, file, file);
+
+    assertEquals(List.of(Pawn.RED), model.getCell(1, 0).getContents());
+    assertEquals(null, model.getCell(1, 2).getContents());
+    assertEquals(List.of(Pawn.BLUE), model.getCell(1, 4).getContents());
+    assertEquals(15, model.getBoardSize());
+    assertThrows(IllegalArgumentException.class, () -> model.getCell(3, 0));
+    assertThrows(IllegalArgumentException.class, () -> model.getCell(0, 5));
+  }
+
+  // Tests invalid plays throw the same exceptions as BasicSanguine
+  @Test
+  public void testInvalidPlayCard() {
+    SanguineModel model = new BitboardSanguine();
+    File file = new File(path15);
+
+    String[] influenceGrid = {"XXXXX", "XXXXX", "XXCXX", "XXIXX", "XXXXX"};
+    Card card = Card.builder().name("Test").cost(1).value(1).influenceGrid(influenceGrid).build();
+    final Card cardCost2 = Card.builder()
+        .name("Test").cost(2).value(1).influenceGrid(influenceGrid).build();
+
+    assertThrows(IllegalStateException.class, () -> model.playCard(card, 0, 0));
+    model.startGame(3, 3, 5, false, file, file);
+
+    assertThrows(IllegalArgumentException.class, () -> model.playCard(null, 0, 0));
+    assertThrows(IllegalArgumentException.class, () -> model.playCard(card, -1, 0));
+    assertThrows(IllegalArgumentException.class, () -> model.playCard(card, 0, 3));
+    assertThrows(IllegalStateException.class, () -> model.playCard(card, 0, 1));
+    assertThrows(IllegalStateException.class, () -> model.playCard(cardCost2, 0, 0));
+    assertThrows(IllegalStateException.class, () -> model.playCard(card, 0, 2));
+    model.playCard(card, 0, 0);
+    model.passTurn();
+    assertThrows(IllegalStateException.class, () -> model.playCard(card, 0, 0));
+  }
+
+  // Tests full games between two bots leave both models in the same state after every turn
+  @Test
+  public void testFullGamesMatchBasicSanguine() {
+    playSideBySide(3, 5, 3, path15, new PlayFirstPossibleCardOrPass());
+    playSideBySide(3, 5, 5, path15, new PlayHighestValuePossibleCardOrPass());
+    playSideBySide(4, 5, 4, path20, new PlayHighestValuePossibleCardOrPass());
+    playSideBySide(5, 7, 5, path35, new PlayFirstPossibleCardOrPass());
+    playSideBySide(5, 7, 5, path35, new PlayHighestValuePossibleCardOrPass());
+  }
+
+  // Plays the same bot on both models, comparing them after every turn
+  private void playSideBySide(int numRows, int numCols, int handSize, String path,
+                              SanguineStrategy strategy) {
+    File file = new File(path);
+    SanguineModel basic = new BasicSanguine();
+    SanguineModel bitboard = new BitboardSanguine();
+    basic.startGame(numRows, numCols, handSize, false, file, file);
+    bitboard.startGame(numRows, numCols, handSize, false, file, file);
+
+    int turns = 0;
+    while (!basic.isGameOver()) {
+      strategy.playTurn(basic);
+      strategy.playTurn(bitboard);
+      assertSameState(basic, bitboard);
+      turns++;
+    }
+    assertTrue(bitboard.isGameOver());
+    assertTrue(turns > 2);
+  }
+
+  // Asserts every observable part of both models is the same
+  private void assertSameState(SanguineModel expected, SanguineModel actual) {
+    assertEquals(expected.getCurrentPlayer(), actual.getCurrentPlayer());
+    assertEquals(expected.isGameOver(), actual.isGameOver());
+    assertEquals(expected.getRedHand(), actual.getRedHand());
+    assertEquals(expected.getBlueHand(), actual.getBlueHand());
+    assertEquals(expected.getRedDeck(), actual.getRedDeck());
+    assertEquals(expected.getBlueDeck(), actual.getBlueDeck());
+    assertArrayEquals(expected.getRedRowScores(), actual.getRedRowScores());
+    assertArrayEquals(expected.getBlueRowScores(), actual.getBlueRowScores());
+    assertArrayEquals(expected.getScore(), actual.getScore());
+
+    for (int row = 0; row < expected.getBoard().length; row++) {
+      for (int col = 0; col < expected.getBoard()[0].length; col++) {
+        assertEquals(expected.getCell(row, col).toString(), actual.getCell(row, col).toString());
+        assertEquals(expected.getCell(row, col).getContents(),
+            actual.getCell(row, col).getContents());
+      }
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package sanguine.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import sanguine.model.BasicSanguine;
+import sanguine.model.BitboardSanguine;
+import sanguine.model.BoardView;
+import sanguine.model.Card;
+import sanguine.model.Cell;
+import sanguine.model.Move;
+import sanguine.model.SanguineModel;
+import sanguine.model.enums.CellKind;
+import sanguine.model.enums.Player;
+
+/**
+ * Responsible for testing the BoardView handed out by getBoardView() in both models, and that
+ * getBoard() & getCell() now hand out copies.
+ */
+public class BoardViewTests {
+  private final File file = new File("docs" + File.separator + "35CardDeck1");
+
+  // Checks the view shows exactly what a snapshot of the board holds
+  private static void assertViewMatches(Cell[][] expected, BoardView view) {
+    assertEquals(expected.length, view.numRows());
+    assertEquals(expected[0].length, view.numCols());
+    for (int row = 0; row < view.numRows(); row++) {
+      for (int col = 0; col < view.numCols(); col++) {
+        Cell cell = expected[row][col];
+        assertEquals(cell.kind(), view.kind(row, col));
+        assertEquals(cell.pawnCount(), view.pawnCount(row, col));
+        assertEquals(cell.owner(), view.owner(row, col));
+        assertSame(cell.cardOrNull(), view.cardOrNull(row, col));
+      }
+    }
+  }
+
+  // Tests the view follows the game move by move (and through undos) in both models
+  @Test
+  public void testViewIsLive() {
+    for (SanguineModel model : List.of(new BasicSanguine(), new BitboardSanguine())) {
+      assertThrows(IllegalStateException.class, model::getBoardView);
+      model.startGame(5, 7, 5, false, file, file);
+      BoardView view = model.getBoardView();
+      assertSame(view, model.getBoardView());
+
+      assertEquals(CellKind.PAWNS, view.kind(0, 0));
+      assertEquals(Player.RED, view.owner(0, 0));
+      assertEquals(Player.BLUE, view.owner(4, 6));
+      assertEquals(CellKind.EMPTY, view.kind(2, 3));
+      assertNull(view.owner(2, 3));
+
+      List<Cell[][]> history = new ArrayList<>();
+      for (int turn = 0; turn < 12 && !model.isGameOver(); turn++) {
+        history.add(model.getBoard());
+        List<Move> legal = model.legalMoves();
+        model.applyMove(legal.isEmpty() ? Move.pass() : legal.get(turn % legal.size()));
+        assertViewMatches(model.getBoard(), view);
+      }
+      for (int turn = history.size() - 1; turn >= 0; turn--) {
+        model.undoMove();
+        assertViewMatches(history.get(turn), view);
+      }
+    }
+  }
+
+  // Tests a placed card shows up with its owner, and cells off the board are rejected
+  @Test
+  public void testCardsAndBounds() {
+    for (SanguineModel model : List.of(new BasicSanguine(), new BitboardSanguine())) {
+      model.startGame(3, 5, 5, false, file, file);
+      BoardView view = model.getBoardView();
+      Card card = model.getRedHand().getFirst();
+      model.playCard(card, 1, 0);
+
+      assertEquals(CellKind.CARD, view.kind(1, 0));
+      assertEquals(0, view.pawnCount(1, 0));
+      assertEquals(Player.RED, view.owner(1, 0));
+      assertSame(card, view.cardOrNull(1, 0));
+      assertThrows(IllegalArgumentException.class, () -> view.kind(3, 0));
+      assertThrows(IllegalArgumentException.class, () -> view.pawnCount(0, 5));
+      assertThrows(IllegalArgumentException.class, () -> view.owner(-1, 0));
+      assertThrows(IllegalArgumentException.class, () -> view.cardOrNull(0, -1));
+    }
+  }
+
+  // Tests snapshots, getBoard() and getCell() are copies that don't change with the game
+  @Test
+  public void testCopiesAreIndependent() {
+    for (SanguineModel model : List.of(new BasicSanguine(), new BitboardSanguine())) {
+      model.startGame(3, 5, 5, false, file, file);
+      Cell[][] snapshot = model.getBoardView().snapshot();
+      Cell[][] board = model.getBoard();
+      Cell cell = model.getCell(1, 0);
+
+      board[0][0].removeAllPawns();
+      cell.removeAllPawns();
+      assertEquals(1, model.getBoardView().pawnCount(0, 0));
+      assertEquals(1, model.getBoardView().pawnCount(1, 0));
+
+      model.playCard(model.getRedHand().getFirst(), 1, 0);
+      assertEquals(CellKind.PAWNS, snapshot[1][0].kind());
+      assertEquals(CellKind.CARD, model.getBoardView().kind(1, 0));
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package sanguine.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.io.File;
+import java.util.List;
+import org.junit.Test;
+import sanguine.controller.deck.reader.DeckCache;
+import sanguine.model.Card;
+import sanguine.model.CardRegistry;
+
+/**
+ * This test class is responsible for testing CardRegistry, and the Card behaviour it relies on.
+ */
+public class CardRegistryTests {
+
+  // Builds a Card with the given name and influence grid
+  private Card card(String name, String... influenceGrid) {
+    return Card.builder().name(name).cost(1).value(2).influenceGrid(influenceGrid).build();
+  }
+
+  // Tests equal Cards intern to one instance with one ID, and different Cards do not
+  @Test
+  public void testIntern() {
+    CardRegistry registry = new CardRegistry();
+    Card first = card("Bee", "XXXXX", "XXIXX", "XICXX", "XXXXX", "XXXXX");
+    Card second = card("Bee", "XXXXX", "XXIXX", "XICXX", "XXXXX", "XXXXX");
+    Card other = card("Wasp", "XXXXX", "XXIXX", "XICXX", "XXXXX", "XXXXX");
+    assertNotSame(first, second);
+
+    assertSame(first, registry.intern(first));
+    assertSame(first, registry.intern(second));
+    assertEquals(registry.id(first), registry.id(second));
+    assertNotEquals(registry.id(first), registry.id(other));
+    assertSame(other, registry.card(registry.id(other)));
+  }
+
+  // Tests IDs are dense, and a Card's mirror is registered with it
+  @Test
+  public void testDenseIdsAndMirrors() {
+    CardRegistry registry = new CardRegistry();
+    Card bee = card("Bee", "XXXXX", "XXIXX", "XICXX", "XXXXX", "XXXXX");
+    Card rebuiltMirror = card("Bee", "XXXXX", "XXIXX", "XXCIX", "XXXXX", "XXXXX");
+
+    assertEquals(0, registry.id(bee));
+    assertEquals(2, registry.size());
+    assertSame(bee.mirrored(), registry.intern(rebuiltMirror));
+    assertEquals(1, registry.id(rebuiltMirror));
+
+    // A Card whose grid is the same either way is its own mirror, and only takes one ID
+    Card cross = card("Cross", "XXXXX", "XXIXX", "XICIX", "XXIXX", "XXXXX");
+    assertSame(cross, cross.mirrored());
+    assertEquals(2, registry.id(cross));
+    assertEquals(3, registry.size());
+
+    for (int id = 0; id < registry.size(); id++) {
+      assertEquals(id, registry.id(registry.card(id)));
+    }
+  }
+
+  // Tests lists can be interned, and invalid arguments are rejected
+  @Test
+  public void testInternAllAndInvalid() {
+    CardRegistry registry = new CardRegistry();
+    Card bee = card("Bee", "XXXXX", "XXIXX", "XICXX", "XXXXX", "XXXXX");
+    List<Card> interned = registry.internAll(
+        List.of(bee, card("Bee", "XXXXX", "XXIXX", "XICXX", "XXXXX", "XXXXX")));
+    assertSame(interned.get(0), interned.get(1));
+
+    assertThrows(IllegalArgumentException.class, () -> registry.intern(null));
+    assertThrows(IllegalArgumentException.class, () -> registry.internAll(null));
+    assertThrows(IllegalArgumentException.class, () -> registry.card(5));
+    assertThrows(IllegalArgumentException.class, () -> registry.card(-1));
+  }
+
+  // Tests the hash of a Card stays consistent with equals
+  @Test
+  public void testHashCode() {
+    Card bee = card("Bee", "XXXXX", "XXIXX", "XICXX", "XXXXX", "XXXXX");
+    Card same = card("Bee", "XXXXX", "XXIXX", "XICXX", "XXXXX", "XXXXX");
+    assertEquals(bee, same);
+    assertEquals(bee.hashCode(), same.hashCode());
+    assertEquals(bee.mirrored().mirrored().hashCode(), bee.hashCode());
+    assertNotEquals(bee, bee.mirrored());
+  }
+
+  // Tests decks from DeckCache hold the shared canonical Cards, in both orientations
+  @Test
+  public void testDecksAreInterned() {
+    File deckFile = new File("docs" + File.separator + "35CardDeck1");
+    DeckCache cache = new DeckCache(4);
+    List<Card> deck = cache.deck(deckFile);
+    List<Card> mirrored = cache.mirroredDeck(deckFile);
+    for (int index = 0; index < deck.size(); index++) {
+      assertSame(CardRegistry.shared().intern(deck.get(index)), deck.get(index));
+      assertSame(CardRegistry.shared().intern(mirrored.get(index)), mirrored.get(index));
+    }
+  }
+}
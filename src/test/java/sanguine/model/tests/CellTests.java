@@ -1,14 +1,20 @@
 package sanguine.model.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 
 import java.io.File;
 import java.util.List;
 import org.junit.Test;
 import sanguine.model.BasicSanguine;
+import sanguine.model.Card;
+import sanguine.model.Cell;
 import sanguine.model.SanguineModel;
+import sanguine.model.enums.CellKind;
 import sanguine.model.enums.Pawn;
+import sanguine.model.enums.Player;
 
 
 /**
@@ -64,4 +70,56 @@ public class CellTests {
     assertThrows(IllegalArgumentException.class, () -> model.getCell(2, 5).getContents());
     assertThrows(IllegalArgumentException.class, () -> model.getCell(2, -1).getContents());
   }
+
+  // Tests kind, pawnCount, owner & cardOrNull match the contents through a whole Cell's life
+  @Test
+  public void testPrimitiveAccessors() {
+    Cell cell = new Cell();
+    assertEquals(CellKind.EMPTY, cell.kind());
+    assertEquals(0, cell.pawnCount());
+    assertNull(cell.owner());
+    assertNull(cell.cardOrNull());
+
+    cell.addPawn(Player.BLUE);
+    cell.addPawn(Player.BLUE);
+    assertEquals(CellKind.PAWNS, cell.kind());
+    assertEquals(2, cell.pawnCount());
+    assertEquals(Player.BLUE, cell.owner());
+    assertEquals(List.of(Pawn.BLUE, Pawn.BLUE), cell.getContents());
+    assertNull(cell.cardOrNull());
+    assertThrows(IllegalArgumentException.class, () -> cell.addPawn(null));
+
+    Card card = Card.builder().name("Test").cost(1).value(3)
+            .influenceGrid(new String[]{"XXXXX", "XXIXX", "XICIX", "XXIXX", "XXXXX"}).build();
+    cell.removeAllPawns();
+    cell.addCard(card, Player.RED);
+    assertEquals(CellKind.CARD, cell.kind());
+    assertEquals(0, cell.pawnCount());
+    assertEquals(Player.RED, cell.owner());
+    assertSame(card, cell.cardOrNull());
+    assertSame(card, cell.getContents());
+  }
+
+  // Tests taking over a cell of Pawns changes their owner but keeps their amount
+  @Test
+  public void testAccessorsAfterTakeover() {
+    SanguineModel model = new BasicSanguine();
+    File file = new File("docs" + File.separator + "15CardDeck1");
+    model.startGame(3, 5, 5, false, file, file);
+    Card card = model.getRedHand().getFirst();
+    model.playCard(card, 1, 0);
+
+    assertEquals(CellKind.CARD, model.getCell(1, 0).kind());
+    assertSame(card, model.getCell(1, 0).cardOrNull());
+    assertEquals(Player.RED, model.getCell(1, 0).owner());
+    for (int row = 0; row < 3; row++) {
+      for (int col = 0; col < 5; col++) {
+        Cell cell = model.getCell(row, col);
+        if (cell.kind() == CellKind.PAWNS) {
+          assertEquals(cell.getPawnCount(), cell.pawnCount());
+          assertEquals(cell.getPawnColor(), cell.owner().getColor());
+        }
+      }
+    }
+  }
 }
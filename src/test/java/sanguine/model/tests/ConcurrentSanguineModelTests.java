@@ -0,0 +1,168 @@
+package sanguine.model.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import sanguine.model.BasicSanguine;
+import sanguine.model.BitboardSanguine;
+import sanguine.model.Cell;
+import sanguine.model.ConcurrentSanguineModel;
+import sanguine.model.Move;
+import sanguine.model.ReadOnlySanguineModel;
+import sanguine.model.SanguineModel;
+import sanguine.model.enums.Player;
+import sanguine.strategy.PlayHighestValuePossibleCardOrPass;
+
+/**
+ * This test class is responsible for testing ConcurrentSanguineModel, the thread-safe wrapper of
+ * a SanguineModel.
+ */
+public class ConcurrentSanguineModelTests {
+  private final File file = new File("docs" + File.separator + "35CardDeck1");
+
+  // Tests the wrapper plays a game exactly like the model it wraps, and tells its listeners
+  @Test
+  public void testSameGameAsWrappedModel() {
+    SanguineModel plain = new BasicSanguine();
+    ConcurrentSanguineModel wrapped = new ConcurrentSanguineModel(new BasicSanguine());
+    AtomicInteger turns = new AtomicInteger();
+    AtomicInteger rowChanges = new AtomicInteger();
+    wrapped.addTurnListener(turns::incrementAndGet);
+    wrapped.addRowScoreListener((row, red, blue) -> {
+      // Listeners already see the change
+      assertEquals(red, wrapped.getRedRowScores()[row]);
+      rowChanges.incrementAndGet();
+    });
+
+    assertFalse(wrapped.isGameStarted());
+    assertThrows(IllegalStateException.class, wrapped::getBoard);
+    assertThrows(IllegalStateException.class, wrapped::getCurrentPlayer);
+
+    plain.startGame(5, 7, 5, false, file, file);
+    wrapped.startGame(5, 7, 5, false, file, file);
+    PlayHighestValuePossibleCardOrPass strategy = new PlayHighestValuePossibleCardOrPass();
+    int played = 0;
+    while (!plain.isGameOver()) {
+      strategy.playTurn(plain);
+      strategy.playTurn(wrapped);
+      played++;
+      assertEquals(plain.getCurrentPlayer(), wrapped.getCurrentPlayer());
+      assertEquals(plain.getRedHand(), wrapped.getRedHand());
+      assertEquals(plain.getBlueDeck(), wrapped.getBlueDeck());
+      assertArrayEquals(plain.getScore(), wrapped.getScore());
+      assertEquals(plain.zobristHash(), wrapped.zobristHash());
+      assertEquals(plain.legalMoves(), wrapped.legalMoves());
+    }
+    assertTrue(wrapped.isGameOver());
+    assertEquals(played + 1, turns.get()); // starting the game is a turn too
+    assertTrue(rowChanges.get() > 0);
+  }
+
+  // Tests snapshots never change, and what readers get can't change the game
+  @Test
+  public void testSnapshotsAreImmutable() {
+    ConcurrentSanguineModel model = new ConcurrentSanguineModel(new BasicSanguine());
+    model.startGame(5, 7, 5, false, file, file);
+    ReadOnlySanguineModel before = model.snapshot();
+    String cellBefore = before.getCell(0, 0).toString();
+
+    Move move = model.legalMoves().getFirst();
+    model.applyMove(move);
+    assertEquals(cellBefore, before.getCell(0, 0).toString());
+    assertEquals(Player.RED, before.getCurrentPlayer());
+    assertEquals(Player.BLUE, model.getCurrentPlayer());
+
+    // Changing what was read does not change the game
+    String cell = model.getCell(2, 0).toString();
+    Cell[][] board = model.getBoard();
+    board[2][0].removeAllPawns();
+    model.getCell(2, 0).removeAllPawns();
+    model.getRedRowScores()[0] = 99;
+    assertEquals(cell, model.getCell(2, 0).toString());
+    assertNotSame(model.getBoard(), model.getBoard());
+    assertEquals(0, model.getBlueRowScores()[0]);
+
+    model.undoMove();
+    assertEquals(Player.RED, model.getCurrentPlayer());
+    SanguineModel copy = model.copy();
+    copy.applyMove(move);
+    assertEquals(Player.RED, model.getCurrentPlayer());
+  }
+
+  // Tests readers on other threads always see whole positions while a writer keeps moving
+  @Test
+  public void testNoTornReads() throws Exception {
+    ConcurrentSanguineModel model = new ConcurrentSanguineModel(new BitboardSanguine());
+    model.startGame(5, 7, 5, false, file, file);
+    int totalCards = model.getRedHand().size() + model.getRedDeck().size()
+        + model.getBlueHand().size() + model.getBlueDeck().size();
+
+    AtomicBoolean running = new AtomicBoolean(true);
+    AtomicReference<String> failure = new AtomicReference<>();
+    AtomicInteger reads = new AtomicInteger();
+    List<Thread> readers = new ArrayList<>();
+    for (int reader = 0; reader < 2; reader++) {
+      Thread thread = new Thread(() -> {
+        while (running.get() && failure.get() == null) {
+          ReadOnlySanguineModel position = model.snapshot();
+          int cardsLeft = position.getRedHand().size() + position.getRedDeck().size()
+              + position.getBlueHand().size() + position.getBlueDeck().size();
+          int cardsPlaced = 0;
+          for (Cell[] row : position.getBoard()) {
+            for (Cell cell : row) {
+              cardsPlaced += cell.toString().startsWith("Card") ? 1 : 0;
+            }
+          }
+          if (cardsLeft + cardsPlaced != totalCards) {
+            failure.set(cardsLeft + " cards left, but " + cardsPlaced + " placed");
+          }
+          reads.incrementAndGet();
+        }
+      });
+      readers.add(thread);
+      thread.start();
+    }
+
+    // Plays random moves, taking some back, until the readers have done plenty of reads
+    Random random = new Random(7);
+    int applied = 0;
+    int moves = 0;
+    long waitUntil = System.currentTimeMillis() + 5000;
+    while ((reads.get() < 2000 || moves < 200) && System.currentTimeMillis() < waitUntil) {
+      if (model.isGameOver() || (applied > 0 && random.nextInt(3) == 0)) {
+        model.undoMove();
+        applied--;
+        continue;
+      }
+      List<Move> legalMoves = model.legalMoves();
+      model.applyMove(legalMoves.isEmpty() ? Move.pass()
+          : legalMoves.get(random.nextInt(legalMoves.size())));
+      applied++;
+      moves++;
+    }
+    running.set(false);
+    for (Thread thread : readers) {
+      thread.join();
+    }
+    assertEquals(null, failure.get());
+    assertTrue(reads.get() > 0);
+  }
+
+  // Tests a null model is rejected
+  @Test
+  public void testNullModel() {
+    assertThrows(IllegalArgumentException.class, () -> new ConcurrentSanguineModel(null));
+  }
+}
@@ -0,0 +1,167 @@
+package sanguine.model.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import sanguine.model.BasicSanguine;
+import sanguine.model.BitboardSanguine;
+import sanguine.model.Card;
+import sanguine.model.ConcurrentSanguineModel;
+import sanguine.model.GameState;
+import sanguine.model.Move;
+import sanguine.model.SanguineModel;
+import sanguine.model.enums.Player;
+
+/**
+ * Responsible for testing GameState, the immutable position of a game.
+ * Playing on a GameState must give exactly the same positions as playing on the models.
+ */
+public class GameStateTests {
+  String path = "docs" + File.separator + "35CardDeck1";
+
+  // Starts a game on the given model
+  private SanguineModel start(SanguineModel model) {
+    File file = new File(path);
+    model.startGame(5, 7, 5, false, file, file);
+    return model;
+  }
+
+  // Tests playing a whole game on a GameState gives the same positions as playing on a model
+  @Test
+  public void testPlayMatchesModel() {
+    SanguineModel model = start(new BitboardSanguine());
+    GameState state = GameState.of(model);
+    int turn = 0;
+    while (!model.isGameOver()) {
+      List<Move> moves = model.legalMoves();
+      assertEquals(moves, state.legalMoves());
+      // Mostly plays, with a pass every so often so passes are checked too
+      Move move = (moves.isEmpty() || turn % 5 == 4)
+          ? Move.pass() : moves.get((turn * 7) % moves.size());
+      model.applyMove(move);
+      state = state.play(move);
+      turn++;
+
+      assertEquals(GameState.of(model), state);
+      assertArrayEquals(model.getScore(), state.score());
+      for (int row = 0; row < state.numRows(); row++) {
+        assertEquals(model.getRedRowScores()[row], state.board().get(row).redScore());
+        assertEquals(model.getBlueRowScores()[row], state.board().get(row).blueScore());
+      }
+    }
+    assertTrue(turn > 10);
+    assertTrue(state.isGameOver());
+  }
+
+  // Tests the same position has the same GameState whichever model it was taken from
+  @Test
+  public void testSamePositionFromEveryModel() {
+    SanguineModel basic = start(new BasicSanguine());
+    SanguineModel bitboard = start(new BitboardSanguine());
+    SanguineModel concurrent = start(new ConcurrentSanguineModel(new BasicSanguine()));
+    for (SanguineModel model : List.of(basic, bitboard, concurrent)) {
+      model.applyMove(model.legalMoves().getFirst());
+      model.passTurn();
+    }
+
+    assertEquals(GameState.of(basic), GameState.of(bitboard));
+    assertEquals(GameState.of(basic), GameState.of(concurrent));
+    assertEquals(GameState.of(basic).hashCode(), GameState.of(bitboard).hashCode());
+    assertTrue(GameState.of(basic).bluePassed());
+    assertFalse(GameState.of(basic).redPassed());
+  }
+
+  // Tests a move returns a new position, leaving the old one as it was
+  @Test
+  public void testPlayDoesNotChangeOldState() {
+    GameState before = GameState.of(start(new BasicSanguine()));
+    GameState copy = GameState.of(start(new BasicSanguine()));
+    String described = before.toString();
+
+    GameState after = before.play(before.legalMoves().getFirst()).pass();
+
+    assertNotEquals(before, after);
+    assertEquals(copy, before);
+    assertEquals(described, before.toString());
+    assertEquals(Player.RED, before.currentPlayer());
+    assertEquals(Player.RED, after.currentPlayer());
+  }
+
+  // Tests placing a card only replaces the rows its influence reaches
+  @Test
+  public void testUnchangedRowsAreShared() {
+    GameState before = GameState.of(start(new BasicSanguine()));
+    Move move = before.legalMoves().getFirst();
+    GameState after = before.play(move);
+
+    assertEquals(0, move.row());
+    assertNotEquals(before.board().getFirst(), after.board().getFirst());
+    // A card's influence reaches at most 2 rows away
+    for (int row = 3; row < before.numRows(); row++) {
+      assertSame(before.board().get(row), after.board().get(row));
+    }
+    assertEquals(move.card(), after.board().getFirst().card(move.col()));
+    assertEquals(Player.RED, after.board().getFirst().cardOwner(move.col()));
+    assertEquals(before.blueDeck().subList(1, before.blueDeck().size()), after.blueDeck());
+  }
+
+  // Tests positions can be used as map keys, whichever way they were reached
+  @Test
+  public void testUsableAsMapKey() {
+    GameState start = GameState.of(start(new BitboardSanguine()));
+    Map<GameState, String> seen = new HashMap<>();
+    seen.put(start.pass().pass(), "both passed");
+
+    assertEquals("both passed", seen.get(start.pass().pass()));
+    assertFalse(seen.containsKey(start.pass()));
+    assertTrue(start.pass().pass().isGameOver());
+  }
+
+  // Tests a GameState can't be changed through its lists, or the lists it was built from
+  @Test
+  public void testImmutable() {
+    GameState state = GameState.of(start(new BasicSanguine()));
+    List<Card> hand = new ArrayList<>(state.redHand());
+    GameState built = new GameState(state.board(), hand, state.blueHand(), state.redDeck(),
+        state.blueDeck(), Player.RED, false, false);
+    hand.clear();
+
+    assertEquals(state, built);
+    assertThrows(UnsupportedOperationException.class, () -> state.redHand().clear());
+    assertThrows(UnsupportedOperationException.class, () -> state.board().remove(0));
+    assertThrows(UnsupportedOperationException.class, () -> state.blueDeck().add(null));
+  }
+
+  // Tests illegal moves & arguments are rejected the same way the models reject them
+  @Test
+  public void testInvalid() {
+    GameState state = GameState.of(start(new BasicSanguine()));
+    Card card = state.redHand().getFirst();
+
+    assertThrows(IllegalArgumentException.class, () -> state.play(null));
+    assertThrows(IllegalArgumentException.class, () -> state.play(Move.play(card, 5, 0)));
+    assertThrows(IllegalStateException.class, () -> state.play(Move.play(card, 0, 2)));
+    assertThrows(IllegalStateException.class, () -> state.play(Move.play(card, 0, 6)));
+    assertFalse(state.canPlay(null, 0, 0));
+    assertFalse(state.canPlay(card, -1, 0));
+    assertThrows(IllegalArgumentException.class, () -> GameState.of(null));
+    assertThrows(IllegalStateException.class, () -> GameState.of(new BasicSanguine()));
+    assertThrows(IllegalArgumentException.class, () -> new GameState(List.of(),
+        state.redHand(), state.blueHand(), state.redDeck(), state.blueDeck(), Player.RED,
+        false, false));
+    assertThrows(IllegalArgumentException.class, () -> new GameState(state.board(),
+        state.redHand(), state.blueHand(), state.redDeck(), state.blueDeck(), null,
+        false, false));
+  }
+}
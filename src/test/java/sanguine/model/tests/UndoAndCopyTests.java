@@ -0,0 +1,166 @@
+package sanguine.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import sanguine.model.BasicSanguine;
+import sanguine.model.BitboardSanguine;
+import sanguine.model.Card;
+import sanguine.model.Move;
+import sanguine.model.SanguineModel;
+import sanguine.model.enums.Player;
+
+/**
+ * Responsible for testing applyMove(), undoMove(), and copy() on both models.
+ * Undoing every applied move must bring the game back to exactly how it was.
+ */
+public class UndoAndCopyTests {
+  String path = "docs" + File.separator + "35CardDeck1";
+
+  // Tests applying a whole game of moves, then undoing them one by one, restores every state
+  @Test
+  public void testUndoRestoresEveryState() {
+    checkUndoRestoresEveryState(new BasicSanguine());
+    checkUndoRestoresEveryState(new BitboardSanguine());
+  }
+
+  // Applies moves until the game is over, then undoes them all, comparing each state on the way
+  private void checkUndoRestoresEveryState(SanguineModel model) {
+    File file = new File(path);
+    model.startGame(5, 7, 5, false, file, file);
+    assertThrows(IllegalStateException.class, () -> model.undoMove());
+
+    List<String> states = new ArrayList<>();
+    int turn = 0;
+    while (!model.isGameOver()) {
+      states.add(describe(model));
+      List<Move> moves = model.legalMoves();
+      // Mostly plays, with a pass every so often so passes get undone too
+      Move move = (moves.isEmpty() || turn % 5 == 4)
+          ? Move.pass() : moves.get((turn * 7) % moves.size());
+      model.applyMove(move);
+      turn++;
+    }
+    assertTrue(turn > 10);
+
+    for (int index = states.size() - 1; index >= 0; index--) {
+      model.undoMove();
+      assertEquals(states.get(index), describe(model));
+    }
+    assertThrows(IllegalStateException.class, () -> model.undoMove());
+  }
+
+  // Tests applyMove() rejects the same moves as playCard()
+  @Test
+  public void testApplyMoveInvalid() {
+    SanguineModel model = new BasicSanguine();
+    File file = new File(path);
+    Card card = Card.builder().name("Test").cost(1).value(1)
+        .influenceGrid(new String[]{"XXXXX", "XXXXX", "XXCXX", "XXXXX", "XXXXX"}).build();
+
+    assertThrows(IllegalStateException.class, () -> model.applyMove(Move.pass()));
+    model.startGame(3, 5, 3, false, file, file);
+
+    assertThrows(IllegalArgumentException.class, () -> model.applyMove(null));
+    assertThrows(IllegalArgumentException.class, () -> model.applyMove(Move.play(card, 3, 0)));
+    assertThrows(IllegalStateException.class, () -> model.applyMove(Move.play(card, 0, 2)));
+    assertThrows(IllegalStateException.class, () -> model.applyMove(Move.play(card, 0, 4)));
+    // Nothing was applied, so there is nothing to undo
+    assertThrows(IllegalStateException.class, () -> model.undoMove());
+  }
+
+  // Tests a copy can be played separately from the original game
+  @Test
+  public void testCopyIsIndependent() {
+    SanguineModel model = new BitboardSanguine();
+    File file = new File(path);
+    model.startGame(3, 5, 3, false, file, file);
+    model.playCard(model.getRedHand().getFirst(), 0, 0);
+
+    SanguineModel copy = model.copy();
+    assertEquals(describe(model), describe(copy));
+
+    copy.playCard(copy.getBlueHand().getFirst(), 0, 4);
+    copy.passTurn();
+    assertNotEquals(describe(model), describe(copy));
+    assertEquals(Player.BLUE, model.getCurrentPlayer());
+    assertEquals("BLUE PAWNx1", model.getCell(0, 4).toString());
+    assertFalse(model.isGameOver());
+
+    SanguineModel basic = new BasicSanguine();
+    basic.startGame(3, 5, 3, false, file, file);
+    SanguineModel basicCopy = basic.copy();
+    basicCopy.playCard(basicCopy.getRedHand().getFirst(), 1, 0);
+    assertEquals("RED PAWNx1", basic.getCell(1, 0).toString());
+    assertEquals("Card: Pikachu", basicCopy.getCell(1, 0).toString());
+  }
+
+  // Tests cards are drawn from the front of the deck, and played by equals() (not only the same
+  // instance), taking the first equal card out of the hand; undo puts both back where they were
+  @Test
+  public void testHandsAndDecksKeepTheirOrder() {
+    for (SanguineModel model : List.of(new BasicSanguine(), new BitboardSanguine())) {
+      model.startGame(3, 5, 3, false, new File(path), new File(path));
+      List<Card> redHand = model.getRedHand();
+      List<Card> redDeck = model.getRedDeck();
+      List<Card> blueDeck = model.getBlueDeck();
+      Card card = redHand.get(1);
+      Card equalCard = Card.builder().name(card.name()).cost(card.cost()).value(card.value())
+          .influenceGrid(card.influenceGrid()).build();
+
+      model.applyMove(Move.play(equalCard, 1, 0));
+      List<Card> expectedHand = new ArrayList<>(redHand);
+      expectedHand.remove(card);
+      assertEquals(expectedHand, model.getRedHand());
+      assertEquals(redDeck, model.getRedDeck());
+      assertEquals(blueDeck.getFirst(), model.getBlueHand().getLast());
+      assertEquals(blueDeck.subList(1, blueDeck.size()), model.getBlueDeck());
+
+      model.passTurn();
+      assertEquals(redDeck.getFirst(), model.getRedHand().getLast());
+      assertEquals(redDeck.subList(1, redDeck.size()), model.getRedDeck());
+
+      // The lists handed out are copies
+      model.getRedHand().clear();
+      model.getRedDeck().clear();
+      assertEquals(expectedHand.size() + 1, model.getRedHand().size());
+      assertEquals(redDeck.size() - 1, model.getRedDeck().size());
+    }
+    for (SanguineModel model : List.of(new BasicSanguine(), new BitboardSanguine())) {
+      model.startGame(3, 5, 3, false, new File(path), new File(path));
+      String start = describe(model);
+      Card card = model.getRedHand().get(1);
+      model.applyMove(Move.play(card, 1, 0));
+      model.applyMove(Move.pass());
+      model.undoMove();
+      model.undoMove();
+      assertEquals(start, describe(model));
+      assertEquals(card, model.getRedHand().get(1));
+    }
+  }
+
+  // Describes every observable part of a game as a String
+  private String describe(SanguineModel model) {
+    StringBuilder state = new StringBuilder();
+    state.append(model.getCurrentPlayer()).append(model.isGameOver())
+        .append(model.getRedHand()).append(model.getBlueHand())
+        .append(model.getRedDeck()).append(model.getBlueDeck())
+        .append(Arrays.toString(model.getRedRowScores()))
+        .append(Arrays.toString(model.getBlueRowScores()))
+        .append(Arrays.toString(model.getScore()));
+    for (int row = 0; row < model.getBoard().length; row++) {
+      for (int col = 0; col < model.getBoard()[0].length; col++) {
+        state.append(model.getCell(row, col));
+      }
+    }
+    return state.toString();
+  }
+}
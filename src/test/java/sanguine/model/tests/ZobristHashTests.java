@@ -0,0 +1,164 @@
+package sanguine.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import sanguine.model.BasicSanguine;
+import sanguine.model.BitboardSanguine;
+import sanguine.model.Card;
+import sanguine.model.Move;
+import sanguine.model.SanguineModel;
+
+/**
+ * Responsible for testing zobristHash() on both models.
+ * The hash must follow the game as moves are made and undone, and must be the same for games
+ * in the same state, no matter which model holds them or how they got there.
+ */
+public class ZobristHashTests {
+  String path = "docs" + File.separator + "35CardDeck1";
+
+  // Tests the hash cannot be read before the game starts
+  @Test
+  public void testHashBeforeStart() {
+    assertThrows(IllegalStateException.class, () -> new BasicSanguine().zobristHash());
+    assertThrows(IllegalStateException.class, () -> new BitboardSanguine().zobristHash());
+  }
+
+  // Tests both models give the same hash after every move of the same game, and the hash changes
+  @Test
+  public void testHashMatchesBetweenModels() {
+    SanguineModel basic = new BasicSanguine();
+    SanguineModel bitboard = new BitboardSanguine();
+    File file = new File(path);
+    basic.startGame(5, 7, 5, false, file, file);
+    bitboard.startGame(5, 7, 5, false, file, file);
+    assertEquals(basic.zobristHash(), bitboard.zobristHash());
+
+    int turn = 0;
+    while (!basic.isGameOver()) {
+      long before = basic.zobristHash();
+      List<Move> moves = basic.legalMoves();
+      Move move = moves.isEmpty() ? Move.pass() : moves.get((turn * 3) % moves.size());
+      basic.applyMove(move);
+      bitboard.applyMove(move);
+      assertNotEquals(before, basic.zobristHash());
+      assertEquals(basic.zobristHash(), bitboard.zobristHash());
+      turn++;
+    }
+  }
+
+  // Tests undoing moves brings back the hash from before them
+  @Test
+  public void testHashRestoredByUndo() {
+    SanguineModel model = new BitboardSanguine();
+    File file = new File(path);
+    model.startGame(5, 7, 5, false, file, file);
+
+    List<Long> hashes = new ArrayList<>();
+    for (int turn = 0; turn < 12 && !model.isGameOver(); turn++) {
+      hashes.add(model.zobristHash());
+      List<Move> moves = model.legalMoves();
+      model.applyMove((moves.isEmpty() || turn % 4 == 3) ? Move.pass() : moves.getLast());
+    }
+    for (int index = hashes.size() - 1; index >= 0; index--) {
+      model.undoMove();
+      assertEquals(hashes.get(index).longValue(), model.zobristHash());
+    }
+  }
+
+  // Tests a copy has the same hash as the game it was copied from
+  @Test
+  public void testHashOfCopy() {
+    SanguineModel model = new BasicSanguine();
+    File file = new File(path);
+    model.startGame(3, 5, 3, false, file, file);
+    model.playCard(model.getRedHand().getFirst(), 0, 0);
+
+    SanguineModel copy = model.copy();
+    assertEquals(model.zobristHash(), copy.zobristHash());
+    copy.passTurn();
+    assertNotEquals(model.zobristHash(), copy.zobristHash());
+  }
+
+  // Tests the same two cards played in a different order give the same hash (a transposition)
+  @Test
+  public void testTranspositionsHashTheSame() {
+    SanguineModel firstOrder = new BasicSanguine();
+    SanguineModel secondOrder = new BasicSanguine();
+    File file = new File(path);
+    firstOrder.startGame(5, 7, 5, false, file, file);
+    secondOrder.startGame(5, 7, 5, false, file, file);
+
+    // Finds two different cards Red can play on the top & bottom rows
+    Card top = null;
+    Card bottom = null;
+    for (Card card : firstOrder.getRedHand()) {
+      if (top == null && firstOrder.canPlay(card, 0, 0)) {
+        top = card;
+      } else if (bottom == null && !card.equals(top) && firstOrder.canPlay(card, 4, 0)) {
+        bottom = card;
+      }
+    }
+    assertNotNull(top);
+    assertNotNull(bottom);
+
+    firstOrder.applyMove(Move.play(top, 0, 0));
+    firstOrder.applyMove(Move.pass());
+    firstOrder.applyMove(Move.play(bottom, 4, 0));
+
+    secondOrder.applyMove(Move.play(bottom, 4, 0));
+    secondOrder.applyMove(Move.pass());
+    secondOrder.applyMove(Move.play(top, 0, 0));
+
+    assertEquals(firstOrder.zobristHash(), secondOrder.zobristHash());
+  }
+
+  // Tests games with the same board but different hands, or decks in a different order, hash
+  // differently (so a search can't reuse results from a game dealt other cards)
+  @Test
+  public void testHandsAndDecksChangeTheHash() {
+    SanguineModel dealt = new BitboardSanguine();
+    File file = new File(path);
+    dealt.startGame(5, 7, 5, false, file, file);
+    List<Card> red = new ArrayList<>(dealt.getRedHand());
+    red.addAll(dealt.getRedDeck());
+    int deckStart = dealt.getRedHand().size(); // Red has already drawn for their first turn
+    List<Card> blue = new ArrayList<>(dealt.getBlueHand());
+    blue.addAll(dealt.getBlueDeck());
+
+    SanguineModel same = new BasicSanguine();
+    same.startGame(5, 7, 5, red, blue);
+    assertEquals(dealt.zobristHash(), same.zobristHash());
+
+    // Swaps the first card of the hand with the first card of the deck unlike it
+    List<Card> otherHand = new ArrayList<>(red);
+    int swap = deckStart;
+    while (otherHand.get(swap).equals(otherHand.getFirst())) {
+      swap++;
+    }
+    otherHand.set(swap, red.getFirst());
+    otherHand.set(0, red.get(swap));
+    SanguineModel swappedHand = new BasicSanguine();
+    swappedHand.startGame(5, 7, 5, otherHand, blue);
+    assertNotEquals(dealt.zobristHash(), swappedHand.zobristHash());
+
+    // Swaps the first two unlike cards of the deck, leaving the hand alone
+    List<Card> otherDeck = new ArrayList<>(red);
+    int later = deckStart + 1;
+    while (red.get(later).equals(red.get(deckStart))) {
+      later++;
+    }
+    otherDeck.set(later, red.get(deckStart));
+    otherDeck.set(deckStart, red.get(later));
+    SanguineModel swappedDeck = new BasicSanguine();
+    swappedDeck.startGame(5, 7, 5, otherDeck, blue);
+    assertEquals(dealt.getRedHand(), swappedDeck.getRedHand());
+    assertNotEquals(dealt.zobristHash(), swappedDeck.zobristHash());
+  }
+}
@@ -1,13 +1,27 @@
 package sanguine.strategy.tests;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.junit.Test;
 import sanguine.controller.player.SanguinePlayer;
 import sanguine.controller.player.SanguinePlayerImpl;
+import sanguine.model.BasicSanguine;
+import sanguine.model.Card;
+import sanguine.model.Move;
 import sanguine.model.SanguineModel;
+import sanguine.model.enums.Player;
+import sanguine.strategy.AlphaBetaSearchWithTimeLimit;
+import sanguine.strategy.ParallelMonteCarloTreeSearch;
 import sanguine.strategy.PlayFirstPossibleCardOrPass;
 import sanguine.strategy.PlayHighestValuePossibleCardOrPass;
+import sanguine.strategy.SanguineStrategy;
 import sanguine.strategy.tests.strategy.mocks.ModelMockForStrategies;
 
 /**
@@ -15,6 +29,8 @@ import sanguine.strategy.tests.strategy.mocks.ModelMockForStrategies;
  * Currently implemented strategies:
  * - playHighestValuePossibleCardOrPass
  * - playFirstPossibleCardOrPass
+ * - alphaBetaSearchWithTimeLimit
+ * - parallelMonteCarloTreeSearch
  */
 public class StrategyTest {
 
@@ -64,4 +80,120 @@ public class StrategyTest {
     String expectedMessage = "Played card (Card 1, Value = 1, Cost = 1) on cell [0, 0]";
     assertEquals(expectedMessage, log.toString());
   }
+
+  // Tests the search takes the only move that wins a row instead of a move that loses it
+  @Test
+  public void testAlphaBetaSearchPicksBestMove() {
+    SanguineModel model = new BasicSanguine();
+    File file = new File("docs" + File.separator + "15CardDeck1");
+    model.startGame(1, 3, 2, false, file, file);
+
+    // Red plays a card without influence, then Blue can either tie the row or pass and lose it
+    Card noInfluence = Card.builder().name("Test").cost(1).value(1)
+        .influenceGrid(new String[]{"XXXXX", "XXXXX", "XXCXX", "XXXXX", "XXXXX"}).build();
+    model.playCard(noInfluence, 0, 0);
+    new AlphaBetaSearchWithTimeLimit(200).playTurn(model);
+
+    assertEquals(Player.BLUE, model.getCell(0, 2).getCardOwner());
+    assertArrayEquals(new int[]{0, 0}, model.getScore());
+  }
+
+  // Tests a full game against another bot, where every turn stays within the time limit
+  @Test
+  public void testAlphaBetaSearchWithinTimeLimit() {
+    SanguineModel model = new BasicSanguine();
+    File file = new File("docs" + File.separator + "35CardDeck1");
+    model.startGame(5, 7, 5, false, file, file);
+
+    SanguineStrategy search = new AlphaBetaSearchWithTimeLimit(50);
+    SanguineStrategy greedy = new PlayFirstPossibleCardOrPass();
+
+    while (!model.isGameOver()) {
+      long start = System.nanoTime();
+      search.playTurn(model);
+      long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+      assertTrue("turn took " + elapsedMillis + "ms", elapsedMillis < 50 + 250);
+
+      if (!model.isGameOver()) {
+        greedy.playTurn(model);
+      }
+    }
+    assertTrue(model.getScore()[0] > model.getScore()[1]);
+  }
+
+  // Tests one instance can play both sides of two games at once, on two threads
+  @Test
+  public void testAlphaBetaSearchSharedBetweenGames() throws Exception {
+    SanguineStrategy search = new AlphaBetaSearchWithTimeLimit(20);
+    File file = new File("docs" + File.separator + "35CardDeck1");
+    List<SanguineModel> models = List.of(new BasicSanguine(), new BasicSanguine());
+    List<Throwable> failures = new CopyOnWriteArrayList<>();
+    List<Thread> threads = new ArrayList<>();
+    for (SanguineModel model : models) {
+      model.startGame(5, 7, 5, false, file, file);
+      threads.add(Thread.ofPlatform().start(() -> {
+        try {
+          while (!model.isGameOver()) {
+            List<Move> legal = model.legalMoves();
+            Move move = search.chooseMove(model);
+            assertTrue(move.isPass() || legal.contains(move));
+            model.applyMove(move);
+          }
+        } catch (Throwable e) {
+          failures.add(e);
+        }
+      }));
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(List.of(), failures);
+    for (SanguineModel model : models) {
+      assertTrue(model.isGameOver());
+    }
+  }
+
+  // Tests the tree search finds the only move that does not lose the game
+  @Test
+  public void testMonteCarloTreeSearchPicksBestMove() {
+    SanguineModel model = new BasicSanguine();
+    File file = new File("docs" + File.separator + "15CardDeck1");
+    model.startGame(1, 3, 2, false, file, file);
+
+    // Red plays a card without influence, then Blue can either tie the row or pass and lose it
+    Card noInfluence = Card.builder().name("Test").cost(1).value(1)
+        .influenceGrid(new String[]{"XXXXX", "XXXXX", "XXCXX", "XXXXX", "XXXXX"}).build();
+    model.playCard(noInfluence, 0, 0);
+    new ParallelMonteCarloTreeSearch(200, 2, new SplittableRandom(6)).playTurn(model);
+
+    assertEquals(Player.BLUE, model.getCell(0, 2).getCardOwner());
+    assertArrayEquals(new int[]{0, 0}, model.getScore());
+  }
+
+  // Tests a full game against another bot, where every turn stays within the time limit and
+  // every move chosen is legal (how well the search plays depends on the machine's speed)
+  @Test
+  public void testMonteCarloTreeSearchWithinTimeLimit() {
+    SanguineModel model = new BasicSanguine();
+    File file = new File("docs" + File.separator + "35CardDeck1");
+    model.startGame(5, 7, 5, false, file, file);
+
+    SanguineStrategy search = new ParallelMonteCarloTreeSearch(50,
+        Runtime.getRuntime().availableProcessors(), new SplittableRandom(6));
+    SanguineStrategy greedy = new PlayFirstPossibleCardOrPass();
+
+    while (!model.isGameOver()) {
+      List<Move> legal = model.legalMoves();
+      long start = System.nanoTime();
+      Move move = search.chooseMove(model);
+      long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+      assertTrue("turn took " + elapsedMillis + "ms", elapsedMillis < 50 + 250);
+      assertTrue(move.isPass() || legal.contains(move));
+      model.applyMove(move);
+
+      if (!model.isGameOver()) {
+        greedy.playTurn(model);
+      }
+    }
+  }
 }
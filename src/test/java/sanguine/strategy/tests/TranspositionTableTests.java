@@ -0,0 +1,105 @@
+package sanguine.strategy.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import sanguine.strategy.TranspositionTable;
+import sanguine.strategy.TranspositionTable.Bound;
+
+/**
+ * Responsible for testing the TranspositionTable shared by search strategies.
+ */
+public class TranspositionTableTests {
+
+  // Tests invalid capacities are rejected, and valid ones are rounded up to a power of two
+  @Test
+  public void testCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0));
+    assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(-4));
+    assertEquals(1024, new TranspositionTable(1000).capacity());
+    assertEquals(1024, new TranspositionTable(1024).capacity());
+  }
+
+  // Tests a stored result is read back exactly, and other positions are not found
+  @Test
+  public void testStoreAndProbe() {
+    TranspositionTable table = new TranspositionTable(64);
+    assertNull(table.probe(12345L));
+
+    table.store(12345L, 4, -17, Bound.LOWER, 3);
+    TranspositionTable.Entry entry = table.probe(12345L);
+    assertNotNull(entry);
+    assertEquals(-17, entry.score());
+    assertEquals(4, entry.depth());
+    assertEquals(Bound.LOWER, entry.bound());
+    assertEquals(3, entry.bestMove());
+
+    // Same slot, different position
+    assertNull(table.probe(12345L + 64));
+
+    table.store(99L, 0, Integer.MIN_VALUE + 1, Bound.EXACT, Long.MIN_VALUE);
+    assertEquals(Integer.MIN_VALUE + 1, table.probe(99L).score());
+    assertEquals(Long.MIN_VALUE, table.probe(99L).bestMove());
+
+    table.clear();
+    assertNull(table.probe(12345L));
+    assertNull(table.probe(99L));
+  }
+
+  // Tests a deeper result for the same position is kept, but other positions replace it
+  @Test
+  public void testReplacement() {
+    TranspositionTable table = new TranspositionTable(16);
+    table.store(7L, 5, 10, Bound.EXACT, 0);
+    table.store(7L, 2, 20, Bound.EXACT, 1);
+    assertEquals(10, table.probe(7L).score());
+
+    table.store(7L, 6, 30, Bound.UPPER, 2);
+    assertEquals(30, table.probe(7L).score());
+
+    table.store(7L + 16, 1, 40, Bound.EXACT, 0);
+    assertNull(table.probe(7L));
+    assertEquals(40, table.probe(7L + 16).score());
+  }
+
+  // Tests threads writing the same slots at once never read back a mix of two results
+  @Test
+  public void testConcurrentWritesAreNeverTorn() throws InterruptedException {
+    TranspositionTable table = new TranspositionTable(8);
+    List<Thread> threads = new ArrayList<>();
+    List<Throwable> failures = new ArrayList<>();
+
+    for (int thread = 0; thread < 4; thread++) {
+      final int id = thread;
+      threads.add(new Thread(() -> {
+        try {
+          for (int round = 0; round < 100_000; round++) {
+            long hash = (round % 32) * 31L + id;
+            table.store(hash, id, (int) hash, Bound.EXACT, id);
+            TranspositionTable.Entry entry = table.probe(hash);
+            // Whatever is found for a hash must be what was stored for that same hash
+            if (entry != null && (entry.score() != (int) hash || entry.bestMove() != id)) {
+              throw new AssertionError("Torn entry for " + hash);
+            }
+          }
+        } catch (Throwable e) {
+          synchronized (failures) {
+            failures.add(e);
+          }
+        }
+      }));
+    }
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(List.of(), failures);
+  }
+}
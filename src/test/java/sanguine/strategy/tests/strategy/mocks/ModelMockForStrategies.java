@@ -3,10 +3,15 @@ package sanguine.strategy.tests.strategy.mocks;
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
+import java.util.random.RandomGenerator;
+import sanguine.controller.RowScoreListener;
 import sanguine.controller.TurnListener;
+import sanguine.model.BoardView;
 import sanguine.model.Card;
 import sanguine.model.Cell;
+import sanguine.model.Move;
 import sanguine.model.SanguineModel;
+import sanguine.model.enums.CellKind;
 import sanguine.model.enums.Player;
 
 /**
@@ -31,6 +36,18 @@ public class ModelMockForStrategies implements SanguineModel {
           throws IllegalArgumentException, IllegalStateException {
   }
 
+  @Override
+  public void startGame(int numRows, int numCols, int handSize, RandomGenerator random,
+                        File redDeck, File blueDeck)
+          throws IllegalArgumentException, IllegalStateException {
+  }
+
+  @Override
+  public void startGame(int numRows, int numCols, int handSize, List<Card> redDeck,
+                        List<Card> blueDeck)
+          throws IllegalArgumentException, IllegalStateException {
+  }
+
   @Override
   public void playCard(Card card, int row, int col) throws IllegalStateException {
     try {
@@ -55,6 +72,11 @@ public class ModelMockForStrategies implements SanguineModel {
 
   }
 
+  @Override
+  public void addRowScoreListener(RowScoreListener rowScoreListener) {
+
+  }
+
   @Override
   public boolean isGameStarted() {
     return true;
@@ -117,6 +139,46 @@ public class ModelMockForStrategies implements SanguineModel {
     return board;
   }
 
+  @Override
+  public BoardView getBoardView() throws IllegalStateException {
+    return new BoardView() {
+      @Override
+      public int numRows() {
+        return 3;
+      }
+
+      @Override
+      public int numCols() {
+        return 5;
+      }
+
+      @Override
+      public CellKind kind(int row, int col) {
+        return CellKind.EMPTY;
+      }
+
+      @Override
+      public int pawnCount(int row, int col) {
+        return 0;
+      }
+
+      @Override
+      public Player owner(int row, int col) {
+        return null;
+      }
+
+      @Override
+      public Card cardOrNull(int row, int col) {
+        return null;
+      }
+
+      @Override
+      public Cell[][] snapshot() {
+        return getBoard();
+      }
+    };
+  }
+
   @Override
   public int getBoardSize() throws IllegalStateException {
     return 0;
@@ -141,4 +203,34 @@ public class ModelMockForStrategies implements SanguineModel {
   public int[] getBlueRowScores() throws IllegalStateException {
     return new int[0];
   }
+
+  @Override
+  public boolean canPlay(Card card, int row, int col) throws IllegalStateException {
+    return true;
+  }
+
+  @Override
+  public List<Move> legalMoves() throws IllegalStateException {
+    return List.of();
+  }
+
+  @Override
+  public long zobristHash() throws IllegalStateException {
+    return 0;
+  }
+
+  @Override
+  public void applyMove(Move move) throws IllegalArgumentException, IllegalStateException {
+
+  }
+
+  @Override
+  public void undoMove() throws IllegalStateException {
+
+  }
+
+  @Override
+  public SanguineModel copy() {
+    return this;
+  }
 }